@@ -0,0 +1,105 @@
+package io.github.lsmcodes.notes_api.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.lsmcodes.notes_api.filter.AuthenticationFilter;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.service.security.SecurityService;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * Measures a request going through {@link AuthenticationFilter} with a valid
+ * token, in both authentication modes. The user lookup is replaced by an
+ * in-memory {@link SecurityService} so only the filter and token handling are
+ * measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthenticationFilterBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean claimsOnly;
+
+    private AuthenticationFilter authenticationFilter;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    private final FilterChain filterChain = (request, response) -> {
+    };
+
+    /**
+     * Configures the filter and the authenticated request.
+     */
+    @Setup
+    public void setUp() {
+        User user = TokenBenchmark.newUser();
+
+        this.authenticationFilter = new AuthenticationFilter();
+        ReflectionTestUtils.setField(this.authenticationFilter, "tokenService", TokenBenchmark.newTokenService());
+        ReflectionTestUtils.setField(this.authenticationFilter, "securityService", new InMemorySecurityService(user));
+        ReflectionTestUtils.setField(this.authenticationFilter, "claimsOnly", this.claimsOnly);
+
+        this.request = new MockHttpServletRequest("GET", "/notes-api/notes");
+        this.request.addHeader("Authorization",
+                "Bearer " + TokenBenchmark.newTokenService().generateToken(user));
+        this.response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object filterAuthenticatedRequest() throws ServletException, IOException {
+        this.authenticationFilter.doFilter(this.request, this.response, this.filterChain);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    /**
+     * Implements a {@link SecurityService} that always resolves the same user.
+     */
+    private static class InMemorySecurityService implements SecurityService {
+
+        private final User user;
+
+        InMemorySecurityService(User user) {
+            this.user = user;
+        }
+
+        @Override
+        public UserDetails loadUserByUsername(String username) {
+            return this.user;
+        }
+
+        @Override
+        public String getCurrentAuthenticatedUser() {
+            return this.user.getUsername();
+        }
+
+        @Override
+        public UserDetails loadUserByClaims(Claims claims) throws AuthenticationException {
+            return this.user;
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package io.github.lsmcodes.notes_api.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteRequestDTO;
+import io.github.lsmcodes.notes_api.dto.model.note.NoteResponseDTO;
+import io.github.lsmcodes.notes_api.dto.model.user.UserResponseDTO;
+import io.github.lsmcodes.notes_api.enumeration.UserRole;
+import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.tag.Tag;
+import io.github.lsmcodes.notes_api.model.user.User;
+
+/**
+ * Measures the per-object cost of mapping entities to DTOs with the
+ * hand-written mappers, against a new {@link ModelMapper} per call as the
+ * mappers used to do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    private Note note;
+
+    private User user;
+
+    private NoteRequestDTO noteRequestDTO;
+
+    /**
+     * Creates the objects to be mapped.
+     */
+    @Setup
+    public void setUp() {
+        Set<Tag> tags = new LinkedHashSet<>(List.of(Tag.builder().id(1L).name("ideas").build(),
+                Tag.builder().id(2L).name("todo").build(), Tag.builder().id(3L).name("work").build()));
+        this.note = Note.builder().id(UUID.randomUUID()).tags(tags)
+                .title("Sample Title").content("Sample content.").createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now()).build();
+        this.user = User.builder().id(UUID.randomUUID()).name("Default User").username("default_user")
+                .password("1234567890").role(UserRole.ROLE_USER).build();
+        this.noteRequestDTO = new NoteRequestDTO(List.of("work", "ideas"), "Sample Title", "Sample content.");
+    }
+
+    @Benchmark
+    public NoteResponseDTO noteToDTO() {
+        return this.note.entityToDTO();
+    }
+
+    @Benchmark
+    public NoteResponseDTO noteToDTOWithModelMapper() {
+        return new ModelMapper().map(this.note, NoteResponseDTO.class);
+    }
+
+    @Benchmark
+    public UserResponseDTO userToDTO() {
+        return this.user.entityToDTO();
+    }
+
+    @Benchmark
+    public UserResponseDTO userToDTOWithModelMapper() {
+        return new ModelMapper().map(this.user, UserResponseDTO.class);
+    }
+
+    @Benchmark
+    public Note noteRequestToEntity() {
+        return this.noteRequestDTO.DTOToEntity();
+    }
+
+    @Benchmark
+    public Note noteRequestToEntityWithModelMapper() {
+        return new ModelMapper().map(this.noteRequestDTO, Note.class);
+    }
+
+}
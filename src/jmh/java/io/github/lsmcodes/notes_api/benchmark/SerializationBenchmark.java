@@ -0,0 +1,71 @@
+package io.github.lsmcodes.notes_api.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteResponseDTO;
+import io.github.lsmcodes.notes_api.dto.response.Response;
+
+/**
+ * Measures the Jackson serialization of a {@link Response} holding a page of
+ * notes, as written by the list endpoints. Pages are serialized through
+ * {@link PagedModel}, as configured by the {@code VIA_DTO} page serialization
+ * mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({ "10", "100" })
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private Response<PagedModel<NoteResponseDTO>> response;
+
+    /**
+     * Builds the object mapper and the response to be serialized.
+     */
+    @Setup
+    public void setUp() {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<NoteResponseDTO> notes = IntStream.range(0, this.pageSize)
+                .mapToObj(index -> new NoteResponseDTO(UUID.randomUUID(), List.of("work", "ideas"),
+                        "Sample Title " + index, "Sample content of the note number " + index + ".", null,
+                        LocalDateTime.now(), LocalDateTime.now()))
+                .toList();
+        PageImpl<NoteResponseDTO> page = new PageImpl<>(notes,
+                PageRequest.of(0, this.pageSize, Sort.by("title")), 1000);
+
+        this.response = new Response<>();
+        this.response.setData(new PagedModel<>(page));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.response);
+    }
+
+}
@@ -0,0 +1,83 @@
+package io.github.lsmcodes.notes_api.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.lsmcodes.notes_api.enumeration.UserRole;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.service.security.impl.TokenServiceImpl;
+import io.jsonwebtoken.Claims;
+
+/**
+ * Measures the cost of issuing and verifying JWT tokens with
+ * {@link TokenServiceImpl}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenBenchmark {
+
+    static final String KEY = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private TokenServiceImpl tokenService;
+
+    private User user;
+
+    private String token;
+
+    /**
+     * Configures the token service and issues the token to be verified.
+     */
+    @Setup
+    public void setUp() {
+        this.tokenService = newTokenService();
+        this.user = newUser();
+        this.token = this.tokenService.generateToken(this.user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return this.tokenService.generateToken(this.user);
+    }
+
+    @Benchmark
+    public String getSubjectFromToken() {
+        return this.tokenService.getSubjectFromToken(this.token);
+    }
+
+    @Benchmark
+    public Claims getClaimsFromToken() {
+        return this.tokenService.getClaimsFromToken(this.token);
+    }
+
+    /**
+     * Creates a {@link TokenServiceImpl} configured as in the application.
+     * 
+     * @return The created {@link TokenServiceImpl}.
+     */
+    static TokenServiceImpl newTokenService() {
+        TokenServiceImpl tokenService = new TokenServiceImpl();
+        tokenService.key = KEY;
+        tokenService.expiration = 7200000L;
+        return tokenService;
+    }
+
+    /**
+     * Creates the user the benchmarked tokens are issued for.
+     * 
+     * @return The created {@link User}.
+     */
+    static User newUser() {
+        return User.builder().id(UUID.randomUUID()).name("Default User").username("default_user")
+                .password("1234567890").role(UserRole.ROLE_USER).build();
+    }
+
+}
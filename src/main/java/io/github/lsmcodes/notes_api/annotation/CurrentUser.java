@@ -0,0 +1,30 @@
+package io.github.lsmcodes.notes_api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.github.lsmcodes.notes_api.model.user.User;
+
+/**
+ * Binds a handler method parameter to the {@link User} of the current
+ * authentication.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+
+    /**
+     * Whether every detail of the user is required. Users authenticated from token
+     * claims only carry their id, username, role and credential version, so they
+     * are loaded from the database when this is {@code true}.
+     * 
+     * @return {@code true} if the complete user is required; {@code false}
+     *         otherwise.
+     */
+    boolean complete() default false;
+
+}
@@ -1,21 +1,36 @@
 package io.github.lsmcodes.notes_api.controller.note;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -25,22 +40,50 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.github.lsmcodes.notes_api.annotation.CurrentUser;
+import io.github.lsmcodes.notes_api.dto.model.note.NoteContentDeltaRequestDTO;
+import io.github.lsmcodes.notes_api.dto.model.note.NoteDeletionResponseDTO;
+import io.github.lsmcodes.notes_api.dto.model.note.NoteImportResponseDTO;
+import io.github.lsmcodes.notes_api.dto.model.note.NotePatchRequestDTO;
 import io.github.lsmcodes.notes_api.dto.model.note.NoteRequestDTO;
 import io.github.lsmcodes.notes_api.dto.model.note.NoteResponseDTO;
 import io.github.lsmcodes.notes_api.dto.model.security.AuthenticationDTO;
+import io.github.lsmcodes.notes_api.dto.response.CursorPage;
 import io.github.lsmcodes.notes_api.dto.response.Response;
+import io.github.lsmcodes.notes_api.dto.response.SlicePage;
+import io.github.lsmcodes.notes_api.exception.InvalidArchiveException;
+import io.github.lsmcodes.notes_api.exception.InvalidContentDeltaException;
+import io.github.lsmcodes.notes_api.exception.InvalidCursorException;
+import io.github.lsmcodes.notes_api.exception.InvalidSortException;
 import io.github.lsmcodes.notes_api.exception.NoteNotFoundException;
-import io.github.lsmcodes.notes_api.exception.UserNotFoundException;
+import io.github.lsmcodes.notes_api.exception.StaleNoteException;
+import io.github.lsmcodes.notes_api.exception.TooManyImportsException;
 import io.github.lsmcodes.notes_api.model.note.Note;
 import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.note.NoteSummary;
+import io.github.lsmcodes.notes_api.service.note.NoteImportService;
 import io.github.lsmcodes.notes_api.service.note.NoteService;
-import io.github.lsmcodes.notes_api.service.user.UserService;
-import io.github.lsmcodes.notes_api.service.verification.VerificationService;
+import io.github.lsmcodes.notes_api.util.CsvNoteImportReader;
+import io.github.lsmcodes.notes_api.util.NdjsonNoteImportReader;
+import io.github.lsmcodes.notes_api.util.NoteImportReader;
+import io.github.lsmcodes.notes_api.util.NoteMarkdownUtil;
+import io.github.lsmcodes.notes_api.util.NoteCursorUtil;
+import io.github.lsmcodes.notes_api.util.NoteCursorUtil.NoteCursor;
+import io.github.lsmcodes.notes_api.util.NoteFieldsUtil;
 import io.github.lsmcodes.notes_api.util.NotesApiUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 
@@ -52,31 +95,43 @@ import jakarta.validation.constraints.Pattern;
 @Tag(name = "Note", description = "Note endpoints")
 public class NoteController {
 
-    @Autowired
-    private UserService userService;
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private static final String CSV_VALUE = "text/csv";
+
+    private static final String ZIP_VALUE = "application/zip";
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Autowired
     private NoteService noteService;
 
     @Autowired
-    private VerificationService verificationService;
+    private NoteImportService noteImportService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     /**
      * Creates a new note.
      * 
-     * @param dto    A {@link NoteRequestDTO} containing the note details.
-     * @param result A {@link BindingResult} containing the result of the validation
-     *               checks on the {@link AuthenticationDTO}.
+     * @param loggedInUser The authenticated user.
+     * @param dto          A {@link NoteRequestDTO} containing the note details.
+     * @param result       A {@link BindingResult} containing the result of the
+     *                     validation checks on the {@link AuthenticationDTO}.
      * @return A {@link ResponseEntity} with a
      *         {@link Response}<{@link NoteResponseDTO}> object.
-     * @throws UserNotFoundException if no user was found based in the username
-     *                               defined in the authentication.
      */
     @Operation(summary = "Creates a new note")
     @SecurityRequirement(name = "JWT token")
     @PostMapping
-    public ResponseEntity<Response<NoteResponseDTO>> createNote(@RequestBody @Valid NoteRequestDTO dto,
-            BindingResult result) throws UserNotFoundException {
+    public ResponseEntity<Response<NoteResponseDTO>> createNote(@CurrentUser User loggedInUser,
+            @RequestBody @Valid NoteRequestDTO dto, BindingResult result) {
         Response<NoteResponseDTO> response = new Response<>();
 
         if (result.hasErrors()) {
@@ -86,14 +141,9 @@ public class NoteController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
 
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        this.verificationService.verifyIfUserExistsByUsername(username);
-        User loggedInUser = this.userService.findByUsername(username).get();
         Note note = dto.DTOToEntity();
         note.setUser(loggedInUser);
-        note = this.noteService.save(note);
+        note = this.noteService.save(note, dto.getTags());
 
         URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(note.getId())
                 .toUri();
@@ -102,31 +152,145 @@ public class NoteController {
         return ResponseEntity.status(HttpStatus.CREATED).location(location).body(response);
     }
 
+    /**
+     * Creates the provided notes in a single transaction. The notes are only
+     * created if all of them are valid; otherwise the errors of each invalid note
+     * are reported with its position in the request.
+     * 
+     * @param loggedInUser The authenticated user.
+     * @param dtos         A {@link List} of {@link NoteRequestDTO} containing the
+     *                     details of each note.
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link List}<{@link NoteResponseDTO}>> object.
+     */
+    @Operation(summary = "Creates notes in batch")
+    @SecurityRequirement(name = "JWT token")
+    @PostMapping("/batch")
+    public ResponseEntity<Response<List<NoteResponseDTO>>> createNotes(@CurrentUser User loggedInUser,
+            @RequestBody List<NoteRequestDTO> dtos) {
+        Response<List<NoteResponseDTO>> response = new Response<>();
+
+        if (dtos.isEmpty() || dtos.size() > MAX_BATCH_SIZE) {
+            response.setErrors(400, "The batch must contain between 1 and " + MAX_BATCH_SIZE + " notes");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+
+        List<String> errorMessages = new ArrayList<>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            int index = i;
+
+            if (dtos.get(i) == null) {
+                errorMessages.add("Note " + index + ": Note cannot be null");
+                continue;
+            }
+
+            this.validator.validate(dtos.get(i)).stream().map(violation -> violation.getMessage()).sorted()
+                    .forEach(errorMessage -> errorMessages.add("Note " + index + ": " + errorMessage));
+        }
+
+        if (!errorMessages.isEmpty()) {
+            response.setErrors(400, String.join("; ", errorMessages));
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+
+        List<Note> notes = this.noteService.saveAll(loggedInUser,
+                dtos.stream().map(dto -> dto.DTOToEntity()).toList(),
+                dtos.stream().map(dto -> dto.getTags()).toList());
+
+        response.setData(notes.stream().map(note -> note.entityToDTO()).toList());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Imports notes from a newline-delimited JSON body, one note per line. See
+     * {@link NoteImportService#importNotes(User, NoteImportReader)}.
+     * 
+     * @param loggedInUser The authenticated user.
+     * @param body         The {@link InputStream} of the request body.
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link NoteImportResponseDTO}> object.
+     * @throws IOException If an error occurs while reading the request body.
+     */
+    @Operation(summary = "Imports notes from newline-delimited JSON")
+    @SecurityRequirement(name = "JWT token")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Response<NoteImportResponseDTO>> importNdjsonNotes(@CurrentUser User loggedInUser,
+            InputStream body) throws IOException {
+        Response<NoteImportResponseDTO> response = new Response<>();
+
+        response.setData(this.noteImportService.importNotes(loggedInUser, new NdjsonNoteImportReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8), this.objectMapper.reader())));
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Imports notes from a CSV body with a header naming the title, content and
+     * optional tags columns. See
+     * {@link NoteImportService#importNotes(User, NoteImportReader)}.
+     * 
+     * @param loggedInUser The authenticated user.
+     * @param body         The {@link InputStream} of the request body.
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link NoteImportResponseDTO}> object.
+     * @throws IOException If an error occurs while reading the request body.
+     */
+    @Operation(summary = "Imports notes from CSV")
+    @SecurityRequirement(name = "JWT token")
+    @PostMapping(value = "/import", consumes = CSV_VALUE)
+    public ResponseEntity<Response<NoteImportResponseDTO>> importCsvNotes(@CurrentUser User loggedInUser,
+            InputStream body) throws IOException {
+        Response<NoteImportResponseDTO> response = new Response<>();
+
+        response.setData(this.noteImportService.importNotes(loggedInUser,
+                new CsvNoteImportReader(new InputStreamReader(body, StandardCharsets.UTF_8))));
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Imports notes from a ZIP archive of Markdown files, one note per file, such
+     * as the archive of the ZIP export. See
+     * {@link NoteImportService#importZip(User, InputStream)}.
+     * 
+     * @param loggedInUser The authenticated user.
+     * @param body         The {@link InputStream} of the request body.
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link NoteImportResponseDTO}> object.
+     * @throws IOException             If an error occurs while reading the request
+     *                                 body.
+     * @throws InvalidArchiveException If the request body is not a valid ZIP
+     *                                 archive.
+     * @throws TooManyImportsException If every import writer is busy.
+     */
+    @Operation(summary = "Imports notes from a ZIP archive of Markdown files")
+    @SecurityRequirement(name = "JWT token")
+    @PostMapping(value = "/import.zip", consumes = { ZIP_VALUE, "application/x-zip-compressed",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE })
+    public ResponseEntity<Response<NoteImportResponseDTO>> importZipNotes(@CurrentUser User loggedInUser,
+            InputStream body) throws IOException, InvalidArchiveException, TooManyImportsException {
+        Response<NoteImportResponseDTO> response = new Response<>();
+
+        response.setData(this.noteImportService.importZip(loggedInUser, body));
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     /**
      * Retrieves a note with the provided id.
      * 
-     * @param id The id of the note to be retrieved.
+     * @param loggedInUser The authenticated user.
+     * @param id           The id of the note to be retrieved.
      * @return A {@link ResponseEntity} with a
      *         {@link Response}<{@link NoteResponseDTO}> object.
-     * @throws UserNotFoundException if no user was found based in the username
-     *                               defined in the authentication.
      * @throws NoteNotFoundException if no note was found based in the provided id.
      */
     @Operation(summary = "Retrieves a note by id")
     @SecurityRequirement(name = "JWT token")
     @GetMapping("/{id}")
-    public ResponseEntity<Response<NoteResponseDTO>> findById(@PathVariable UUID id)
-            throws UserNotFoundException, NoteNotFoundException {
+    public ResponseEntity<Response<NoteResponseDTO>> findById(@CurrentUser User loggedInUser,
+            @PathVariable UUID id) throws NoteNotFoundException {
         Response<NoteResponseDTO> response = new Response<>();
 
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        this.verificationService.verifyIfUserExistsByUsername(username);
-        User loggedInUser = this.userService.findByUsername(username).get();
-
-        this.verificationService.verifyIfNoteExistsByUserAndId(loggedInUser, id);
-        Note foundNote = this.noteService.findByUserAndId(loggedInUser, id).get();
+        Note foundNote = this.noteService.getByUserAndId(loggedInUser, id);
 
         response.setData(foundNote.entityToDTO());
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -135,151 +299,545 @@ public class NoteController {
     /**
      * Retrieves all notes.
      * 
+     * @param loggedInUser  The authenticated user.
      * @param page          The notes page number.
-     * @param size          The size of the notes page.
+     * @param size          The size of the notes page, from 1 to 100.
      * @param property      The property by which the notes will be sorted. Accepted
      *                      values are: "title", "createdAt" and "updatedAt".
      * @param sortDirection The direction in which the notes should be sorted.
      *                      Accepted values are: "asc" and "desc".
+     * @param fields        The comma-separated fields to be returned. Accepted
+     *                      values are: "id", "title", "content", "snippet",
+     *                      "tags", "createdAt" and "updatedAt". Unless "content"
+     *                      is requested, the content is not read.
+     * @param view          The fields to be returned when {@code fields} is not
+     *                      provided. Accepted values are: "full", the default,
+     *                      and "summary", which returns a snippet instead of the
+     *                      content.
      * @return A {@link ResponseEntity} with a
      *         {@link Response}<{@link Page}<{@link NoteResponseDTO}>> object.
-     * @throws UserNotFoundException if no user was found
-     *                               based in the username defined in the
-     *                               authentication.
      * @throws NoteNotFoundException If the retrieved notes page is empty.
      */
     @Operation(summary = "Retrieves all notes")
     @SecurityRequirement(name = "JWT token")
     @GetMapping
-    public ResponseEntity<Response<Page<NoteResponseDTO>>> findAll(
+    public ResponseEntity<Response<Page<NoteResponseDTO>>> findAll(@CurrentUser User loggedInUser,
             @RequestParam(defaultValue = "0") @NotNull int page,
-            @RequestParam(defaultValue = "10") @NotNull int size,
+            @RequestParam(defaultValue = "10") @NotNull @Min(1) @Max(MAX_PAGE_SIZE) int size,
             @RequestParam(defaultValue = "title") @NotNull @Pattern(regexp = "^(title|createdAt|updatedAt)$") String property,
-            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection)
-            throws UserNotFoundException, NoteNotFoundException {
+            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.FIELDS_PATTERN) String fields,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.VIEW_PATTERN) String view)
+            throws NoteNotFoundException {
         Response<Page<NoteResponseDTO>> response = new Response<>();
 
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
+        Direction direction = Direction.fromString(sortDirection.toUpperCase());
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, property));
+
+        Set<String> selectedFields = NoteFieldsUtil.parse(fields, view);
 
-        this.verificationService.verifyIfUserExistsByUsername(username);
-        User loggedInUser = this.userService.findByUsername(username).get();
+        if (NoteFieldsUtil.isSummary(selectedFields)) {
+            Page<NoteSummary> foundPage = this.noteService.findSummariesByUser(loggedInUser, pageable, selectedFields);
+            response.setData(
+                    foundPage.map(summary -> NoteFieldsUtil.select(summary.summaryToDTO(), selectedFields)));
+        } else {
+            Page<Note> foundPage = this.noteService.findByUser(loggedInUser, pageable);
+            response.setData(foundPage.map(note -> NoteFieldsUtil.select(note.entityToDTO(), selectedFields)));
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Retrieves all notes without counting them, when {@code withTotal=false} is
+     * provided. Only tells whether there is a next page.
+     * 
+     * @param loggedInUser  The authenticated user.
+     * @param page          The notes page number.
+     * @param size          The size of the notes page, from 1 to 100.
+     * @param property      The property by which the notes will be sorted. Accepted
+     *                      values are: "title", "createdAt" and "updatedAt".
+     * @param sortDirection The direction in which the notes should be sorted.
+     *                      Accepted values are: "asc" and "desc".
+     * @param fields        The comma-separated fields to be returned. Accepted
+     *                      values are: "id", "title", "content", "snippet",
+     *                      "tags", "createdAt" and "updatedAt". Unless "content"
+     *                      is requested, the content is not read.
+     * @param view          The fields to be returned when {@code fields} is not
+     *                      provided. Accepted values are: "full", the default,
+     *                      and "summary", which returns a snippet instead of the
+     *                      content.
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link SlicePage}<{@link NoteResponseDTO}>> object.
+     */
+    @Operation(summary = "Retrieves all notes without the total count")
+    @SecurityRequirement(name = "JWT token")
+    @GetMapping(params = { "withTotal=false", "!cursor" })
+    public ResponseEntity<Response<SlicePage<NoteResponseDTO>>> findAllWithoutTotal(@CurrentUser User loggedInUser,
+            @RequestParam(defaultValue = "0") @NotNull int page,
+            @RequestParam(defaultValue = "10") @NotNull @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "title") @NotNull @Pattern(regexp = "^(title|createdAt|updatedAt)$") String property,
+            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.FIELDS_PATTERN) String fields,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.VIEW_PATTERN) String view) {
+        Response<SlicePage<NoteResponseDTO>> response = new Response<>();
 
         Direction direction = Direction.fromString(sortDirection.toUpperCase());
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, property));
 
-        Page<Note> foundPage = this.noteService.findByUser(loggedInUser, pageable);
+        Set<String> selectedFields = NoteFieldsUtil.parse(fields, view);
+
+        if (NoteFieldsUtil.isSummary(selectedFields)) {
+            Slice<NoteSummary> foundSlice = this.noteService.findSummarySliceByUser(loggedInUser, pageable,
+                    selectedFields);
+            response.setData(new SlicePage<>(
+                    foundSlice.map(summary -> NoteFieldsUtil.select(summary.summaryToDTO(), selectedFields))));
+        } else {
+            Slice<Note> foundSlice = this.noteService.findSliceByUser(loggedInUser, pageable);
+            response.setData(new SlicePage<>(
+                    foundSlice.map(note -> NoteFieldsUtil.select(note.entityToDTO(), selectedFields))));
+        }
 
-        response.setData(foundPage.map(note -> note.entityToDTO()));
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    /**
+     * Retrieves all notes using keyset pagination. No total count is computed.
+     * 
+     * @param loggedInUser  The authenticated user.
+     * @param cursor        The cursor returned with the previous notes, or an empty
+     *                      value to retrieve the first notes.
+     * @param limit         The maximum number of notes to be retrieved, from 1
+     *                      to 100.
+     * @param property      The property by which the notes will be sorted when the
+     *                      cursor is empty. Accepted values are: "title",
+     *                      "createdAt" and "updatedAt".
+     * @param sortDirection The direction in which the notes should be sorted when
+     *                      the cursor is empty. Accepted values are: "asc" and
+     *                      "desc".
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link CursorPage}<{@link NoteResponseDTO}>> object.
+     * @throws InvalidCursorException If the provided cursor is invalid.
+     */
+    @Operation(summary = "Retrieves all notes using a cursor")
+    @SecurityRequirement(name = "JWT token")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<Response<CursorPage<NoteResponseDTO>>> scrollAll(@CurrentUser User loggedInUser,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") @NotNull @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "title") @NotNull @Pattern(regexp = "^(title|createdAt|updatedAt)$") String property,
+            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection)
+            throws InvalidCursorException {
+        Response<CursorPage<NoteResponseDTO>> response = new Response<>();
+
+        NoteCursor noteCursor = NoteCursorUtil.decode(cursor, property, sortDirection);
+
+        Window<Note> window = this.noteService.scrollByUser(loggedInUser, noteCursor.position(), noteCursor.sort(),
+                limit);
+
+        response.setData(new CursorPage<>(window.map(note -> note.entityToDTO()).toList(),
+                NoteCursorUtil.encodeNext(window, noteCursor)));
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Exports all notes as newline-delimited JSON, one note per line. The notes
+     * are written to the response as they are read from the database, so the
+     * whole notebook is exported in a single request without being held in
+     * memory.
+     * 
+     * @param loggedInUser The authenticated user.
+     * @param response     The {@link HttpServletResponse} the notes are written
+     *                     to.
+     * @throws IOException If an error occurs while writing the notes.
+     */
+    @Operation(summary = "Exports all notes as newline-delimited JSON")
+    @SecurityRequirement(name = "JWT token")
+    @GetMapping("/export")
+    public void exportAll(@CurrentUser User loggedInUser, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("notes.ndjson").build().toString());
+
+        ObjectWriter writer = this.objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = this.objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            this.writeEachNote(loggedInUser, note -> {
+                writer.writeValue(generator, note.entityToDTO());
+                generator.writeRaw('\n');
+            });
+        }
+    }
+
+    /**
+     * Exports all notes as a ZIP archive of Markdown files, one file per note
+     * with its title, tags and dates in a YAML front matter. The archive is
+     * written to the response as the notes are read from the database, without
+     * temporary files or buffering the whole archive.
+     * 
+     * @param loggedInUser The authenticated user.
+     * @param response     The {@link HttpServletResponse} the archive is written
+     *                     to.
+     * @throws IOException If an error occurs while writing the archive.
+     */
+    @Operation(summary = "Exports all notes as a ZIP archive of Markdown files")
+    @SecurityRequirement(name = "JWT token")
+    @GetMapping("/export.zip")
+    public void exportZip(@CurrentUser User loggedInUser, HttpServletResponse response) throws IOException {
+        response.setContentType(ZIP_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("notes.zip").build().toString());
+
+        try (ZipOutputStream zip = new ZipOutputStream(response.getOutputStream(), StandardCharsets.UTF_8)) {
+            this.writeEachNote(loggedInUser, note -> {
+                NoteResponseDTO dto = note.entityToDTO();
+                ZipEntry entry = new ZipEntry(NoteMarkdownUtil.fileName(dto));
+
+                if (dto.getUpdatedAt() != null) {
+                    entry.setTimeLocal(dto.getUpdatedAt());
+                }
+
+                zip.putNextEntry(entry);
+                zip.write(NoteMarkdownUtil.toMarkdown(dto).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            });
+        }
+    }
+
     /**
      * Retrieves all notes containing a specified term whether in title or content.
      * 
+     * @param loggedInUser  The authenticated user.
      * @param term          The term to be searched for.
      * @param page          The notes page number.
-     * @param size          The size of the notes page.
+     * @param size          The size of the notes page, from 1 to 100.
      * @param property      The property by which the notes will be sorted. Accepted
-     *                      values are: "title", "createdAt" and "updatedAt".
+     *                      values are: "title", "createdAt", "updatedAt" and
+     *                      "relevance", which is supported by the full-text
+     *                      search engines only.
      * @param sortDirection The direction in which the notes should be sorted.
      *                      Accepted values are: "asc" and "desc".
+     * @param fields        The comma-separated fields to be returned. Accepted
+     *                      values are: "id", "title", "content", "snippet",
+     *                      "tags", "createdAt" and "updatedAt". Unless "content"
+     *                      is requested, the content is not read.
+     * @param view          The fields to be returned when {@code fields} is not
+     *                      provided. Accepted values are: "full", the default,
+     *                      and "summary", which returns a snippet instead of the
+     *                      content.
      * @return A {@link ResponseEntity} with a
      *         {@link Response}<{@link Page}<{@link NoteResponseDTO}>> object.
-     * @throws UserNotFoundException if no user was found
-     *                               based in the username defined in the
-     *                               authentication.
      * @throws NoteNotFoundException If the retrieved notes page is empty.
+     * @throws InvalidSortException  If the notes are sorted by relevance and the
+     *                               search engine does not support it.
      */
     @Operation(summary = "Retrieves all notes containing a specified term whether in title or content")
     @SecurityRequirement(name = "JWT token")
     @GetMapping("/term")
     public ResponseEntity<Response<Page<NoteResponseDTO>>> findByTitleOrContentContainingTerm(
-            @RequestParam String term, @RequestParam(defaultValue = "0") @NotNull int page,
-            @RequestParam(defaultValue = "10") @NotNull int size,
-            @RequestParam(defaultValue = "title") @NotNull @Pattern(regexp = "^(title|createdAt|updatedAt)$") String property,
-            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection)
-            throws UserNotFoundException, NoteNotFoundException {
+            @CurrentUser User loggedInUser, @RequestParam String term, @RequestParam(defaultValue = "0") @NotNull int page,
+            @RequestParam(defaultValue = "10") @NotNull @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "title") @NotNull @Pattern(regexp = "^(title|createdAt|updatedAt|relevance)$") String property,
+            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.FIELDS_PATTERN) String fields,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.VIEW_PATTERN) String view)
+            throws NoteNotFoundException, InvalidSortException {
         Response<Page<NoteResponseDTO>> response = new Response<>();
 
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
+        if (property.equals("relevance") && !this.noteService.isRelevanceSortSupported()) {
+            throw new InvalidSortException("The search engine cannot sort notes by relevance");
+        }
+
+        Direction direction = Direction.fromString(sortDirection.toUpperCase());
+        Sort sort = property.equals("relevance") ? Sort.unsorted() : Sort.by(direction, property);
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        Set<String> selectedFields = NoteFieldsUtil.parse(fields, view);
+
+        if (NoteFieldsUtil.isSummary(selectedFields)) {
+            Page<NoteSummary> foundPage = this.noteService.findSummariesByUserAndTitleOrContentContainingIgnoreCase(
+                    loggedInUser, term, pageable, selectedFields);
+            response.setData(
+                    foundPage.map(summary -> NoteFieldsUtil.select(summary.summaryToDTO(), selectedFields)));
+        } else {
+            Page<Note> foundPage = this.noteService.findByUserAndTitleOrContentContainingIgnoreCase(loggedInUser, term,
+                    pageable);
+            response.setData(foundPage.map(note -> NoteFieldsUtil.select(note.entityToDTO(), selectedFields)));
+        }
 
-        this.verificationService.verifyIfUserExistsByUsername(username);
-        User loggedInUser = this.userService.findByUsername(username).get();
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Retrieves all notes containing a specified term whether in title or content
+     * without counting them, when {@code withTotal=false} is provided. Only tells
+     * whether there is a next page.
+     * 
+     * @param loggedInUser  The authenticated user.
+     * @param term          The term to be searched for.
+     * @param page          The notes page number.
+     * @param size          The size of the notes page, from 1 to 100.
+     * @param property      The property by which the notes will be sorted. Accepted
+     *                      values are: "title", "createdAt" and "updatedAt".
+     * @param sortDirection The direction in which the notes should be sorted.
+     *                      Accepted values are: "asc" and "desc".
+     * @param fields        The comma-separated fields to be returned. Accepted
+     *                      values are: "id", "title", "content", "snippet",
+     *                      "tags", "createdAt" and "updatedAt". Unless "content"
+     *                      is requested, the content is not read.
+     * @param view          The fields to be returned when {@code fields} is not
+     *                      provided. Accepted values are: "full", the default,
+     *                      and "summary", which returns a snippet instead of the
+     *                      content.
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link SlicePage}<{@link NoteResponseDTO}>> object.
+     */
+    @Operation(summary = "Retrieves all notes containing a specified term whether in title or content without the total count")
+    @SecurityRequirement(name = "JWT token")
+    @GetMapping(value = "/term", params = { "withTotal=false", "!cursor" })
+    public ResponseEntity<Response<SlicePage<NoteResponseDTO>>> findByTitleOrContentContainingTermWithoutTotal(@CurrentUser User loggedInUser,
+            @RequestParam String term,
+            @RequestParam(defaultValue = "0") @NotNull int page,
+            @RequestParam(defaultValue = "10") @NotNull @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "title") @NotNull @Pattern(regexp = "^(title|createdAt|updatedAt)$") String property,
+            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.FIELDS_PATTERN) String fields,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.VIEW_PATTERN) String view) {
+        Response<SlicePage<NoteResponseDTO>> response = new Response<>();
 
         Direction direction = Direction.fromString(sortDirection.toUpperCase());
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, property));
 
-        Page<Note> foundPage = this.noteService.findByUserAndTitleOrContentContainingIgnoreCase(loggedInUser, term,
-                pageable);
+        Set<String> selectedFields = NoteFieldsUtil.parse(fields, view);
+
+        if (NoteFieldsUtil.isSummary(selectedFields)) {
+            Slice<NoteSummary> foundSlice = this.noteService.findSummarySliceByUserAndTitleOrContentContainingIgnoreCase(
+                    loggedInUser, term, pageable, selectedFields);
+            response.setData(new SlicePage<>(
+                    foundSlice.map(summary -> NoteFieldsUtil.select(summary.summaryToDTO(), selectedFields))));
+        } else {
+            Slice<Note> foundSlice = this.noteService.findSliceByUserAndTitleOrContentContainingIgnoreCase(loggedInUser,
+                    term, pageable);
+            response.setData(new SlicePage<>(
+                    foundSlice.map(note -> NoteFieldsUtil.select(note.entityToDTO(), selectedFields))));
+        }
 
-        response.setData(foundPage.map(note -> note.entityToDTO()));
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Retrieves all notes containing a specified term whether in title or content
+     * using keyset pagination. No total count is computed.
+     * 
+     * @param loggedInUser  The authenticated user.
+     * @param term          The term to be searched for.
+     * @param cursor        The cursor returned with the previous notes, or an empty
+     *                      value to retrieve the first notes.
+     * @param limit         The maximum number of notes to be retrieved, from 1
+     *                      to 100.
+     * @param property      The property by which the notes will be sorted when the
+     *                      cursor is empty. Accepted values are: "title",
+     *                      "createdAt" and "updatedAt".
+     * @param sortDirection The direction in which the notes should be sorted when
+     *                      the cursor is empty. Accepted values are: "asc" and
+     *                      "desc".
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link CursorPage}<{@link NoteResponseDTO}>> object.
+     * @throws InvalidCursorException If the provided cursor is invalid.
+     */
+    @Operation(summary = "Retrieves all notes containing a specified term whether in title or content using a cursor")
+    @SecurityRequirement(name = "JWT token")
+    @GetMapping(value = "/term", params = "cursor")
+    public ResponseEntity<Response<CursorPage<NoteResponseDTO>>> scrollByTitleOrContentContainingTerm(@CurrentUser User loggedInUser,
+            @RequestParam String term,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") @NotNull @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "title") @NotNull @Pattern(regexp = "^(title|createdAt|updatedAt)$") String property,
+            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection)
+            throws InvalidCursorException {
+        Response<CursorPage<NoteResponseDTO>> response = new Response<>();
+
+        NoteCursor noteCursor = NoteCursorUtil.decode(cursor, property, sortDirection);
+
+        Window<Note> window = this.noteService.scrollByUserAndTitleOrContentContainingIgnoreCase(loggedInUser, term,
+                noteCursor.position(), noteCursor.sort(), limit);
+
+        response.setData(new CursorPage<>(window.map(note -> note.entityToDTO()).toList(),
+                NoteCursorUtil.encodeNext(window, noteCursor)));
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     /**
      * Retrieves all notes containing at least one of the specified tags.
      * 
+     * @param loggedInUser  The authenticated user.
      * @param tags          The {@link List} of tags to be searched for.
      * @param page          The notes page number.
-     * @param size          The size of the notes page.
+     * @param size          The size of the notes page, from 1 to 100.
      * @param property      The property by which the notes will be sorted. Accepted
      *                      values are: "title", "createdAt" and "updatedAt".
      * @param sortDirection The direction in which the notes should be sorted.
      *                      Accepted values are: "asc" and "desc".
+     * @param fields        The comma-separated fields to be returned. Accepted
+     *                      values are: "id", "title", "content", "snippet",
+     *                      "tags", "createdAt" and "updatedAt". Unless "content"
+     *                      is requested, the content is not read.
+     * @param view          The fields to be returned when {@code fields} is not
+     *                      provided. Accepted values are: "full", the default,
+     *                      and "summary", which returns a snippet instead of the
+     *                      content.
      * @return A {@link ResponseEntity} with a
      *         {@link Response}<{@link Page}<{@link NoteResponseDTO}>> object.
-     * @throws UserNotFoundException if no user was found
-     *                               based in the username defined in the
-     *                               authentication.
      * @throws NoteNotFoundException if the retrieved notes page is empty.
      */
     @Operation(summary = "Retrieves all notes containing at least one of the specified tags")
     @SecurityRequirement(name = "JWT token")
     @GetMapping("/tags")
-    public ResponseEntity<Response<Page<NoteResponseDTO>>> findByTags(@RequestParam List<String> tags,
+    public ResponseEntity<Response<Page<NoteResponseDTO>>> findByTags(@CurrentUser User loggedInUser,
+            @RequestParam List<String> tags,
             @RequestParam(defaultValue = "0") @NotNull int page,
-            @RequestParam(defaultValue = "10") @NotNull int size,
+            @RequestParam(defaultValue = "10") @NotNull @Min(1) @Max(MAX_PAGE_SIZE) int size,
             @RequestParam(defaultValue = "title") @NotNull @Pattern(regexp = "^(title|createdAt|updatedAt)$") String property,
-            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection)
-            throws UserNotFoundException, NoteNotFoundException {
+            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.FIELDS_PATTERN) String fields,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.VIEW_PATTERN) String view)
+            throws NoteNotFoundException {
         Response<Page<NoteResponseDTO>> response = new Response<>();
 
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
+        Direction direction = Direction.fromString(sortDirection.toUpperCase());
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, property));
+
+        Set<String> selectedFields = NoteFieldsUtil.parse(fields, view);
+
+        if (NoteFieldsUtil.isSummary(selectedFields)) {
+            Page<NoteSummary> foundPage = this.noteService.findSummariesByUserAndTagsInIgnoreCase(loggedInUser, tags,
+                    pageable, selectedFields);
+            response.setData(
+                    foundPage.map(summary -> NoteFieldsUtil.select(summary.summaryToDTO(), selectedFields)));
+        } else {
+            Page<Note> foundPage = this.noteService.findByUserAndTagsInIgnoreCase(loggedInUser, tags, pageable);
+            response.setData(foundPage.map(note -> NoteFieldsUtil.select(note.entityToDTO(), selectedFields)));
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
 
-        this.verificationService.verifyIfUserExistsByUsername(username);
-        User loggedInUser = this.userService.findByUsername(username).get();
+    /**
+     * Retrieves all notes containing at least one of the specified tags without
+     * counting them, when {@code withTotal=false} is provided. Only tells whether
+     * there is a next page.
+     * 
+     * @param loggedInUser  The authenticated user.
+     * @param tags          The {@link List} of tags to be searched for.
+     * @param page          The notes page number.
+     * @param size          The size of the notes page, from 1 to 100.
+     * @param property      The property by which the notes will be sorted. Accepted
+     *                      values are: "title", "createdAt" and "updatedAt".
+     * @param sortDirection The direction in which the notes should be sorted.
+     *                      Accepted values are: "asc" and "desc".
+     * @param fields        The comma-separated fields to be returned. Accepted
+     *                      values are: "id", "title", "content", "snippet",
+     *                      "tags", "createdAt" and "updatedAt". Unless "content"
+     *                      is requested, the content is not read.
+     * @param view          The fields to be returned when {@code fields} is not
+     *                      provided. Accepted values are: "full", the default,
+     *                      and "summary", which returns a snippet instead of the
+     *                      content.
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link SlicePage}<{@link NoteResponseDTO}>> object.
+     */
+    @Operation(summary = "Retrieves all notes containing at least one of the specified tags without the total count")
+    @SecurityRequirement(name = "JWT token")
+    @GetMapping(value = "/tags", params = { "withTotal=false", "!cursor" })
+    public ResponseEntity<Response<SlicePage<NoteResponseDTO>>> findByTagsWithoutTotal(@CurrentUser User loggedInUser,
+            @RequestParam List<String> tags,
+            @RequestParam(defaultValue = "0") @NotNull int page,
+            @RequestParam(defaultValue = "10") @NotNull @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "title") @NotNull @Pattern(regexp = "^(title|createdAt|updatedAt)$") String property,
+            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.FIELDS_PATTERN) String fields,
+            @RequestParam(required = false) @Pattern(regexp = NoteFieldsUtil.VIEW_PATTERN) String view) {
+        Response<SlicePage<NoteResponseDTO>> response = new Response<>();
 
         Direction direction = Direction.fromString(sortDirection.toUpperCase());
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, property));
 
-        Page<Note> foundPage = this.noteService.findByUserAndTagsInIgnoreCase(loggedInUser, tags, pageable);
+        Set<String> selectedFields = NoteFieldsUtil.parse(fields, view);
+
+        if (NoteFieldsUtil.isSummary(selectedFields)) {
+            Slice<NoteSummary> foundSlice = this.noteService.findSummarySliceByUserAndTagsInIgnoreCase(loggedInUser,
+                    tags, pageable, selectedFields);
+            response.setData(new SlicePage<>(
+                    foundSlice.map(summary -> NoteFieldsUtil.select(summary.summaryToDTO(), selectedFields))));
+        } else {
+            Slice<Note> foundSlice = this.noteService.findSliceByUserAndTagsInIgnoreCase(loggedInUser, tags, pageable);
+            response.setData(new SlicePage<>(
+                    foundSlice.map(note -> NoteFieldsUtil.select(note.entityToDTO(), selectedFields))));
+        }
 
-        response.setData(foundPage.map(note -> note.entityToDTO()));
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Retrieves all notes containing at least one of the specified tags using
+     * keyset pagination. No total count is computed.
+     * 
+     * @param loggedInUser  The authenticated user.
+     * @param tags          The {@link List} of tags to be searched for.
+     * @param cursor        The cursor returned with the previous notes, or an empty
+     *                      value to retrieve the first notes.
+     * @param limit         The maximum number of notes to be retrieved, from 1
+     *                      to 100.
+     * @param property      The property by which the notes will be sorted when the
+     *                      cursor is empty. Accepted values are: "title",
+     *                      "createdAt" and "updatedAt".
+     * @param sortDirection The direction in which the notes should be sorted when
+     *                      the cursor is empty. Accepted values are: "asc" and
+     *                      "desc".
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link CursorPage}<{@link NoteResponseDTO}>> object.
+     * @throws InvalidCursorException If the provided cursor is invalid.
+     */
+    @Operation(summary = "Retrieves all notes containing at least one of the specified tags using a cursor")
+    @SecurityRequirement(name = "JWT token")
+    @GetMapping(value = "/tags", params = "cursor")
+    public ResponseEntity<Response<CursorPage<NoteResponseDTO>>> scrollByTags(@CurrentUser User loggedInUser,
+            @RequestParam List<String> tags,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") @NotNull @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "title") @NotNull @Pattern(regexp = "^(title|createdAt|updatedAt)$") String property,
+            @RequestParam(defaultValue = "asc") @NotNull @Pattern(regexp = "^(asc|desc)$") String sortDirection)
+            throws InvalidCursorException {
+        Response<CursorPage<NoteResponseDTO>> response = new Response<>();
+
+        NoteCursor noteCursor = NoteCursorUtil.decode(cursor, property, sortDirection);
+
+        Window<Note> window = this.noteService.scrollByUserAndTagsInIgnoreCase(loggedInUser, tags, noteCursor.position(),
+                noteCursor.sort(), limit);
+
+        response.setData(new CursorPage<>(window.map(note -> note.entityToDTO()).toList(),
+                NoteCursorUtil.encodeNext(window, noteCursor)));
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     /**
      * Updates a note.
      * 
-     * @param id     The id of the note to be updated.
-     * @param dto    A {@link NoteRequestDTO} containing the note details.
-     * @param result A {@link BindingResult} containing the result of the validation
-     *               checks on the {@link AuthenticationDTO}.
+     * @param loggedInUser The authenticated user.
+     * @param id           The id of the note to be updated.
+     * @param dto          A {@link NoteRequestDTO} containing the note details.
+     * @param result       A {@link BindingResult} containing the result of the
+     *                     validation checks on the {@link AuthenticationDTO}.
      * @return A {@link ResponseEntity} with a
      *         {@link Response}<{@link NoteResponseDTO}> object.
-     * @throws UserNotFoundException if no user was found based in the username
-     *                               defined in the authentication.
      * @throws NoteNotFoundException if no note was found with the provided id.
      */
     @Operation(summary = "Updates a note")
     @SecurityRequirement(name = "JWT token")
     @PutMapping("/{id}")
-    public ResponseEntity<Response<NoteResponseDTO>> updateById(@PathVariable UUID id,
-            @RequestBody @Valid NoteRequestDTO dto, BindingResult result)
-            throws UserNotFoundException, NoteNotFoundException {
+    public ResponseEntity<Response<NoteResponseDTO>> updateById(@CurrentUser User loggedInUser,
+            @PathVariable UUID id, @RequestBody @Valid NoteRequestDTO dto, BindingResult result)
+            throws NoteNotFoundException {
         Response<NoteResponseDTO> response = new Response<>();
 
         if (result.hasErrors()) {
@@ -289,80 +847,214 @@ public class NoteController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
 
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        this.verificationService.verifyIfUserExistsByUsername(username);
-        User loggedInUser = this.userService.findByUsername(username).get();
+        Note note = this.noteService.getByUserAndId(loggedInUser, id);
 
-        this.verificationService.verifyIfNoteExistsByUserAndId(loggedInUser, id);
-        Note note = this.noteService.findByUserAndId(loggedInUser, id).get();
-
-        note.setTags(dto.getTags());
         note.setTitle(dto.getTitle());
         note.setContent(dto.getContent());
-        this.noteService.save(note);
+        this.noteService.save(note, dto.getTags());
 
         response.setData(note.entityToDTO());
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    /**
+     * Partially updates a note with a JSON Merge Patch. Only the supplied members
+     * are changed; when the tags are not supplied, the title and content are
+     * updated with a single statement without loading the note.
+     * 
+     * @param loggedInUser The authenticated user.
+     * @param id           The id of the note to be updated.
+     * @param dto          A {@link NotePatchRequestDTO} containing the supplied
+     *                     note details.
+     * @param result       A {@link BindingResult} containing the result of the
+     *                     validation checks on the {@link NotePatchRequestDTO}.
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link LocalDateTime}> object holding the new
+     *         update date of the note.
+     * @throws NoteNotFoundException if no note was found with the provided id.
+     */
+    @Operation(summary = "Partially updates a note")
+    @SecurityRequirement(name = "JWT token")
+    @PatchMapping(value = "/{id}", consumes = { MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<Response<LocalDateTime>> patchById(@CurrentUser User loggedInUser, @PathVariable UUID id,
+            @RequestBody @Valid NotePatchRequestDTO dto, BindingResult result) throws NoteNotFoundException {
+        Response<LocalDateTime> response = new Response<>();
+
+        if (result.hasErrors()) {
+            NotesApiUtil.getResponseErrorMessages(result)
+                    .forEach(errorMessage -> response.setErrors(400, errorMessage));
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+
+        if (dto.isTagsPresent()) {
+            Note note = this.noteService.getByUserAndId(loggedInUser, id);
+
+            if (dto.isTitlePresent()) {
+                note.setTitle(dto.getTitle());
+            }
+
+            if (dto.isContentPresent()) {
+                note.setContent(dto.getContent());
+            }
+
+            response.setData(this.noteService.save(note, dto.getTags()).getUpdatedAt());
+        } else {
+            response.setData(
+                    this.noteService.updateByUserAndId(loggedInUser, id, dto.getTitle(), dto.getContent()));
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Applies a delta of retain, insert and delete operations to the content of
+     * a note, so only the edited text is sent instead of the whole content.
+     * 
+     * @param loggedInUser The authenticated user.
+     * @param id           The id of the note to be updated.
+     * @param dto          A {@link NoteContentDeltaRequestDTO} containing the
+     *                     base update date and the operations.
+     * @param result       A {@link BindingResult} containing the result of the
+     *                     validation checks on the
+     *                     {@link NoteContentDeltaRequestDTO}.
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link LocalDateTime}> object holding the new
+     *         update date of the note, to be used as the base of the next delta.
+     * @throws NoteNotFoundException        if no note was found with the provided
+     *                                      id.
+     * @throws StaleNoteException           if the note was updated after the
+     *                                      base.
+     * @throws InvalidContentDeltaException if the operations cannot be applied.
+     */
+    @Operation(summary = "Applies a delta to the content of a note")
+    @SecurityRequirement(name = "JWT token")
+    @PatchMapping("/{id}/content")
+    public ResponseEntity<Response<LocalDateTime>> updateContentById(@CurrentUser User loggedInUser,
+            @PathVariable UUID id, @RequestBody @Valid NoteContentDeltaRequestDTO dto, BindingResult result)
+            throws NoteNotFoundException, StaleNoteException, InvalidContentDeltaException {
+        Response<LocalDateTime> response = new Response<>();
+
+        if (result.hasErrors()) {
+            NotesApiUtil.getResponseErrorMessages(result)
+                    .forEach(errorMessage -> response.setErrors(400, errorMessage));
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+
+        Note note = this.noteService.updateContentByUserAndId(loggedInUser, id, dto.getBaseUpdatedAt(),
+                dto.getOperations());
+
+        response.setData(note.getUpdatedAt());
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     /**
      * Deletes a note.
      * 
-     * @param id The id of the note to be deleted.
+     * @param loggedInUser The authenticated user.
+     * @param id           The id of the note to be deleted.
      * @return A {@link ResponseEntity} with a
      *         {@link Response}<{@link NoteResponseDTO}> object.
-     * @throws UserNotFoundException if no user was found based in the username
-     *                               defined in the authentication.
      * @throws NoteNotFoundException if no note was found with the provided id.
      */
     @Operation(summary = "Deletes a note")
     @SecurityRequirement(name = "JWT token")
     @DeleteMapping("/{id}")
-    public ResponseEntity<Response<String>> deleteById(@PathVariable UUID id)
-            throws UserNotFoundException, NoteNotFoundException {
+    public ResponseEntity<Response<String>> deleteById(@CurrentUser User loggedInUser,
+            @PathVariable UUID id) throws NoteNotFoundException {
         Response<String> response = new Response<>();
 
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        this.verificationService.verifyIfUserExistsByUsername(username);
-        User loggedInUser = this.userService.findByUsername(username).get();
-
-        this.verificationService.verifyIfNoteExistsByUserAndId(loggedInUser, id);
         this.noteService.deleteByUserAndId(loggedInUser, id);
 
         response.setData("The note was deleted successfully");
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    /**
+     * Deletes the notes with the provided ids.
+     * 
+     * @param loggedInUser The authenticated user.
+     * @param ids          The ids of the notes to be deleted.
+     * @return A {@link ResponseEntity} with a
+     *         {@link Response}<{@link NoteDeletionResponseDTO}> object holding
+     *         the number of deleted notes and the ids of the notes that were not
+     *         found.
+     */
+    @Operation(summary = "Deletes notes by id")
+    @SecurityRequirement(name = "JWT token")
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<Response<NoteDeletionResponseDTO>> deleteByIds(@CurrentUser User loggedInUser,
+            @RequestParam List<UUID> ids) {
+        Response<NoteDeletionResponseDTO> response = new Response<>();
+
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            response.setErrors(400, "The ids must contain between 1 and " + MAX_BATCH_SIZE + " notes");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+
+        List<UUID> notFoundIds = this.noteService.deleteByUserAndIdIn(loggedInUser, ids);
+
+        response.setData(new NoteDeletionResponseDTO((int) ids.stream().distinct().count() - notFoundIds.size(),
+                notFoundIds));
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     /**
      * Deletes all notes.
      * 
+     * @param loggedInUser The authenticated user.
      * @return A {@link ResponseEntity} with a
      *         {@link Response}<{@link NoteResponseDTO}> object.
-     * @throws UserNotFoundException if no user was found based in the username
-     *                               defined in the authentication.
-     * @throws NoteNotFoundException if no note was found with the provided id.
      */
     @Operation(summary = "Deletes all notes")
     @SecurityRequirement(name = "JWT token")
     @DeleteMapping
-    public ResponseEntity<Response<String>> deleteAll()
-            throws UserNotFoundException, NoteNotFoundException {
+    public ResponseEntity<Response<String>> deleteAll(@CurrentUser User loggedInUser) {
         Response<String> response = new Response<>();
 
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        this.verificationService.verifyIfUserExistsByUsername(username);
-        User loggedInUser = this.userService.findByUsername(username).get();
-
         this.noteService.deleteByUser(loggedInUser);
 
         response.setData("All notes were deleted successfully");
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    /**
+     * Writes each note of the provided user with the provided writer, as the
+     * notes are read from the database.
+     * 
+     * @param loggedInUser The authenticated user.
+     * @param writer       The {@link NoteWriter} of each note.
+     * @throws IOException If an error occurs while writing a note.
+     */
+    private void writeEachNote(User loggedInUser, NoteWriter writer) throws IOException {
+        try {
+            this.noteService.forEachByUser(loggedInUser, note -> {
+                try {
+                    writer.write(note);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Represents the writing of a note to an export.
+     */
+    @FunctionalInterface
+    private interface NoteWriter {
+
+        /**
+         * Writes the provided note.
+         * 
+         * @param note The {@link Note} to be written.
+         * @throws IOException If an error occurs while writing the note.
+         */
+        void write(Note note) throws IOException;
+
+    }
+
 }
\ No newline at end of file
@@ -3,7 +3,6 @@ package io.github.lsmcodes.notes_api.controller.user;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,12 +13,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import io.github.lsmcodes.notes_api.annotation.CurrentUser;
 import io.github.lsmcodes.notes_api.dto.model.security.AuthenticationDTO;
 import io.github.lsmcodes.notes_api.dto.model.user.UserRequestDTO;
 import io.github.lsmcodes.notes_api.dto.model.user.UserResponseDTO;
 import io.github.lsmcodes.notes_api.dto.response.Response;
 import io.github.lsmcodes.notes_api.enumeration.UserRole;
-import io.github.lsmcodes.notes_api.exception.UserNotFoundException;
 import io.github.lsmcodes.notes_api.exception.UsernameAlreadyExistsException;
 import io.github.lsmcodes.notes_api.model.user.User;
 import io.github.lsmcodes.notes_api.service.note.NoteService;
@@ -93,21 +92,15 @@ public class UserController {
     /**
      * Returns the logged-in user details.
      * 
+     * @param loggedInUser The authenticated user.
      * @return A {@link ResponseEntity} with a
      *         {@link Response}<{@link UserResponseDTO}> object.
-     * @throws UserNotFoundException If no user was found based in the username
-     *                               defined in authentication.
      */
     @Operation(summary = "Retrieves logged-in user details")
     @SecurityRequirement(name = "JWT token")
     @GetMapping
-    public ResponseEntity<Response<UserResponseDTO>> getLoggedInUser() throws UserNotFoundException {
+    public ResponseEntity<Response<UserResponseDTO>> getLoggedInUser(@CurrentUser(complete = true) User loggedInUser) {
         Response<UserResponseDTO> response = new Response<>();
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        this.verificationService.verifyIfUserExistsByUsername(username);
-        User loggedInUser = this.userService.findByUsername(username).get();
 
         response.setData(loggedInUser.entityToDTO());
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -117,21 +110,21 @@ public class UserController {
      * Updates the logged-in user details. After successfully updating user details,
      * the current token becomes invalid.
      * 
-     * @param dto    An {@link UserRequestDTO} containing the user credentials.
-     * @param result A {@link BindingResult} containing the result of the validation
-     *               checks on the {@link AuthenticationDTO}.
+     * @param loggedInUser The authenticated user.
+     * @param dto          An {@link UserRequestDTO} containing the user
+     *                     credentials.
+     * @param result       A {@link BindingResult} containing the result of the
+     *                     validation checks on the {@link AuthenticationDTO}.
      * @return A {@link ResponseEntity} with a
      *         {@link Response}<{@link UserResponseDTO}> object.
-     * @throws UserNotFoundException          If no user was found based in the
-     *                                        username defined in authentication.
      * @throws UsernameAlreadyExistsException If the provided username already
      *                                        exists in the database.
      */
     @Operation(summary = "Updates logged-in user details (invalidates the current JWT token, a new token must be issued, unless the details are reverted to their original values)")
     @SecurityRequirement(name = "JWT token")
     @PutMapping
-    public ResponseEntity<Response<UserResponseDTO>> updateLoggedInUser(@RequestBody @Valid UserRequestDTO dto,
-            BindingResult result) throws UserNotFoundException, UsernameAlreadyExistsException {
+    public ResponseEntity<Response<UserResponseDTO>> updateLoggedInUser(@CurrentUser(complete = true) User loggedInUser,
+            @RequestBody @Valid UserRequestDTO dto, BindingResult result) throws UsernameAlreadyExistsException {
         Response<UserResponseDTO> response = new Response<>();
 
         this.verificationService.verifyIfUsernameDoesNotExist(dto.getUsername());
@@ -143,16 +136,11 @@ public class UserController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
 
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        this.verificationService.verifyIfUserExistsByUsername(username);
-        User loggedInUser = this.userService.findByUsername(username).get();
-
         dto.setPassword(this.BCryptPasswordEncoder.encode(dto.getPassword()));
         loggedInUser.setName(dto.getName());
         loggedInUser.setUsername(dto.getUsername());
         loggedInUser.setPassword(dto.getPassword());
+        loggedInUser.setCredentialVersion(loggedInUser.getCredentialVersion() + 1);
         this.userService.save(loggedInUser);
 
         response.setData(loggedInUser.entityToDTO());
@@ -162,23 +150,16 @@ public class UserController {
     /**
      * Deletes the logged-in user.
      * 
+     * @param loggedInUser The authenticated user.
      * @return A {@link ResponseEntity} with a {@link Response}<{@link String}>
      *         object.
-     * @throws UserNotFoundException If no user was found based in the username
-     *                               defined in authentication.
      */
     @Operation(summary = "Deletes logged-in user")
     @SecurityRequirement(name = "JWT token")
     @DeleteMapping
-    public ResponseEntity<Response<String>> deleteLoggedInUser() throws UserNotFoundException {
+    public ResponseEntity<Response<String>> deleteLoggedInUser(@CurrentUser User loggedInUser) {
         Response<String> response = new Response<>();
 
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        this.verificationService.verifyIfUserExistsByUsername(username);
-        User loggedInUser = this.userService.findByUsername(username).get();
-
         this.noteService.deleteByUser(loggedInUser);
         this.userService.deleteById(loggedInUser.getId());
 
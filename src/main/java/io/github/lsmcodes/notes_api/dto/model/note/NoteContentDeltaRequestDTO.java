@@ -0,0 +1,30 @@
+package io.github.lsmcodes.notes_api.dto.model.note;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.github.lsmcodes.notes_api.model.note.Note;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+* Implements a Data Transfer Object (DTO) for requests applying a delta to the
+* content of a {@link Note}. The operations are applied in order to the
+* content the note had at {@code baseUpdatedAt}.
+*/
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteContentDeltaRequestDTO {
+
+    @NotNull(message = "Base updatedAt cannot be null")
+    private LocalDateTime baseUpdatedAt;
+
+    @NotNull(message = "Operations cannot be null")
+    private List<NoteContentOperationDTO> operations;
+
+}
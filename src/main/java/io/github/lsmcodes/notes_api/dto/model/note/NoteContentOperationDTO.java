@@ -0,0 +1,26 @@
+package io.github.lsmcodes.notes_api.dto.model.note;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+* Implements a Data Transfer Object (DTO) for a single operation of a
+* {@link NoteContentDeltaRequestDTO}. Exactly one of its members must be set:
+* {@code retain} keeps the next characters, {@code insert} adds a text and
+* {@code delete} removes the next characters.
+*/
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteContentOperationDTO {
+
+    private Integer retain;
+
+    private String insert;
+
+    private Integer delete;
+
+}
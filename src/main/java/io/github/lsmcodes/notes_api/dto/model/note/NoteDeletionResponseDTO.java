@@ -0,0 +1,26 @@
+package io.github.lsmcodes.notes_api.dto.model.note;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.github.lsmcodes.notes_api.model.note.Note;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+* Implements a Data Transfer Object (DTO) for responses to the deletion of
+* several {@link Note} objects at once.
+*/
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteDeletionResponseDTO {
+
+    private int deleted;
+
+    private List<UUID> notFoundIds;
+
+}
@@ -0,0 +1,29 @@
+package io.github.lsmcodes.notes_api.dto.model.note;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.github.lsmcodes.notes_api.model.note.Note;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+* Implements a Data Transfer Object (DTO) for a {@link Note} rejected by an
+* import, with the line where its record starts, or the file of the archive
+* it was read from.
+*/
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NoteImportErrorDTO {
+
+    private Long line;
+
+    private String file;
+
+    private String message;
+
+}
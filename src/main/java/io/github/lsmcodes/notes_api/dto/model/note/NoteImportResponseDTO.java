@@ -0,0 +1,28 @@
+package io.github.lsmcodes.notes_api.dto.model.note;
+
+import java.util.List;
+
+import io.github.lsmcodes.notes_api.model.note.Note;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+* Implements a Data Transfer Object (DTO) for responses to the import of
+* {@link Note} objects. Only the first rejected notes are detailed in the
+* errors, while every rejected note is counted.
+*/
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteImportResponseDTO {
+
+    private int accepted;
+
+    private int rejected;
+
+    private List<NoteImportErrorDTO> errors;
+
+}
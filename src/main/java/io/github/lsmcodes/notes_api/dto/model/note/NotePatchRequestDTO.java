@@ -0,0 +1,97 @@
+package io.github.lsmcodes.notes_api.dto.model.note;
+
+import java.util.List;
+
+import org.hibernate.validator.constraints.Length;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import io.github.lsmcodes.notes_api.model.note.Note;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+* Implements a Data Transfer Object (DTO) for JSON Merge Patch requests related
+* to {@link Note}. Only the members present in the request are applied: an
+* absent member keeps the current value, while a {@code null} tags member
+* removes every tag of the note.
+*/
+@Getter
+@NoArgsConstructor
+public class NotePatchRequestDTO {
+
+    private List<@NotNull(message = "Tags cannot contain null")
+            @Size(max = 30, message = "Tags must contain 30 characters or less") String> tags;
+
+    @Length(max = 100, message = "Title must contain 100 characters or less")
+    private String title;
+
+    private String content;
+
+    @JsonIgnore
+    private boolean tagsPresent;
+
+    @JsonIgnore
+    private boolean titlePresent;
+
+    @JsonIgnore
+    private boolean contentPresent;
+
+    /**
+     * Sets the tags and marks them as present in the request.
+     * 
+     * @param tags The names of the note tags, or {@code null} to remove them.
+     */
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+        this.tagsPresent = true;
+    }
+
+    /**
+     * Sets the title and marks it as present in the request.
+     * 
+     * @param title The note title.
+     */
+    public void setTitle(String title) {
+        this.title = title;
+        this.titlePresent = true;
+    }
+
+    /**
+     * Sets the content and marks it as present in the request.
+     * 
+     * @param content The note content.
+     */
+    public void setContent(String content) {
+        this.content = content;
+        this.contentPresent = true;
+    }
+
+    /**
+     * Verifies the title is not removed, as every note must have a title.
+     * 
+     * @return {@code true} if the title is absent or not {@code null};
+     *         {@code false} otherwise.
+     */
+    @JsonIgnore
+    @AssertTrue(message = "Title cannot be null")
+    public boolean isTitleValid() {
+        return !this.titlePresent || this.title != null;
+    }
+
+    /**
+     * Verifies the content is not removed, as every note must have a content.
+     * 
+     * @return {@code true} if the content is absent or not {@code null};
+     *         {@code false} otherwise.
+     */
+    @JsonIgnore
+    @AssertTrue(message = "Content cannot be null")
+    public boolean isContentValid() {
+        return !this.contentPresent || this.content != null;
+    }
+
+}
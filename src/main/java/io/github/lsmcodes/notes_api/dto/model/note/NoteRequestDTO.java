@@ -3,10 +3,10 @@ package io.github.lsmcodes.notes_api.dto.model.note;
 import java.util.List;
 
 import org.hibernate.validator.constraints.Length;
-import org.modelmapper.ModelMapper;
 
 import io.github.lsmcodes.notes_api.model.note.Note;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,7 +21,8 @@ import lombok.Setter;
 @AllArgsConstructor
 public class NoteRequestDTO {
 
-    private List<String> tags;
+    private List<@NotNull(message = "Tags cannot contain null")
+            @Size(max = 30, message = "Tags must contain 30 characters or less") String> tags;
 
     @NotNull(message = "Title cannot be null")
     @Length(max = 100, message = "Title must contain 100 characters or less")
@@ -31,12 +32,14 @@ public class NoteRequestDTO {
     private String content;
 
     /**
-     * Converts the current NoteDTO entity to a {@link Note}.
+     * Converts the current NoteDTO entity to a {@link Note}. The tags are left
+     * empty, as tag names are resolved against the tag dictionary of the note
+     * owner when the note is saved.
      * 
      * @return A {@link Note} instance representing the current NoteDTO.
      */
     public Note DTOToEntity() {
-        return new ModelMapper().map(this, Note.class);
+        return Note.builder().title(this.title).content(this.content).build();
     }
 
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.github.lsmcodes.notes_api.model.note.Note;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -12,11 +14,13 @@ import lombok.Setter;
 
 /**
 * Implements a Data Transfer Object (DTO) for responses related to {@link Note}.
+* Fields left out of a sparse fieldset are {@code null} and not serialized.
 */
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class NoteResponseDTO {
 
     private UUID id;
@@ -27,6 +31,8 @@ public class NoteResponseDTO {
 
     private String content;
 
+    private String snippet;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
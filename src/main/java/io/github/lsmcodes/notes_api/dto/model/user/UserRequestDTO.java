@@ -1,7 +1,6 @@
 package io.github.lsmcodes.notes_api.dto.model.user;
 
 import org.hibernate.validator.constraints.Length;
-import org.modelmapper.ModelMapper;
 
 import io.github.lsmcodes.notes_api.model.user.User;
 import jakarta.validation.constraints.NotNull;
@@ -35,7 +34,7 @@ public class UserRequestDTO {
      * @return A {@link User} instance representing the current UserDTO.
      */
     public User DTOToEntity() {
-        return new ModelMapper().map(this, User.class);
+        return User.builder().name(this.name).username(this.username).password(this.password).build();
     }
 
 }
\ No newline at end of file
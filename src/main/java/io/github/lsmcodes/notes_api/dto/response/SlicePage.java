@@ -0,0 +1,39 @@
+package io.github.lsmcodes.notes_api.dto.response;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Implements a page of results that only tells whether a next page exists,
+ * without the total number of elements and pages.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlicePage<T> {
+
+    private List<T> content;
+
+    private int number;
+
+    private int size;
+
+    private boolean hasNext;
+
+    /**
+     * Builds a new SlicePage from the provided {@link Slice}.
+     * 
+     * @param slice The {@link Slice} to be converted.
+     */
+    public SlicePage(Slice<T> slice) {
+        this(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+
+}
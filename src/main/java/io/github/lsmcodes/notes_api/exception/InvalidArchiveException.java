@@ -0,0 +1,17 @@
+package io.github.lsmcodes.notes_api.exception;
+
+/**
+ * Exception thrown when an imported archive is not a valid ZIP archive.
+ */
+public class InvalidArchiveException extends Exception {
+
+    /**
+     * Builds a new exception with the specified message.
+     * 
+     * @param message The exception description message.
+     */
+    public InvalidArchiveException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,18 @@
+package io.github.lsmcodes.notes_api.exception;
+
+/**
+ * Exception thrown when a content delta cannot be applied to the content of a
+ * note.
+ */
+public class InvalidContentDeltaException extends Exception {
+
+    /**
+     * Builds a new exception with the specified message.
+     * 
+     * @param message The exception description message.
+     */
+    public InvalidContentDeltaException(String message) {
+        super(message);
+    }
+
+}
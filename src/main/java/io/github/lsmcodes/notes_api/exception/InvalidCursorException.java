@@ -0,0 +1,17 @@
+package io.github.lsmcodes.notes_api.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ */
+public class InvalidCursorException extends Exception {
+
+    /**
+     * Builds a new exception with the specified message.
+     * 
+     * @param message The exception description message.
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,18 @@
+package io.github.lsmcodes.notes_api.exception;
+
+/**
+ * Exception thrown when the front matter of an imported Markdown note cannot
+ * be read.
+ */
+public class InvalidFrontMatterException extends Exception {
+
+    /**
+     * Builds a new exception with the specified message.
+     * 
+     * @param message The exception description message.
+     */
+    public InvalidFrontMatterException(String message) {
+        super(message);
+    }
+
+}
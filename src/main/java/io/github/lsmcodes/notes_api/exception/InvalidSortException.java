@@ -0,0 +1,17 @@
+package io.github.lsmcodes.notes_api.exception;
+
+/**
+ * Exception thrown when the notes cannot be sorted by the requested property.
+ */
+public class InvalidSortException extends Exception {
+
+    /**
+     * Builds a new exception with the specified message.
+     * 
+     * @param message The exception description message.
+     */
+    public InvalidSortException(String message) {
+        super(message);
+    }
+
+}
@@ -62,6 +62,96 @@ public class NotesApiExceptionHandler<T> {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    /**
+     * Handles {@link InvalidCursorException} and returns a customized
+     * {@link Response<T>}.
+     * 
+     * @param exception A {@link InvalidCursorException}.
+     * @return A {@link Response<T>} containing a 400 status.
+     */
+    @ExceptionHandler(value = { InvalidCursorException.class })
+    public ResponseEntity<Response<T>> handleInvalidCursorException(InvalidCursorException exception) {
+        Response<T> response = new Response<>();
+        response.setErrors(400, exception.getLocalizedMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Handles {@link InvalidSortException} and returns a customized
+     * {@link Response<T>}.
+     * 
+     * @param exception A {@link InvalidSortException}.
+     * @return A {@link Response<T>} containing a 400 status.
+     */
+    @ExceptionHandler(value = { InvalidSortException.class })
+    public ResponseEntity<Response<T>> handleInvalidSortException(InvalidSortException exception) {
+        Response<T> response = new Response<>();
+        response.setErrors(400, exception.getLocalizedMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Handles {@link InvalidContentDeltaException} and returns a customized
+     * {@link Response<T>}.
+     * 
+     * @param exception A {@link InvalidContentDeltaException}.
+     * @return A {@link Response<T>} containing a 400 status.
+     */
+    @ExceptionHandler(value = { InvalidContentDeltaException.class })
+    public ResponseEntity<Response<T>> handleInvalidContentDeltaException(InvalidContentDeltaException exception) {
+        Response<T> response = new Response<>();
+        response.setErrors(400, exception.getLocalizedMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Handles {@link StaleNoteException} and returns a customized
+     * {@link Response<T>}.
+     * 
+     * @param exception A {@link StaleNoteException}.
+     * @return A {@link Response<T>} containing a 409 status.
+     */
+    @ExceptionHandler(value = { StaleNoteException.class })
+    public ResponseEntity<Response<T>> handleStaleNoteException(StaleNoteException exception) {
+        Response<T> response = new Response<>();
+        response.setErrors(409, exception.getLocalizedMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Handles {@link InvalidArchiveException} and returns a customized
+     * {@link Response<T>}.
+     * 
+     * @param exception A {@link InvalidArchiveException}.
+     * @return A {@link Response<T>} containing a 400 status.
+     */
+    @ExceptionHandler(value = { InvalidArchiveException.class })
+    public ResponseEntity<Response<T>> handleInvalidArchiveException(InvalidArchiveException exception) {
+        Response<T> response = new Response<>();
+        response.setErrors(400, exception.getLocalizedMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Handles {@link TooManyImportsException} and returns a customized
+     * {@link Response<T>}.
+     * 
+     * @param exception A {@link TooManyImportsException}.
+     * @return A {@link Response<T>} containing a 503 status.
+     */
+    @ExceptionHandler(value = { TooManyImportsException.class })
+    public ResponseEntity<Response<T>> handleTooManyImportsException(TooManyImportsException exception) {
+        Response<T> response = new Response<>();
+        response.setErrors(503, exception.getLocalizedMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     /**
      * Handles {@link HttpMessageNotReadableException} and
      * {@link JsonParseException} returns a customized {@link Response<T>}.
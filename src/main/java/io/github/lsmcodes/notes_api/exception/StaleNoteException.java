@@ -0,0 +1,18 @@
+package io.github.lsmcodes.notes_api.exception;
+
+/**
+ * Exception thrown when a note was updated after the version a change is based
+ * on.
+ */
+public class StaleNoteException extends Exception {
+
+    /**
+     * Builds a new exception with the specified message.
+     * 
+     * @param message The exception description message.
+     */
+    public StaleNoteException(String message) {
+        super(message);
+    }
+
+}
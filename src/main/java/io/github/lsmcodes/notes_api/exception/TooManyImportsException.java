@@ -0,0 +1,18 @@
+package io.github.lsmcodes.notes_api.exception;
+
+/**
+ * Exception thrown when an import cannot start because every import writer is
+ * busy.
+ */
+public class TooManyImportsException extends Exception {
+
+    /**
+     * Builds a new exception with the specified message.
+     * 
+     * @param message The exception description message.
+     */
+    public TooManyImportsException(String message) {
+        super(message);
+    }
+
+}
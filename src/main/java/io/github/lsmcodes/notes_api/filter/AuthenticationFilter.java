@@ -5,6 +5,7 @@ import java.io.IOException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,6 +15,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import io.github.lsmcodes.notes_api.service.security.SecurityService;
 import io.github.lsmcodes.notes_api.service.security.TokenService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -38,6 +40,9 @@ public class AuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private SecurityService securityService;
 
+    @Value("${security.token.claims-only:false}")
+    private boolean claimsOnly;
+
     /**
      * Filters the request and response and passes them along the filter chain.
      * 
@@ -60,10 +65,21 @@ public class AuthenticationFilter extends OncePerRequestFilter {
             if (token != null) {
                 token = token.replace("Bearer ", "");
 
-                String username = this.tokenService.getSubjectFromToken(token);
-                UserDetails user = this.securityService.loadUserByUsername(username);
+                UsernamePasswordAuthenticationToken authentication;
+
+                if (this.claimsOnly) {
+                    Claims claims = this.tokenService.getClaimsFromToken(token);
+                    UserDetails user = this.securityService.loadUserByClaims(claims);
+
+                    authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+                    authentication.setDetails(claims);
+                } else {
+                    String username = this.tokenService.getSubjectFromToken(token);
+                    UserDetails user = this.securityService.loadUserByUsername(username);
+
+                    authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+                }
 
-                var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (ExpiredJwtException | UnsupportedJwtException | MalformedJwtException | SignatureException
@@ -1,26 +1,27 @@
 package io.github.lsmcodes.notes_api.model.note;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.SourceType;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.modelmapper.ModelMapper;
 
 import io.github.lsmcodes.notes_api.dto.model.note.NoteResponseDTO;
+import io.github.lsmcodes.notes_api.model.tag.Tag;
 import io.github.lsmcodes.notes_api.model.user.User;
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderBy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -44,11 +45,12 @@ public class Note {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @ElementCollection
-    @CollectionTable(name = "tags", joinColumns = @JoinColumn(name = "note_id"))
-    @Column(name = "tag", length = 30, nullable = false)
+    @ManyToMany
+    @JoinTable(name = "note_tags", joinColumns = @JoinColumn(name = "note_id"),
+            inverseJoinColumns = @JoinColumn(name = "tag_id"))
+    @OrderBy("name")
     @Builder.Default
-    private List<String> tags = new ArrayList<>();
+    private Set<Tag> tags = new LinkedHashSet<>();
 
     @Column(length = 100, nullable = false)
     private String title;
@@ -56,11 +58,11 @@ public class Note {
     @Column(nullable = false)
     private String content;
 
-    @CreationTimestamp(source = SourceType.DB)
+    @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
-    @UpdateTimestamp(source = SourceType.DB)
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
@@ -69,12 +71,15 @@ public class Note {
     private User user;
 
     /**
-     * Converts the current Note entity to a {@link NoteResponseDTO}.
+     * Converts the current Note entity to a {@link NoteResponseDTO}, with the
+     * names of its tags ordered by name, as tags added to a loaded note are
+     * appended to the set.
      * 
      * @return A {@link NoteResponseDTO} instance representing the current Note.
      */
     public NoteResponseDTO entityToDTO() {
-        return new ModelMapper().map(this, NoteResponseDTO.class);
+        List<String> tagNames = this.tags == null ? null : this.tags.stream().map(Tag::getName).sorted().toList();
+        return new NoteResponseDTO(this.id, tagNames, this.title, this.content, null, this.createdAt, this.updatedAt);
     }
 
 }
\ No newline at end of file
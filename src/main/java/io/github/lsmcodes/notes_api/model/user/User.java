@@ -4,7 +4,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -54,6 +53,9 @@ public class User implements UserDetails {
     @Column(length = 10, nullable = false)
     private UserRole role;
 
+    @Column(name = "credential_version", nullable = false)
+    private int credentialVersion;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority(getRole().toString()));
@@ -65,7 +67,8 @@ public class User implements UserDetails {
      * @return A {@link UserResponseDTO} instance representing the current User.
      */
     public UserResponseDTO entityToDTO() {
-        return new ModelMapper().map(this, UserResponseDTO.class);
+        String roleName = this.role == null ? null : this.role.toString();
+        return new UserResponseDTO(this.id, this.name, this.username, this.password, roleName);
     }
 
 }
\ No newline at end of file
@@ -1,22 +1,36 @@
 package io.github.lsmcodes.notes_api.repository.note;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import io.github.lsmcodes.notes_api.model.note.Note;
 import io.github.lsmcodes.notes_api.model.user.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 /**
- * Implements a Note repository with CRUD JPA methods and customized methods.
+ * Implements a Note repository with CRUD JPA methods, {@link Specification}
+ * queries and customized methods.
  */
-public interface NoteRepository extends JpaRepository<Note, UUID> {
+public interface NoteRepository extends JpaRepository<Note, UUID>, JpaSpecificationExecutor<Note> {
 
     /**
      * Verifies if a note exists by user and id.
@@ -35,66 +49,305 @@ public interface NoteRepository extends JpaRepository<Note, UUID> {
      * @return An {@link Optional} containing the note if found, or
      *         {@code Optional.empty()} if no note is found.
      */
-    @Query("SELECT n FROM notes n JOIN FETCH n.tags " +
+    @Query("SELECT n FROM notes n LEFT JOIN FETCH n.tags " +
             "WHERE n.user = :user AND n.id = :id")
     Optional<Note> findByUserAndId(User user, UUID id);
 
     /**
-     * Finds a {@link Page} of notes by user.
+     * Finds a note by user and id, without its tags, and locks its row until the
+     * end of the transaction, so concurrent changes to the note are applied one
+     * after the other.
+     * 
+     * @param user The note owner.
+     * @param id   The note id to be searched for.
+     * @return An {@link Optional} containing the locked note if found, or
+     *         {@code Optional.empty()} if no note is found.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM notes n WHERE n.user = :user AND n.id = :id")
+    Optional<Note> findForUpdateByUserAndId(User user, UUID id);
+
+    /**
+     * Finds a {@link Page} of note ids by user. Paging is applied by the database
+     * so tags can be fetched afterwards only for the notes of the page.
+     * 
+     * @param user     The notes owner.
+     * @param pageable The pagination and sorting information.
+     * @return A {@link Page} of note ids sorted as requested.
+     */
+    @Query(value = "SELECT n.id FROM notes n WHERE n.user = :user",
+            countQuery = "SELECT COUNT(n) FROM notes n WHERE n.user = :user")
+    Page<UUID> findIdsByUser(User user, Pageable pageable);
+
+    /**
+     * Finds a {@link Page} of ids of notes based on the provided user that contain
+     * the specified term in either the title or content, ignoring case.
+     * 
+     * @param user     The notes owner.
+     * @param term     The term to be searched for in the title or content of the
+     *                 notes.
+     * @param pageable The pagination and sorting information.
+     * @return A {@link Page} of ids of notes that contain the specified term in the
+     *         title or content.
+     */
+    @Query(value = "SELECT n.id FROM notes n " +
+            "WHERE n.user = :user AND (LOWER(n.title) LIKE LOWER(CONCAT('%', :term, '%')) " +
+            "OR LOWER(n.content) LIKE LOWER(CONCAT('%', :term, '%')))",
+            countQuery = "SELECT COUNT(n) FROM notes n " +
+                    "WHERE n.user = :user AND (LOWER(n.title) LIKE LOWER(CONCAT('%', :term, '%')) " +
+                    "OR LOWER(n.content) LIKE LOWER(CONCAT('%', :term, '%')))")
+    Page<UUID> findIdsByUserAndTitleOrContentContainingIgnoreCase(@Param("user") User user,
+            @Param("term") String term, Pageable pageable);
+
+    /**
+     * Finds a {@link Page} of ids of notes based on the provided user id that
+     * match the provided term with PostgreSQL full-text search. Only available on
+     * PostgreSQL, where the {@code search_vector} column exists.
+     * 
+     * @param userId   The notes owner id.
+     * @param term     The term to be searched for, in web search syntax.
+     * @param pageable The pagination information, sorted by column names.
+     * @return A {@link Page} of ids of the matching notes.
+     */
+    @Query(value = "SELECT n.id FROM notes n " +
+            "WHERE n.user_id = :userId AND n.search_vector @@ websearch_to_tsquery('simple', :term)",
+            countQuery = "SELECT COUNT(*) FROM notes n " +
+                    "WHERE n.user_id = :userId AND n.search_vector @@ websearch_to_tsquery('simple', :term)",
+            nativeQuery = true)
+    Page<UUID> searchIdsByUserId(UUID userId, String term, Pageable pageable);
+
+    /**
+     * Finds a {@link Slice} of ids of notes based on the provided user id that
+     * match the provided term with PostgreSQL full-text search, without counting
+     * the notes. Only available on PostgreSQL, where the {@code search_vector}
+     * column exists.
+     * 
+     * @param userId   The notes owner id.
+     * @param term     The term to be searched for, in web search syntax.
+     * @param pageable The pagination information, sorted by column names.
+     * @return A {@link Slice} of ids of the matching notes.
+     */
+    @Query(value = "SELECT n.id FROM notes n " +
+            "WHERE n.user_id = :userId AND n.search_vector @@ websearch_to_tsquery('simple', :term)",
+            nativeQuery = true)
+    Slice<UUID> searchIdSliceByUserId(UUID userId, String term, Pageable pageable);
+
+    /**
+     * Finds a {@link Page} of ids of notes based on the provided user id that
+     * match the provided term with PostgreSQL full-text search, ordered by
+     * relevance. Only available on PostgreSQL, where the {@code search_vector}
+     * column exists.
+     * 
+     * @param userId   The notes owner id.
+     * @param term     The term to be searched for, in web search syntax.
+     * @param pageable The pagination information, without sorting.
+     * @return A {@link Page} of ids of the matching notes, most relevant first.
+     */
+    @Query(value = "SELECT n.id FROM notes n " +
+            "WHERE n.user_id = :userId AND n.search_vector @@ websearch_to_tsquery('simple', :term) " +
+            "ORDER BY ts_rank(n.search_vector, websearch_to_tsquery('simple', :term)) DESC, n.id",
+            countQuery = "SELECT COUNT(*) FROM notes n " +
+                    "WHERE n.user_id = :userId AND n.search_vector @@ websearch_to_tsquery('simple', :term)",
+            nativeQuery = true)
+    Page<UUID> searchIdsByUserIdOrderByRank(UUID userId, String term, Pageable pageable);
+
+    /**
+     * Finds a {@link Page} of ids of notes based on the provided user that have at
+     * least one of the specified tags.
+     * 
+     * @param user     The notes owner.
+     * @param tagIds   The ids of the tags to be searched for in the notes.
+     * @param pageable The pagination and sorting information.
+     * @return A {@link Page} of ids of notes that contain at least one of the
+     *         specified tags.
+     */
+    @Query(value = "SELECT n.id FROM notes n " +
+            "WHERE n.user = :user AND EXISTS (SELECT 1 FROM n.tags t WHERE t.id IN (:tagIds))",
+            countQuery = "SELECT COUNT(n) FROM notes n " +
+                    "WHERE n.user = :user AND EXISTS (SELECT 1 FROM n.tags t WHERE t.id IN (:tagIds))")
+    Page<UUID> findIdsByUserAndTagIdIn(User user, Collection<Long> tagIds, Pageable pageable);
+
+    /**
+     * Finds a {@link Slice} of note ids by user without counting the notes.
      * 
      * @param user     The notes owner.
      * @param pageable The pagination and sorting information.
-     * @return A {@link Page} of notes sorted by creation date.
+     * @return A {@link Slice} of note ids sorted as requested.
      */
-    @Query("SELECT n FROM notes n JOIN FETCH n.tags " +
-            "WHERE n.user = :user")
-    Page<Note> findByUser(User user, Pageable pageable);
+    @Query("SELECT n.id FROM notes n WHERE n.user = :user")
+    Slice<UUID> findIdSliceByUser(User user, Pageable pageable);
 
     /**
-     * Finds notes based on the provided user that contain the specified term in
-     * either the title or content, ignoring case.
+     * Finds a {@link Slice} of ids of notes based on the provided user that
+     * contain the specified term in either the title or content, ignoring case,
+     * without counting the notes.
      * 
      * @param user     The notes owner.
      * @param term     The term to be searched for in the title or content of the
      *                 notes.
      * @param pageable The pagination and sorting information.
-     * @return A {@link Page} of notes that contain the specified term in the title
-     *         or content.
+     * @return A {@link Slice} of ids of notes that contain the specified term in
+     *         the title or content.
      */
-    @Query("SELECT n FROM notes n JOIN FETCH n.tags " +
-            "WHERE n.user = :user AND LOWER(n.title) LIKE LOWER(CONCAT('%', :term, '%')) " +
-            "OR LOWER(n.content) LIKE LOWER(CONCAT('%', :term, '%'))")
-    Page<Note> findByUserAndTitleOrContentContainingIgnoreCase(@Param("user") User user, @Param("term") String term,
-            Pageable pageable);
+    @Query("SELECT n.id FROM notes n " +
+            "WHERE n.user = :user AND (LOWER(n.title) LIKE LOWER(CONCAT('%', :term, '%')) " +
+            "OR LOWER(n.content) LIKE LOWER(CONCAT('%', :term, '%')))")
+    Slice<UUID> findIdSliceByUserAndTitleOrContentContainingIgnoreCase(@Param("user") User user,
+            @Param("term") String term, Pageable pageable);
 
     /**
-     * Finds notes based on the provided user that have at least one of the
-     * specified tags, ignoring case.
+     * Finds a {@link Slice} of ids of notes based on the provided user that have
+     * at least one of the specified tags, without counting the notes.
      * 
      * @param user     The notes owner.
-     * @param tags     The {@link List} of tags to be searched for in the notes.
+     * @param tagIds   The ids of the tags to be searched for in the notes.
      * @param pageable The pagination and sorting information.
-     * @return A {@link Page} of notes that contain at least one of the specified
+     * @return A {@link Slice} of ids of notes that contain at least one of the
+     *         specified tags.
+     */
+    @Query("SELECT n.id FROM notes n " +
+            "WHERE n.user = :user AND EXISTS (SELECT 1 FROM n.tags t WHERE t.id IN (:tagIds))")
+    Slice<UUID> findIdSliceByUserAndTagIdIn(User user, Collection<Long> tagIds, Pageable pageable);
+
+    /**
+     * Finds the notes with the provided ids, fetching their tags in the same query.
+     * The order of the returned notes is unspecified.
+     * 
+     * @param ids The ids of the notes to be searched for.
+     * @return A {@link List} of the found notes with their tags initialized.
+     */
+    @Query("SELECT DISTINCT n FROM notes n LEFT JOIN FETCH n.tags " +
+            "WHERE n.id IN (:ids)")
+    List<Note> findAllWithTagsByIdIn(Collection<UUID> ids);
+
+    /**
+     * Finds the summaries of the notes with the provided ids, without reading
+     * their content. The order of the returned summaries is unspecified.
+     * 
+     * @param ids The ids of the notes to be searched for.
+     * @return A {@link List} of the found {@link NoteSummary} objects, without
+     *         tags or snippet.
+     */
+    @Query("SELECT new io.github.lsmcodes.notes_api.repository.note.NoteSummary(" +
+            "n.id, n.title, n.createdAt, n.updatedAt) FROM notes n WHERE n.id IN (:ids)")
+    List<NoteSummary> findSummariesByIdIn(Collection<UUID> ids);
+
+    /**
+     * Finds the summaries of the notes with the provided ids, with a snippet
+     * computed from the beginning of their content, which is the only part of
+     * the content read from the database. The order of the returned summaries
+     * is unspecified.
+     * 
+     * @param ids           The ids of the notes to be searched for.
+     * @param contentLength The number of characters read from the beginning of
+     *                      the content.
+     * @return A {@link List} of the found {@link NoteSummary} objects, without
      *         tags.
      */
-    @Query("SELECT n FROM notes n JOIN FETCH n.tags t " +
-            "WHERE n.user = :user " +
-            "AND LOWER(t) IN (:tags)")
-    Page<Note> findByUserAndTagsInIgnoreCase(User user, List<String> tags, Pageable pageable);
+    @Query("SELECT new io.github.lsmcodes.notes_api.repository.note.NoteSummary(" +
+            "n.id, n.title, SUBSTRING(n.content, 1, :contentLength), n.createdAt, n.updatedAt) " +
+            "FROM notes n WHERE n.id IN (:ids)")
+    List<NoteSummary> findSummariesWithSnippetByIdIn(Collection<UUID> ids, int contentLength);
+
+    /**
+     * Finds the tag names of the notes with the provided ids, ordered by name,
+     * without loading the notes or their tags.
+     * 
+     * @param ids The ids of the notes whose tag names are searched for.
+     * @return A {@link List} of {@link NoteTagName} projections.
+     */
+    @Query("SELECT n.id AS noteId, t.name AS name FROM notes n JOIN n.tags t " +
+            "WHERE n.id IN (:ids) ORDER BY t.name")
+    List<NoteTagName> findTagNamesByNoteIdIn(Collection<UUID> ids);
+
+    /**
+     * Streams all the notes of the provided user with their tags, ordered by id,
+     * reading the rows from a database cursor in chunks of the fetch size instead
+     * of loading them all at once. The notes are read-only, and the stream must be
+     * consumed and closed within a transaction.
+     * 
+     * @param user The notes owner.
+     * @return A {@link Stream} of the notes with their tags initialized.
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT n FROM notes n LEFT JOIN FETCH n.tags WHERE n.user = :user ORDER BY n.id")
+    Stream<Note> streamByUser(User user);
+
+    /**
+     * Updates the title and content of a note based on the provided user and id
+     * in a single statement, without loading the note. A {@code null} title or
+     * content keeps the current value, so only the supplied values are sent to
+     * the database.
+     * 
+     * @param user      The notes owner.
+     * @param id        The id of the note to be updated.
+     * @param title     The new title, or {@code null} to keep the current one.
+     * @param content   The new content, or {@code null} to keep the current one.
+     * @param updatedAt The new update date, taken from the application clock as
+     *                  for notes saved through the entity.
+     * @return The number of updated notes.
+     */
+    @Modifying
+    @Query("UPDATE notes n SET n.title = COALESCE(:title, n.title), n.content = COALESCE(:content, n.content), " +
+            "n.updatedAt = :updatedAt WHERE n.user = :user AND n.id = :id")
+    int updateTitleAndContentByUserAndId(User user, UUID id, String title, String content, LocalDateTime updatedAt);
+
+    /**
+     * Finds the update date of a note based on the provided user and id, without
+     * loading the note.
+     * 
+     * @param user The notes owner.
+     * @param id   The id of the note.
+     * @return An {@link Optional} containing the update date of the note, or
+     *         empty if no note is found.
+     */
+    @Query("SELECT n.updatedAt FROM notes n WHERE n.user = :user AND n.id = :id")
+    Optional<LocalDateTime> findUpdatedAtByUserAndId(User user, UUID id);
 
     /**
-     * Deletes a note based on the provided user and id.
+     * Deletes a note based on the provided user and id in a single statement. The
+     * note tags are removed by the database.
      * 
      * @param user The notes owner.
      * @param id   The id of the note to be deleted.
+     * @return The number of deleted notes.
+     */
+    @Modifying
+    @Query("DELETE FROM notes n WHERE n.user = :user AND n.id = :id")
+    int deleteByUserAndId(User user, UUID id);
+
+    /**
+     * Finds the ids of the notes of the provided user among the provided ids.
+     * 
+     * @param user The notes owner.
+     * @param ids  The note ids to be searched for.
+     * @return A {@link List} of the ids of the existing notes.
+     */
+    @Query("SELECT n.id FROM notes n WHERE n.user = :user AND n.id IN (:ids)")
+    List<UUID> findIdsByUserAndIdIn(User user, Collection<UUID> ids);
+
+    /**
+     * Deletes the notes of the provided user among the provided ids in a single
+     * statement. The note tags are removed by the database.
+     * 
+     * @param user The notes owner.
+     * @param ids  The ids of the notes to be deleted.
+     * @return The number of deleted notes.
      */
-    void deleteByUserAndId(User user, UUID id);
+    @Modifying
+    @Query("DELETE FROM notes n WHERE n.user = :user AND n.id IN (:ids)")
+    int deleteByUserAndIdIn(User user, Collection<UUID> ids);
 
     /**
-     * Delete notes based on the provided user.
+     * Deletes the notes of the provided user with set-based statements, first
+     * removing their tags and then the notes, without loading them.
      * 
      * @param user The notes owner.
+     * @return The number of deleted notes.
      */
-    void deleteByUser(User user);
+    @Modifying
+    @Query("DELETE FROM notes n WHERE n.user = :user")
+    int deleteByUser(User user);
 
 }
\ No newline at end of file
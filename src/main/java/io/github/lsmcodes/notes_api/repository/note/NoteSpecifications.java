@@ -0,0 +1,65 @@
+package io.github.lsmcodes.notes_api.repository.note;
+
+import java.util.Collection;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.tag.Tag;
+import io.github.lsmcodes.notes_api.model.user.User;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Provides {@link Specification} factories used to filter notes in queries
+ * built at runtime, such as keyset scrolling.
+ */
+public final class NoteSpecifications {
+
+    private NoteSpecifications() {
+    }
+
+    /**
+     * Matches the notes owned by the provided user.
+     * 
+     * @param user The notes owner.
+     * @return A {@link Specification} matching the notes of the user.
+     */
+    public static Specification<Note> hasUser(User user) {
+        return (root, query, builder) -> builder.equal(root.get("user"), user);
+    }
+
+    /**
+     * Matches the notes whose title or content contains the provided term,
+     * ignoring case.
+     * 
+     * @param term The term to be searched for in the title or content of the
+     *             notes.
+     * @return A {@link Specification} matching the notes containing the term.
+     */
+    public static Specification<Note> titleOrContentContainsIgnoreCase(String term) {
+        return (root, query, builder) -> {
+            String pattern = "%" + term.toLowerCase(Locale.ROOT) + "%";
+            return builder.or(builder.like(builder.lower(root.get("title")), pattern),
+                    builder.like(builder.lower(root.get("content")), pattern));
+        };
+    }
+
+    /**
+     * Matches the notes having at least one of the provided tags.
+     * 
+     * @param tagIds The ids of the tags to be searched for.
+     * @return A {@link Specification} matching the notes with any of the tags.
+     */
+    public static Specification<Note> hasAnyTag(Collection<Long> tagIds) {
+        return (root, query, builder) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Join<Note, Tag> tag = subquery.correlate(root).join("tags");
+
+            subquery.select(builder.literal(1)).where(tag.get("id").in(tagIds));
+            return builder.exists(subquery);
+        };
+    }
+
+}
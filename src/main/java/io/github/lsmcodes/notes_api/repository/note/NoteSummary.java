@@ -0,0 +1,76 @@
+package io.github.lsmcodes.notes_api.repository.note;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteResponseDTO;
+import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.util.NoteFieldsUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+* Represents a {@link Note} without its content, read by the summary queries of
+* {@link NoteRepository} as a DTO projection. Only the beginning of the content
+* is read from the database, and only when a snippet is requested.
+*/
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteSummary {
+
+    private UUID id;
+
+    private List<String> tags;
+
+    private String title;
+
+    private String snippet;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    /**
+     * Creates a summary without a snippet.
+     * 
+     * @param id        The note id.
+     * @param title     The note title.
+     * @param createdAt The note creation date.
+     * @param updatedAt The note update date.
+     */
+    public NoteSummary(UUID id, String title, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, null, title, null, createdAt, updatedAt);
+    }
+
+    /**
+     * Creates a summary with the snippet of the provided beginning of the note
+     * content.
+     * 
+     * @param id           The note id.
+     * @param title        The note title.
+     * @param contentStart The first {@link NoteFieldsUtil#SNIPPET_SOURCE_LENGTH}
+     *                     characters of the note content, plus one if the
+     *                     content goes on.
+     * @param createdAt    The note creation date.
+     * @param updatedAt    The note update date.
+     */
+    public NoteSummary(UUID id, String title, String contentStart, LocalDateTime createdAt,
+            LocalDateTime updatedAt) {
+        this(id, null, title, NoteFieldsUtil.snippet(contentStart), createdAt, updatedAt);
+    }
+
+    /**
+     * Converts the current summary to a {@link NoteResponseDTO} without content.
+     * 
+     * @return A {@link NoteResponseDTO} instance representing the current summary.
+     */
+    public NoteResponseDTO summaryToDTO() {
+        return new NoteResponseDTO(this.id, this.tags, this.title, null, this.snippet, this.createdAt, this.updatedAt);
+    }
+
+}
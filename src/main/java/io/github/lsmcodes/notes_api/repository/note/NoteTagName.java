@@ -0,0 +1,26 @@
+package io.github.lsmcodes.notes_api.repository.note;
+
+import java.util.UUID;
+
+/**
+ * Interface projection of a tag name of a note, read by
+ * {@link NoteRepository#findTagNamesByNoteIdIn(java.util.Collection)} without
+ * loading the notes or their tags as entities.
+ */
+public interface NoteTagName {
+
+    /**
+     * Returns the id of the note.
+     * 
+     * @return The note id.
+     */
+    UUID getNoteId();
+
+    /**
+     * Returns the name of the tag.
+     * 
+     * @return The tag name.
+     */
+    String getName();
+
+}
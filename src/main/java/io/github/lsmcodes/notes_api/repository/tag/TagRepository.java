@@ -0,0 +1,37 @@
+package io.github.lsmcodes.notes_api.repository.tag;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import io.github.lsmcodes.notes_api.model.tag.Tag;
+import io.github.lsmcodes.notes_api.model.user.User;
+
+/**
+ * Implements a Tag repository with CRUD JPA methods and customized methods.
+ */
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    /**
+     * Finds the tags of the provided user with any of the provided names.
+     * 
+     * @param user  The tags owner.
+     * @param names The lower case names of the tags.
+     * @return A {@link List} of the tags found.
+     */
+    List<Tag> findByUserAndNameIn(User user, Collection<String> names);
+
+    /**
+     * Finds the ids of the tags of the provided user with any of the provided
+     * names.
+     * 
+     * @param user  The tags owner.
+     * @param names The lower case names of the tags.
+     * @return A {@link List} of the ids of the tags found.
+     */
+    @Query("SELECT t.id FROM tags t WHERE t.user = :user AND t.name IN (:names)")
+    List<Long> findIdsByUserAndNameIn(User user, Collection<String> names);
+
+}
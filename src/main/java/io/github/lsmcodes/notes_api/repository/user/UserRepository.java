@@ -4,6 +4,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import io.github.lsmcodes.notes_api.model.user.User;
 
@@ -29,4 +30,14 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     Optional<User> findByUsername(String username);
 
+    /**
+     * Finds the credential version of an user by the provided id.
+     * 
+     * @param id The id of the user to be searched for.
+     * @return An {@link Optional} containing the credential version if the user
+     *         is found, otherwise an {@code Optional.empty()}.
+     */
+    @Query("SELECT u.credentialVersion FROM users u WHERE u.id = :id")
+    Optional<Integer> findCredentialVersionById(UUID id);
+
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package io.github.lsmcodes.notes_api.resolver;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import io.github.lsmcodes.notes_api.annotation.CurrentUser;
+import io.github.lsmcodes.notes_api.exception.UserNotFoundException;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.service.user.UserService;
+import io.jsonwebtoken.Claims;
+
+/**
+ * Resolves handler method parameters annotated with {@link CurrentUser} from
+ * the principal of the current authentication.
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && User.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    /**
+     * Returns the {@link User} already loaded by the authentication filter. The
+     * user is only looked up when the principal is not a {@link User}, or when a
+     * complete user is required and the principal was built from token claims.
+     * 
+     * @throws UserNotFoundException if no user was found based in the username
+     *                               defined in the authentication.
+     */
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws UserNotFoundException {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null) {
+            throw new UserNotFoundException("There is no authenticated user");
+        }
+
+        if (authentication.getPrincipal() instanceof User user) {
+            boolean builtFromClaims = authentication.getDetails() instanceof Claims;
+
+            if (builtFromClaims && parameter.getParameterAnnotation(CurrentUser.class).complete()) {
+                return this.userService.findById(user.getId())
+                        .orElseThrow(() -> new UserNotFoundException("There is no user with the provided id"));
+            }
+
+            return user;
+        }
+
+        return this.userService.findByUsername(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("There is no user with the provided username"));
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.github.lsmcodes.notes_api.service.note;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteImportResponseDTO;
+import io.github.lsmcodes.notes_api.exception.InvalidArchiveException;
+import io.github.lsmcodes.notes_api.exception.TooManyImportsException;
+import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.util.NoteImportReader;
+
+/**
+ * Provides methods for importing {@link Note} objects in bulk. Imported notes
+ * are validated one at a time and saved in chunks, each in its own
+ * transaction, so an import is never held in memory all at once. Invalid notes
+ * are rejected without stopping the import.
+ */
+public interface NoteImportService {
+
+    /**
+     * Imports the notes read by the provided reader for the provided user.
+     * 
+     * @param user   The owner of the notes.
+     * @param reader The {@link NoteImportReader} of the import.
+     * @return A {@link NoteImportResponseDTO} counting the accepted and rejected
+     *         notes, with the line where each rejected note starts.
+     * @throws IOException If an error occurs while reading the import.
+     */
+    NoteImportResponseDTO importNotes(User user, NoteImportReader reader) throws IOException;
+
+    /**
+     * Imports the Markdown files of the provided ZIP archive for the provided
+     * user, one note per file. The entries are read as they arrive, while their
+     * front matter is parsed and validated in parallel; the notes are then saved
+     * in the order of the entries.
+     * 
+     * @param user    The owner of the notes.
+     * @param archive The {@link InputStream} of the ZIP archive.
+     * @return A {@link NoteImportResponseDTO} counting the accepted and rejected
+     *         notes, with the file of each rejected note.
+     * @throws IOException             If an error occurs while reading the
+     *                                 archive.
+     * @throws InvalidArchiveException If the archive is not a valid ZIP archive.
+     * @throws TooManyImportsException If every import writer is busy.
+     */
+    NoteImportResponseDTO importZip(User user, InputStream archive)
+            throws IOException, InvalidArchiveException, TooManyImportsException;
+
+}
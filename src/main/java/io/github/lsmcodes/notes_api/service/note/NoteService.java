@@ -1,14 +1,27 @@
 package io.github.lsmcodes.notes_api.service.note;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import io.github.lsmcodes.notes_api.dto.model.note.NoteContentOperationDTO;
+import io.github.lsmcodes.notes_api.exception.InvalidContentDeltaException;
+import io.github.lsmcodes.notes_api.exception.NoteNotFoundException;
+import io.github.lsmcodes.notes_api.exception.StaleNoteException;
 import io.github.lsmcodes.notes_api.model.note.Note;
 import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.note.NoteSummary;
 
 /**
  * Provides methods for manipulating Note objects.
@@ -23,6 +36,30 @@ public interface NoteService {
      */
     Note save(Note note);
 
+    /**
+     * Saves the provided Note object to the database with the provided tags,
+     * resolved against the tag dictionary of the note owner.
+     * 
+     * @param note     The Note object to be saved, with its owner set.
+     * @param tagNames The names of the note tags, in any case. May be
+     *                 {@code null}.
+     * @return The saved Note object.
+     */
+    Note save(Note note, List<String> tagNames);
+
+    /**
+     * Saves the provided new Note objects of the provided user to the database
+     * in a single transaction, resolving the tags of all the notes against the
+     * tag dictionary of the user at once.
+     * 
+     * @param user     The owner of the notes.
+     * @param notes    The new Note objects to be saved.
+     * @param tagNames The names of the tags of each note, in any case, in the
+     *                 order of the notes. An element may be {@code null}.
+     * @return The saved Note objects, in the provided order.
+     */
+    List<Note> saveAll(User user, List<Note> notes, List<List<String>> tagNames);
+
     /**
      * Checks whether a note exists based on the provided user and id.
      * 
@@ -42,6 +79,17 @@ public interface NoteService {
      */
     Optional<Note> findByUserAndId(User user, UUID id);
 
+    /**
+     * Retrieves a note based on the provided user and id, checking its existence
+     * in the same query.
+     * 
+     * @param user The owner of the note.
+     * @param id   The id of the note to be searched for.
+     * @return The retrieved note.
+     * @throws NoteNotFoundException If no note is found.
+     */
+    Note getByUserAndId(User user, UUID id) throws NoteNotFoundException;
+
     /**
      * Retrieves a {@link Page} of notes from the provided user.
      * 
@@ -54,16 +102,27 @@ public interface NoteService {
 
     /**
      * Retrieves notes based on the provided user where the title or content
-     * contains the provided term.
+     * contains the provided term, using the configured search engine.
      * 
      * @param user     The owner of the notes.
      * @param term     The term to be searched for.
-     * @param pageable The pagination and sorting information.
+     * @param pageable The pagination and sorting information. An unsorted
+     *                 pageable orders the notes by relevance when the search
+     *                 engine supports it.
      * @return An {@link Page} of notes containing the term, or
      *         {@code Page.empty()} if no notes match.
      */
     Page<Note> findByUserAndTitleOrContentContainingIgnoreCase(User user, String term, Pageable pageable);
 
+    /**
+     * Tells whether the configured search engine can order the notes found by
+     * a term by relevance.
+     * 
+     * @return {@code true} if the notes can be sorted by relevance;
+     *         {@code false} otherwise.
+     */
+    boolean isRelevanceSortSupported();
+
     /**
      * Retrieves notes based on the provided user that have at least one tag from
      * the specified list of tags.
@@ -77,12 +136,250 @@ public interface NoteService {
     Page<Note> findByUserAndTagsInIgnoreCase(User user, List<String> tags, Pageable pageable);
 
     /**
-     * Deletes a note based on the provided user and id.
+     * Retrieves a {@link Slice} of notes from the provided user without counting
+     * the notes.
+     * 
+     * @param user     The owner of the notes.
+     * @param pageable The pagination and sorting information.
+     * @return A {@link Slice} of notes telling whether there is a next slice.
+     */
+    Slice<Note> findSliceByUser(User user, Pageable pageable);
+
+    /**
+     * Retrieves a {@link Slice} of notes based on the provided user where the
+     * title or content contains the provided term, using the configured search
+     * engine, without counting the notes.
+     * 
+     * @param user     The owner of the notes.
+     * @param term     The term to be searched for.
+     * @param pageable The pagination and sorting information.
+     * @return A {@link Slice} of notes containing the term.
+     */
+    Slice<Note> findSliceByUserAndTitleOrContentContainingIgnoreCase(User user, String term, Pageable pageable);
+
+    /**
+     * Retrieves a {@link Slice} of notes based on the provided user that have at
+     * least one tag from the specified list of tags, without counting the notes.
+     * 
+     * @param user     The owner of the notes.
+     * @param tags     A {@link List} of tags to be searched for.
+     * @param pageable The pagination and sorting information.
+     * @return A {@link Slice} of notes with any of the specified tags.
+     */
+    Slice<Note> findSliceByUserAndTagsInIgnoreCase(User user, List<String> tags, Pageable pageable);
+
+    /**
+     * Retrieves a {@link Page} of note summaries from the provided user, without
+     * reading the content of the notes.
+     * 
+     * @param user        The owner of the notes.
+     * @param pageable    The pagination and sorting information.
+     * @param fields      The selected fields. A snippet is computed from the
+     *                    beginning of the content of each note, and the tags are
+     *                    read, only when selected.
+     * @return A {@link Page} of {@link NoteSummary} objects, with their tags when
+     *         selected.
+     */
+    Page<NoteSummary> findSummariesByUser(User user, Pageable pageable, Set<String> fields);
+
+    /**
+     * Retrieves a {@link Page} of summaries of the notes based on the provided
+     * user where the title or content contains the provided term, using the
+     * configured search engine, without reading the content of the notes.
+     * 
+     * @param user        The owner of the notes.
+     * @param term        The term to be searched for.
+     * @param pageable    The pagination and sorting information. An unsorted
+     *                    pageable orders the notes by relevance when the search
+     *                    engine supports it.
+     * @param fields      The selected fields. A snippet is computed from the
+     *                    beginning of the content of each note, and the tags are
+     *                    read, only when selected.
+     * @return A {@link Page} of {@link NoteSummary} objects, with their tags when
+     *         selected.
+     */
+    Page<NoteSummary> findSummariesByUserAndTitleOrContentContainingIgnoreCase(User user, String term,
+            Pageable pageable, Set<String> fields);
+
+    /**
+     * Retrieves a {@link Page} of summaries of the notes based on the provided
+     * user that have at least one tag from the specified list of tags, without
+     * reading the content of the notes.
+     * 
+     * @param user        The owner of the notes.
+     * @param tags        A {@link List} of tags to be searched for.
+     * @param pageable    The pagination and sorting information.
+     * @param fields      The selected fields. A snippet is computed from the
+     *                    beginning of the content of each note, and the tags are
+     *                    read, only when selected.
+     * @return A {@link Page} of {@link NoteSummary} objects, with their tags when
+     *         selected.
+     */
+    Page<NoteSummary> findSummariesByUserAndTagsInIgnoreCase(User user, List<String> tags, Pageable pageable,
+            Set<String> fields);
+
+    /**
+     * Retrieves a {@link Slice} of note summaries from the provided user without
+     * counting the notes or reading their content.
+     * 
+     * @param user        The owner of the notes.
+     * @param pageable    The pagination and sorting information.
+     * @param fields      The selected fields. A snippet is computed from the
+     *                    beginning of the content of each note, and the tags are
+     *                    read, only when selected.
+     * @return A {@link Slice} of {@link NoteSummary} objects, with their tags when
+     *         selected.
+     */
+    Slice<NoteSummary> findSummarySliceByUser(User user, Pageable pageable, Set<String> fields);
+
+    /**
+     * Retrieves a {@link Slice} of summaries of the notes based on the provided
+     * user where the title or content contains the provided term, using the
+     * configured search engine, without counting the notes or reading their
+     * content.
+     * 
+     * @param user        The owner of the notes.
+     * @param term        The term to be searched for.
+     * @param pageable    The pagination and sorting information.
+     * @param fields      The selected fields. A snippet is computed from the
+     *                    beginning of the content of each note, and the tags are
+     *                    read, only when selected.
+     * @return A {@link Slice} of {@link NoteSummary} objects, with their tags when
+     *         selected.
+     */
+    Slice<NoteSummary> findSummarySliceByUserAndTitleOrContentContainingIgnoreCase(User user, String term,
+            Pageable pageable, Set<String> fields);
+
+    /**
+     * Retrieves a {@link Slice} of summaries of the notes based on the provided
+     * user that have at least one tag from the specified list of tags, without
+     * counting the notes or reading their content.
+     * 
+     * @param user        The owner of the notes.
+     * @param tags        A {@link List} of tags to be searched for.
+     * @param pageable    The pagination and sorting information.
+     * @param fields      The selected fields. A snippet is computed from the
+     *                    beginning of the content of each note, and the tags are
+     *                    read, only when selected.
+     * @return A {@link Slice} of {@link NoteSummary} objects, with their tags when
+     *         selected.
+     */
+    Slice<NoteSummary> findSummarySliceByUserAndTagsInIgnoreCase(User user, List<String> tags, Pageable pageable,
+            Set<String> fields);
+
+    /**
+     * Retrieves a {@link Window} of notes from the provided user after the
+     * provided keyset position, without counting the notes.
+     * 
+     * @param user     The owner of the notes.
+     * @param position The {@link KeysetScrollPosition} after which notes are
+     *                 retrieved.
+     * @param sort     The sorting information, ending with the note id.
+     * @param limit    The maximum number of notes to be retrieved.
+     * @return A {@link Window} of notes with their tags.
+     */
+    Window<Note> scrollByUser(User user, KeysetScrollPosition position, Sort sort, int limit);
+
+    /**
+     * Retrieves a {@link Window} of notes based on the provided user where the
+     * title or content contains the provided term, using the configured search
+     * engine, after the provided keyset position.
+     * 
+     * @param user     The owner of the notes.
+     * @param term     The term to be searched for.
+     * @param position The {@link KeysetScrollPosition} after which notes are
+     *                 retrieved.
+     * @param sort     The sorting information, ending with the note id.
+     * @param limit    The maximum number of notes to be retrieved.
+     * @return A {@link Window} of notes containing the term.
+     */
+    Window<Note> scrollByUserAndTitleOrContentContainingIgnoreCase(User user, String term,
+            KeysetScrollPosition position, Sort sort, int limit);
+
+    /**
+     * Retrieves a {@link Window} of notes based on the provided user that have at
+     * least one tag from the specified list of tags, after the provided keyset
+     * position.
+     * 
+     * @param user     The owner of the notes.
+     * @param tags     A {@link List} of tags to be searched for.
+     * @param position The {@link KeysetScrollPosition} after which notes are
+     *                 retrieved.
+     * @param sort     The sorting information, ending with the note id.
+     * @param limit    The maximum number of notes to be retrieved.
+     * @return A {@link Window} of notes with any of the specified tags.
+     */
+    Window<Note> scrollByUserAndTagsInIgnoreCase(User user, List<String> tags, KeysetScrollPosition position,
+            Sort sort, int limit);
+
+    /**
+     * Performs the provided action for each note of the provided user, with its
+     * tags, ordered by id. The notes are read from a database cursor and each one
+     * is detached once the action returns, so memory use does not grow with the
+     * number of notes.
+     * 
+     * @param user   The owner of the notes.
+     * @param action The action to be performed for each note.
+     */
+    void forEachByUser(User user, Consumer<Note> action);
+
+    /**
+     * Updates the supplied title and content of a note based on the provided
+     * user and id with a single statement, without loading the note or its tags.
+     * 
+     * @param user    The owner of the note.
+     * @param id      The id of the note to be updated.
+     * @param title   The new title, or {@code null} to keep the current one.
+     * @param content The new content, or {@code null} to keep the current one.
+     * @return The update date of the note, which is unchanged when neither the
+     *         title nor the content is supplied.
+     * @throws NoteNotFoundException If no note is found.
+     */
+    LocalDateTime updateByUserAndId(User user, UUID id, String title, String content) throws NoteNotFoundException;
+
+    /**
+     * Applies the provided operations to the content of a note based on the
+     * provided user and id. The note is locked while the operations are applied,
+     * and they are only applied if the note was not updated after the provided
+     * base.
+     * 
+     * @param user          The owner of the note.
+     * @param id            The id of the note to be updated.
+     * @param baseUpdatedAt The update date of the note content the operations
+     *                      are based on.
+     * @param operations    The retain, insert and delete operations to be
+     *                      applied, in order.
+     * @return The updated Note object, without its tags.
+     * @throws NoteNotFoundException        If no note is found.
+     * @throws StaleNoteException           If the note was updated after the
+     *                                      provided base.
+     * @throws InvalidContentDeltaException If the operations cannot be applied to
+     *                                      the note content.
+     */
+    Note updateContentByUserAndId(User user, UUID id, LocalDateTime baseUpdatedAt,
+            List<NoteContentOperationDTO> operations)
+            throws NoteNotFoundException, StaleNoteException, InvalidContentDeltaException;
+
+    /**
+     * Deletes a note based on the provided user and id, checking its existence
+     * through the number of deleted rows.
      * 
      * @param user The owner of the note.
      * @param id   The id of the note to be deleted.
+     * @throws NoteNotFoundException If no note is found.
+     */
+    void deleteByUserAndId(User user, UUID id) throws NoteNotFoundException;
+
+    /**
+     * Deletes the notes with the provided ids that belong to the provided user
+     * with set-based statements.
+     * 
+     * @param user The owner of the notes.
+     * @param ids  The ids of the notes to be deleted.
+     * @return A {@link List} of the provided ids for which no note of the user
+     *         was found.
      */
-    void deleteByUserAndId(User user, UUID id);
+    List<UUID> deleteByUserAndIdIn(User user, Collection<UUID> ids);
 
     /**
      * Deletes notes based on the provided user.
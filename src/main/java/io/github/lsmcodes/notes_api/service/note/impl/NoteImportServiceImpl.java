@@ -0,0 +1,441 @@
+package io.github.lsmcodes.notes_api.service.note.impl;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteImportErrorDTO;
+import io.github.lsmcodes.notes_api.dto.model.note.NoteImportResponseDTO;
+import io.github.lsmcodes.notes_api.dto.model.note.NoteRequestDTO;
+import io.github.lsmcodes.notes_api.exception.InvalidArchiveException;
+import io.github.lsmcodes.notes_api.exception.InvalidFrontMatterException;
+import io.github.lsmcodes.notes_api.exception.TooManyImportsException;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.service.note.NoteImportService;
+import io.github.lsmcodes.notes_api.service.note.NoteService;
+import io.github.lsmcodes.notes_api.util.NoteImportReader;
+import io.github.lsmcodes.notes_api.util.NoteImportReader.NoteImportRecord;
+import io.github.lsmcodes.notes_api.util.NoteMarkdownUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+
+/**
+ * Implements {@link NoteImportService} interface methods. A ZIP import runs as
+ * a pipeline: the request thread reads the entries, a shared pool of parser
+ * threads reads and validates their front matter, and a writer thread saves
+ * the notes in chunks. The parsed entries reach the writer in the order of the
+ * archive through a bounded queue, which also stops the reading while the
+ * writer falls behind, so memory stays bounded whatever the archive size. Each
+ * writer holds a database connection while it saves a chunk, so the writer
+ * pool is limited to half the connection pool and an import that finds every
+ * writer busy is rejected rather than left waiting. As chunks are saved while
+ * the archive is still being read, an archive that turns out to be corrupted
+ * or truncated after some notes were saved is reported with those notes, and
+ * only one where no note was saved is rejected as a whole.
+ */
+@Service
+public class NoteImportServiceImpl implements NoteImportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final int MAX_CHUNK_CONTENT_LENGTH = 8 * 1024 * 1024;
+
+    private static final int MAX_ERRORS = 100;
+
+    private static final int MAX_ENTRY_SIZE = 1024 * 1024;
+
+    private static final int PARSER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final int QUEUE_CAPACITY = 4 * PARSER_THREADS;
+
+    private static final long QUEUE_TIMEOUT_MILLIS = 100;
+
+    private static final byte[] LOCAL_FILE_HEADER_SIGNATURE = { 'P', 'K', 3, 4 };
+
+    private static final byte[] EMPTY_ARCHIVE_SIGNATURE = { 'P', 'K', 5, 6 };
+
+    private static final Future<ParsedEntry> END = CompletableFuture.completedFuture(null);
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
+    private ExecutorService parsers;
+
+    private ExecutorService writers;
+
+    private Semaphore imports;
+
+    /**
+     * Represents an entry of an archive after its front matter is parsed and
+     * validated.
+     * 
+     * @param file  The name of the entry.
+     * @param dto   The {@link NoteRequestDTO} read from the entry, or
+     *              {@code null} if the entry was rejected.
+     * @param error The reason why the entry was rejected, or {@code null} if it
+     *              was accepted.
+     */
+    private record ParsedEntry(String file, NoteRequestDTO dto, String error) {
+
+    }
+
+    /**
+     * Represents the notes waiting to be saved by an import.
+     */
+    private static class Chunk {
+
+        private final List<NoteRequestDTO> notes = new ArrayList<>(CHUNK_SIZE);
+
+        private long contentLength;
+
+    }
+
+    /**
+     * Starts the parser threads and the pool of writer threads, which runs at
+     * most half as many writers as there are database connections, and allows
+     * as many ZIP imports at once as there are writers.
+     */
+    @PostConstruct
+    public void start() {
+        int writerThreads = Math.max(1, this.maximumPoolSize / 2);
+
+        this.parsers = Executors.newFixedThreadPool(PARSER_THREADS,
+                Thread.ofPlatform().name("note-import-parser-", 0).daemon().factory());
+        this.writers = Executors.newFixedThreadPool(writerThreads,
+                Thread.ofPlatform().name("note-import-writer-", 0).daemon().factory());
+        this.imports = new Semaphore(writerThreads);
+    }
+
+    /**
+     * Stops the parser and writer threads, interrupting the running imports.
+     */
+    @PreDestroy
+    public void stop() {
+        this.parsers.shutdownNow();
+        this.writers.shutdownNow();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NoteImportResponseDTO importNotes(User user, NoteImportReader reader) throws IOException {
+        NoteImportResponseDTO result = new NoteImportResponseDTO(0, 0, new ArrayList<>());
+        Chunk chunk = new Chunk();
+
+        for (NoteImportRecord record = reader.next(); record != null; record = reader.next()) {
+            String error = record.error() != null ? record.error() : this.validate(record.dto());
+
+            if (error != null) {
+                this.reject(result, new NoteImportErrorDTO(record.line(), null, error));
+            } else {
+                this.add(user, chunk, record.dto(), result);
+            }
+        }
+
+        this.save(user, chunk, result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NoteImportResponseDTO importZip(User user, InputStream archive)
+            throws IOException, InvalidArchiveException, TooManyImportsException {
+        if (!this.imports.tryAcquire()) {
+            throw new TooManyImportsException("Too many imports are running, try again later");
+        }
+
+        try {
+            return this.readZip(user, archive);
+        } finally {
+            this.imports.release();
+        }
+    }
+
+    /**
+     * Reads the entries of the provided ZIP archive and hands them to the
+     * parsers and then to a writer, which saves their notes in order.
+     * 
+     * @param user    The owner of the notes.
+     * @param archive The {@link InputStream} of the ZIP archive.
+     * @return A {@link NoteImportResponseDTO} counting the accepted and rejected
+     *         notes, with the file of each rejected note.
+     * @throws IOException             If an error occurs while reading the
+     *                                 archive.
+     * @throws InvalidArchiveException If the archive is not a valid ZIP archive
+     *                                 and no note was saved.
+     */
+    private NoteImportResponseDTO readZip(User user, InputStream archive) throws IOException, InvalidArchiveException {
+        BlockingQueue<Future<ParsedEntry>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        Future<NoteImportResponseDTO> writer = this.writers.submit(() -> this.write(user, queue));
+        String file = null;
+
+        try (ZipInputStream zip = new ZipInputStream(this.checkSignature(archive), StandardCharsets.UTF_8)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                String name = entry.getName();
+
+                if (entry.isDirectory() || !name.toLowerCase(Locale.ROOT).endsWith(".md")) {
+                    continue;
+                }
+
+                file = name;
+                byte[] bytes = zip.readNBytes(MAX_ENTRY_SIZE + 1);
+                file = null;
+
+                this.enqueue(queue, bytes.length > MAX_ENTRY_SIZE
+                        ? CompletableFuture.completedFuture(new ParsedEntry(name, null,
+                                "The file must contain " + MAX_ENTRY_SIZE + " bytes or less"))
+                        : this.parsers.submit(() -> this.parse(name, bytes)), writer);
+            }
+
+            this.enqueue(queue, END, writer);
+            return this.await(writer);
+        } catch (ZipException | EOFException e) {
+            this.enqueue(queue, END, writer);
+            return this.reportInvalidArchive(this.await(writer), new NoteImportErrorDTO(null, file,
+                    "The archive is not a valid ZIP archive: " + e.getMessage()));
+        } catch (IOException | InvalidArchiveException | RuntimeException e) {
+            writer.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Checks that the provided archive starts with the signature of a ZIP
+     * archive, as {@link ZipInputStream} reads any other content as an archive
+     * without entries.
+     * 
+     * @param archive The {@link InputStream} of the archive.
+     * @return An {@link InputStream} of the whole archive.
+     * @throws IOException             If an error occurs while reading the
+     *                                 archive.
+     * @throws InvalidArchiveException If the archive does not start with the
+     *                                 signature of a ZIP archive.
+     */
+    private InputStream checkSignature(InputStream archive) throws IOException, InvalidArchiveException {
+        PushbackInputStream stream = new PushbackInputStream(archive, LOCAL_FILE_HEADER_SIGNATURE.length);
+        byte[] signature = stream.readNBytes(LOCAL_FILE_HEADER_SIGNATURE.length);
+
+        if (!Arrays.equals(signature, LOCAL_FILE_HEADER_SIGNATURE)
+                && !Arrays.equals(signature, EMPTY_ARCHIVE_SIGNATURE)) {
+            throw new InvalidArchiveException("The archive is not a valid ZIP archive: it has no ZIP header");
+        }
+
+        stream.unread(signature);
+        return stream;
+    }
+
+    /**
+     * Reports an archive that could not be read to its end, once the notes read
+     * before the error are saved.
+     * 
+     * @param result The {@link NoteImportResponseDTO} of the entries read before
+     *               the error.
+     * @param error  The {@link NoteImportErrorDTO} of the archive, with the file
+     *               being read when the error occurred, if any.
+     * @return The provided {@link NoteImportResponseDTO}, with the error of the
+     *         archive after the errors of the rejected notes.
+     * @throws InvalidArchiveException If no note was saved.
+     */
+    private NoteImportResponseDTO reportInvalidArchive(NoteImportResponseDTO result, NoteImportErrorDTO error)
+            throws InvalidArchiveException {
+        if (result.getAccepted() == 0) {
+            throw new InvalidArchiveException(error.getMessage());
+        }
+
+        result.getErrors().add(error);
+        return result;
+    }
+
+    /**
+     * Reads the note of the provided entry and validates it.
+     * 
+     * @param file  The name of the entry.
+     * @param bytes The UTF-8 content of the entry.
+     * @return The {@link ParsedEntry} of the entry.
+     */
+    private ParsedEntry parse(String file, byte[] bytes) {
+        try {
+            NoteRequestDTO dto = NoteMarkdownUtil.fromMarkdown(file, new String(bytes, StandardCharsets.UTF_8));
+            String error = this.validate(dto);
+            return new ParsedEntry(file, error == null ? dto : null, error);
+        } catch (InvalidFrontMatterException e) {
+            return new ParsedEntry(file, null, e.getMessage());
+        }
+    }
+
+    /**
+     * Saves the notes of the parsed entries taken from the provided queue, in
+     * order, until the end of the archive is reached.
+     * 
+     * @param user  The owner of the notes.
+     * @param queue The {@link BlockingQueue} of the parsed entries.
+     * @return The {@link NoteImportResponseDTO} of the import.
+     * @throws InterruptedException If the import is interrupted.
+     * @throws ExecutionException   If an entry could not be parsed.
+     */
+    private NoteImportResponseDTO write(User user, BlockingQueue<Future<ParsedEntry>> queue)
+            throws InterruptedException, ExecutionException {
+        NoteImportResponseDTO result = new NoteImportResponseDTO(0, 0, new ArrayList<>());
+        Chunk chunk = new Chunk();
+
+        for (Future<ParsedEntry> item = queue.take(); item != END; item = queue.take()) {
+            ParsedEntry entry = item.get();
+
+            if (entry.error() != null) {
+                this.reject(result, new NoteImportErrorDTO(null, entry.file(), entry.error()));
+            } else {
+                this.add(user, chunk, entry.dto(), result);
+            }
+        }
+
+        this.save(user, chunk, result);
+        return result;
+    }
+
+    /**
+     * Adds the provided parsed entry to the queue, waiting while the queue is
+     * full unless the writer has stopped.
+     * 
+     * @param queue  The {@link BlockingQueue} of the parsed entries.
+     * @param item   The {@link Future} of the parsed entry.
+     * @param writer The {@link Future} of the writer.
+     * @throws IOException If the import is interrupted.
+     */
+    private void enqueue(BlockingQueue<Future<ParsedEntry>> queue, Future<ParsedEntry> item,
+            Future<NoteImportResponseDTO> writer) throws IOException {
+        try {
+            while (!queue.offer(item, QUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (writer.isDone()) {
+                    this.await(writer);
+                    throw new IllegalStateException("The import writer stopped before the end of the archive");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("The import was interrupted");
+        }
+    }
+
+    /**
+     * Waits for the writer to save the last notes and returns its result.
+     * 
+     * @param writer The {@link Future} of the writer.
+     * @return The {@link NoteImportResponseDTO} of the import.
+     * @throws IOException If the import is interrupted.
+     */
+    private NoteImportResponseDTO await(Future<NoteImportResponseDTO> writer) throws IOException {
+        try {
+            return writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("The import was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException("The import writer failed", e.getCause());
+        }
+    }
+
+    /**
+     * Validates the provided note.
+     * 
+     * @param dto The {@link NoteRequestDTO} to be validated.
+     * @return The validation messages of the note, sorted and joined, or
+     *         {@code null} if the note is valid.
+     */
+    private String validate(NoteRequestDTO dto) {
+        List<String> errorMessages = this.validator.validate(dto).stream().map(violation -> violation.getMessage())
+                .sorted().toList();
+
+        return errorMessages.isEmpty() ? null : String.join("; ", errorMessages);
+    }
+
+    /**
+     * Counts a rejected note, keeping its error if fewer errors were kept than
+     * the maximum.
+     * 
+     * @param result The {@link NoteImportResponseDTO} of the import.
+     * @param error  The {@link NoteImportErrorDTO} of the rejected note.
+     */
+    private void reject(NoteImportResponseDTO result, NoteImportErrorDTO error) {
+        result.setRejected(result.getRejected() + 1);
+
+        if (result.getErrors().size() < MAX_ERRORS) {
+            result.getErrors().add(error);
+        }
+    }
+
+    /**
+     * Adds the provided note to the chunk, saving the chunk when it is full.
+     * 
+     * @param user   The owner of the notes.
+     * @param chunk  The {@link Chunk} of notes to be saved.
+     * @param dto    The {@link NoteRequestDTO} to be added.
+     * @param result The {@link NoteImportResponseDTO} of the import.
+     */
+    private void add(User user, Chunk chunk, NoteRequestDTO dto, NoteImportResponseDTO result) {
+        chunk.notes.add(dto);
+        chunk.contentLength += dto.getContent().length();
+
+        if (chunk.notes.size() == CHUNK_SIZE || chunk.contentLength >= MAX_CHUNK_CONTENT_LENGTH) {
+            this.save(user, chunk, result);
+        }
+    }
+
+    /**
+     * Saves the notes of the chunk in a single transaction, counts them as
+     * accepted and empties the chunk.
+     * 
+     * @param user   The owner of the notes.
+     * @param chunk  The {@link Chunk} of notes to be saved.
+     * @param result The {@link NoteImportResponseDTO} of the import.
+     */
+    private void save(User user, Chunk chunk, NoteImportResponseDTO result) {
+        if (chunk.notes.isEmpty()) {
+            return;
+        }
+
+        this.noteService.saveAll(user, chunk.notes.stream().map(dto -> dto.DTOToEntity()).toList(),
+                chunk.notes.stream().map(dto -> dto.getTags()).toList());
+
+        result.setAccepted(result.getAccepted() + chunk.notes.size());
+        chunk.notes.clear();
+        chunk.contentLength = 0;
+    }
+
+}
@@ -1,18 +1,52 @@
 package io.github.lsmcodes.notes_api.service.note.impl;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import io.github.lsmcodes.notes_api.dto.model.note.NoteContentOperationDTO;
+import io.github.lsmcodes.notes_api.exception.InvalidContentDeltaException;
+import io.github.lsmcodes.notes_api.exception.NoteNotFoundException;
+import io.github.lsmcodes.notes_api.exception.StaleNoteException;
 import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.tag.Tag;
 import io.github.lsmcodes.notes_api.model.user.User;
 import io.github.lsmcodes.notes_api.repository.note.NoteRepository;
+import io.github.lsmcodes.notes_api.repository.note.NoteSpecifications;
+import io.github.lsmcodes.notes_api.repository.note.NoteSummary;
+import io.github.lsmcodes.notes_api.repository.note.NoteTagName;
 import io.github.lsmcodes.notes_api.service.note.NoteService;
+import io.github.lsmcodes.notes_api.service.search.NoteSearchService;
+import io.github.lsmcodes.notes_api.service.tag.TagService;
+import io.github.lsmcodes.notes_api.util.NoteContentDeltaUtil;
+import io.github.lsmcodes.notes_api.util.NoteFieldsUtil;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 
 /**
@@ -24,12 +58,58 @@ public class NoteServiceImpl implements NoteService {
     @Autowired
     private NoteRepository noteRepository;
 
+    @Autowired
+    private NoteSearchService noteSearchService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Note save(Note note) {
-        return this.noteRepository.save(note);
+        Note savedNote = this.noteRepository.save(note);
+        this.noteSearchService.index(savedNote);
+        return savedNote;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public Note save(Note note, List<String> tagNames) {
+        this.updateTags(note, tagNames);
+        return this.save(note);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public List<Note> saveAll(User user, List<Note> notes, List<List<String>> tagNames) {
+        Set<String> names = tagNames.stream().filter(Objects::nonNull).flatMap(List::stream)
+                .map(name -> name.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+        Map<String, Tag> tagsByName = this.tagService.resolve(user, names).stream()
+                .collect(Collectors.toMap(Tag::getName, Function.identity()));
+
+        for (int i = 0; i < notes.size(); i++) {
+            Note note = notes.get(i);
+            note.setUser(user);
+
+            if (tagNames.get(i) != null) {
+                tagNames.get(i).forEach(name -> note.getTags().add(tagsByName.get(name.toLowerCase(Locale.ROOT))));
+            }
+        }
+
+        List<Note> savedNotes = this.noteRepository.saveAll(notes);
+        savedNotes.forEach(this.noteSearchService::index);
+        return savedNotes;
     }
 
     /**
@@ -48,12 +128,21 @@ public class NoteServiceImpl implements NoteService {
         return this.noteRepository.findByUserAndId(user, id);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Note getByUserAndId(User user, UUID id) throws NoteNotFoundException {
+        return this.noteRepository.findByUserAndId(user, id)
+                .orElseThrow(() -> new NoteNotFoundException("There is no note with the provided id"));
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Page<Note> findByUser(User user, Pageable pageable) {
-        return this.noteRepository.findByUser(user, pageable);
+        return this.fetchPage(this.noteRepository.findIdsByUser(user, pageable));
     }
 
     /**
@@ -61,7 +150,15 @@ public class NoteServiceImpl implements NoteService {
      */
     @Override
     public Page<Note> findByUserAndTitleOrContentContainingIgnoreCase(User user, String term, Pageable pageable) {
-        return this.noteRepository.findByUserAndTitleOrContentContainingIgnoreCase(user, term, pageable);
+        return this.fetchPage(this.noteSearchService.searchIds(user, term, pageable));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRelevanceSortSupported() {
+        return this.noteSearchService.supportsRelevance();
     }
 
     /**
@@ -69,7 +166,214 @@ public class NoteServiceImpl implements NoteService {
      */
     @Override
     public Page<Note> findByUserAndTagsInIgnoreCase(User user, List<String> tags, Pageable pageable) {
-        return this.noteRepository.findByUserAndTagsInIgnoreCase(user, tags, pageable);
+        List<Long> tagIds = this.tagService.findIds(user, tags);
+
+        if (tagIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        return this.fetchPage(this.noteRepository.findIdsByUserAndTagIdIn(user, tagIds, pageable));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Slice<Note> findSliceByUser(User user, Pageable pageable) {
+        return this.fetchSlice(this.noteRepository.findIdSliceByUser(user, pageable));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Slice<Note> findSliceByUserAndTitleOrContentContainingIgnoreCase(User user, String term,
+            Pageable pageable) {
+        return this.fetchSlice(this.noteSearchService.searchIdSlice(user, term, pageable));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Slice<Note> findSliceByUserAndTagsInIgnoreCase(User user, List<String> tags, Pageable pageable) {
+        List<Long> tagIds = this.tagService.findIds(user, tags);
+
+        if (tagIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        return this.fetchSlice(this.noteRepository.findIdSliceByUserAndTagIdIn(user, tagIds, pageable));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<NoteSummary> findSummariesByUser(User user, Pageable pageable, Set<String> fields) {
+        Page<UUID> idsPage = this.noteRepository.findIdsByUser(user, pageable);
+        return new PageImpl<>(this.fetchSummaries(idsPage.getContent(), fields), idsPage.getPageable(),
+                idsPage.getTotalElements());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<NoteSummary> findSummariesByUserAndTitleOrContentContainingIgnoreCase(User user, String term,
+            Pageable pageable, Set<String> fields) {
+        Page<UUID> idsPage = this.noteSearchService.searchIds(user, term, pageable);
+        return new PageImpl<>(this.fetchSummaries(idsPage.getContent(), fields), idsPage.getPageable(),
+                idsPage.getTotalElements());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<NoteSummary> findSummariesByUserAndTagsInIgnoreCase(User user, List<String> tags,
+            Pageable pageable, Set<String> fields) {
+        List<Long> tagIds = this.tagService.findIds(user, tags);
+
+        if (tagIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Page<UUID> idsPage = this.noteRepository.findIdsByUserAndTagIdIn(user, tagIds, pageable);
+        return new PageImpl<>(this.fetchSummaries(idsPage.getContent(), fields), idsPage.getPageable(),
+                idsPage.getTotalElements());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Slice<NoteSummary> findSummarySliceByUser(User user, Pageable pageable, Set<String> fields) {
+        Slice<UUID> idsSlice = this.noteRepository.findIdSliceByUser(user, pageable);
+        return new SliceImpl<>(this.fetchSummaries(idsSlice.getContent(), fields), idsSlice.getPageable(),
+                idsSlice.hasNext());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Slice<NoteSummary> findSummarySliceByUserAndTitleOrContentContainingIgnoreCase(User user, String term,
+            Pageable pageable, Set<String> fields) {
+        Slice<UUID> idsSlice = this.noteSearchService.searchIdSlice(user, term, pageable);
+        return new SliceImpl<>(this.fetchSummaries(idsSlice.getContent(), fields), idsSlice.getPageable(),
+                idsSlice.hasNext());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Slice<NoteSummary> findSummarySliceByUserAndTagsInIgnoreCase(User user, List<String> tags,
+            Pageable pageable, Set<String> fields) {
+        List<Long> tagIds = this.tagService.findIds(user, tags);
+
+        if (tagIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        Slice<UUID> idsSlice = this.noteRepository.findIdSliceByUserAndTagIdIn(user, tagIds, pageable);
+        return new SliceImpl<>(this.fetchSummaries(idsSlice.getContent(), fields), idsSlice.getPageable(),
+                idsSlice.hasNext());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public Window<Note> scrollByUser(User user, KeysetScrollPosition position, Sort sort, int limit) {
+        return this.scroll(NoteSpecifications.hasUser(user), position, sort, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public Window<Note> scrollByUserAndTitleOrContentContainingIgnoreCase(User user, String term,
+            KeysetScrollPosition position, Sort sort, int limit) {
+        return this.fetchWindow(this.noteSearchService.scrollIds(user, term, position, sort, limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public Window<Note> scrollByUserAndTagsInIgnoreCase(User user, List<String> tags, KeysetScrollPosition position,
+            Sort sort, int limit) {
+        List<Long> tagIds = this.tagService.findIds(user, tags);
+
+        if (tagIds.isEmpty()) {
+            return Window.from(List.of(), index -> position);
+        }
+
+        return this.scroll(NoteSpecifications.hasUser(user).and(NoteSpecifications.hasAnyTag(tagIds)), position,
+                sort, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public void forEachByUser(User user, Consumer<Note> action) {
+        try (Stream<Note> notes = this.noteRepository.streamByUser(user)) {
+            notes.forEach(note -> {
+                action.accept(note);
+                this.entityManager.detach(note);
+            });
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public LocalDateTime updateByUserAndId(User user, UUID id, String title, String content)
+            throws NoteNotFoundException {
+        if (title == null && content == null) {
+            return this.noteRepository.findUpdatedAtByUserAndId(user, id)
+                    .orElseThrow(() -> new NoteNotFoundException("There is no note with the provided id"));
+        }
+
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        if (this.noteRepository.updateTitleAndContentByUserAndId(user, id, title, content, updatedAt) == 0) {
+            throw new NoteNotFoundException("There is no note with the provided id");
+        }
+
+        this.noteSearchService.indexById(id);
+        return updatedAt;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public Note updateContentByUserAndId(User user, UUID id, LocalDateTime baseUpdatedAt,
+            List<NoteContentOperationDTO> operations)
+            throws NoteNotFoundException, StaleNoteException, InvalidContentDeltaException {
+        Note note = this.noteRepository.findForUpdateByUserAndId(user, id)
+                .orElseThrow(() -> new NoteNotFoundException("There is no note with the provided id"));
+
+        if (!note.getUpdatedAt().equals(baseUpdatedAt)) {
+            throw new StaleNoteException("The note was updated after the provided base");
+        }
+
+        note.setContent(NoteContentDeltaUtil.apply(note.getContent(), operations));
+
+        Note savedNote = this.noteRepository.saveAndFlush(note);
+        this.noteSearchService.index(savedNote);
+        return savedNote;
     }
 
     /**
@@ -77,8 +381,30 @@ public class NoteServiceImpl implements NoteService {
      */
     @Transactional
     @Override
-    public void deleteByUserAndId(User user, UUID id) {
-        this.noteRepository.deleteByUserAndId(user, id);
+    public void deleteByUserAndId(User user, UUID id) throws NoteNotFoundException {
+        if (this.noteRepository.deleteByUserAndId(user, id) == 0) {
+            throw new NoteNotFoundException("There is no note with the provided id");
+        }
+
+        this.noteSearchService.deleteById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public List<UUID> deleteByUserAndIdIn(User user, Collection<UUID> ids) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        List<UUID> foundIds = this.noteRepository.findIdsByUserAndIdIn(user, distinctIds);
+
+        if (!foundIds.isEmpty()) {
+            this.noteRepository.deleteByUserAndIdIn(user, foundIds);
+            this.noteSearchService.deleteAllById(foundIds);
+        }
+
+        distinctIds.removeAll(foundIds);
+        return List.copyOf(distinctIds);
     }
 
     /**
@@ -88,6 +414,149 @@ public class NoteServiceImpl implements NoteService {
     @Override
     public void deleteByUser(User user) {
         this.noteRepository.deleteByUser(user);
+        this.noteSearchService.deleteByUser(user);
+    }
+
+    /**
+     * Updates the tags of the provided note in place, so only the added and
+     * removed tags are written to the database. The tags are left untouched, and
+     * the tag dictionary is not queried, when the names match the current tags.
+     * 
+     * @param note     The note whose tags are updated.
+     * @param tagNames The names of the note tags, in any case. May be
+     *                 {@code null}.
+     */
+    private void updateTags(Note note, List<String> tagNames) {
+        Set<String> names = tagNames == null ? Set.of()
+                : tagNames.stream().map(name -> name.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+        Set<String> currentNames = note.getTags().stream().map(Tag::getName).collect(Collectors.toSet());
+
+        if (names.equals(currentNames)) {
+            return;
+        }
+
+        Set<Tag> tags = this.tagService.resolve(note.getUser(), names);
+        note.getTags().retainAll(tags);
+        note.getTags().addAll(tags);
+    }
+
+    /**
+     * Loads the notes of a {@link Page} of ids, with their tags, in a single query
+     * and keeps the order of the ids page.
+     * 
+     * @param idsPage The {@link Page} of note ids.
+     * @return A {@link Page} of notes with the same pagination information.
+     */
+    private Page<Note> fetchPage(Page<UUID> idsPage) {
+        return new PageImpl<>(this.fetchNotes(idsPage.getContent()), idsPage.getPageable(),
+                idsPage.getTotalElements());
+    }
+
+    /**
+     * Loads the notes of a {@link Slice} of ids, with their tags, in a single
+     * query and keeps the order of the ids slice.
+     * 
+     * @param idsSlice The {@link Slice} of note ids.
+     * @return A {@link Slice} of notes with the same pagination information.
+     */
+    private Slice<Note> fetchSlice(Slice<UUID> idsSlice) {
+        return new SliceImpl<>(this.fetchNotes(idsSlice.getContent()), idsSlice.getPageable(),
+                idsSlice.hasNext());
+    }
+
+    /**
+     * Loads the notes of a {@link Window} of ids, with their tags, in a single
+     * query and keeps the order and the positions of the ids window.
+     * 
+     * @param idsWindow The {@link Window} of note ids.
+     * @return A {@link Window} of notes with the same positions.
+     */
+    private Window<Note> fetchWindow(Window<UUID> idsWindow) {
+        Map<UUID, ScrollPosition> positions = new HashMap<>();
+
+        for (int i = 0; i < idsWindow.size(); i++) {
+            positions.put(idsWindow.getContent().get(i), idsWindow.positionAt(i));
+        }
+
+        List<Note> notes = this.fetchNotes(idsWindow.getContent());
+        return Window.from(notes, index -> positions.get(notes.get(index).getId()), idsWindow.hasNext());
+    }
+
+    /**
+     * Loads the notes with the provided ids, with their tags, in a single query
+     * and keeps the order of the ids. Notes deleted in the meantime are left out.
+     * 
+     * @param ids The ids of the notes to be loaded.
+     * @return A {@link List} of notes in the order of the ids.
+     */
+    private List<Note> fetchNotes(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Note> notesById = this.noteRepository.findAllWithTagsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Note::getId, Function.identity()));
+        return ids.stream().map(notesById::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Loads the summaries of the notes with the provided ids and then, if they
+     * are selected, their tag names, in queries that never read the whole
+     * content, and keeps the order of the ids. Notes deleted in the meantime are
+     * left out.
+     * 
+     * @param ids    The ids of the notes to be loaded.
+     * @param fields The selected fields. A snippet is computed from the
+     *               beginning of the content of each note, and the tags are read,
+     *               only when selected.
+     * @return A {@link List} of {@link NoteSummary} objects in the order of the
+     *         ids.
+     */
+    private List<NoteSummary> fetchSummaries(List<UUID> ids, Set<String> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<NoteSummary> summaries = fields.contains("snippet")
+                ? this.noteRepository.findSummariesWithSnippetByIdIn(ids, NoteFieldsUtil.SNIPPET_SOURCE_LENGTH + 1)
+                : this.noteRepository.findSummariesByIdIn(ids);
+        Map<UUID, NoteSummary> summariesById = summaries.stream()
+                .collect(Collectors.toMap(NoteSummary::getId, Function.identity()));
+
+        if (fields.contains("tags")) {
+            Map<UUID, List<String>> tagNames = this.noteRepository.findTagNamesByNoteIdIn(ids).stream()
+                    .collect(Collectors.groupingBy(NoteTagName::getNoteId,
+                            Collectors.mapping(NoteTagName::getName, Collectors.toList())));
+
+            summaries.forEach(summary -> summary.setTags(tagNames.getOrDefault(summary.getId(), List.of())));
+        }
+
+        return ids.stream().map(summariesById::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Retrieves a {@link Window} of notes matching the provided specification
+     * with a keyset query, then initializes the tags of the retrieved notes in a
+     * single query. Must be called within a transaction so the notes are still
+     * managed when their tags are fetched.
+     * 
+     * @param specification The {@link Specification} the notes must match.
+     * @param position      The {@link KeysetScrollPosition} after which notes
+     *                      are retrieved.
+     * @param sort          The sorting information, ending with the note id.
+     * @param limit         The maximum number of notes to be retrieved.
+     * @return A {@link Window} of notes with their tags.
+     */
+    private Window<Note> scroll(Specification<Note> specification, KeysetScrollPosition position, Sort sort,
+            int limit) {
+        Window<Note> window = this.noteRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(limit).scroll(position));
+
+        if (!window.isEmpty()) {
+            this.noteRepository.findAllWithTagsByIdIn(window.map(Note::getId).toList());
+        }
+
+        return window;
     }
 
 }
\ No newline at end of file
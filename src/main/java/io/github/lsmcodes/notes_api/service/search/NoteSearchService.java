@@ -0,0 +1,118 @@
+package io.github.lsmcodes.notes_api.service.search;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.user.User;
+
+/**
+ * Provides the search engine used to find notes by a term in their title or
+ * content. The engine is selected with the {@code search.engine} property.
+ * Engines that keep their own index are notified of saved and deleted notes;
+ * the database-backed engines ignore these notifications.
+ */
+public interface NoteSearchService {
+
+    /**
+     * Searches the ids of the notes of the provided user whose title or content
+     * matches the provided term.
+     * 
+     * @param user     The owner of the notes.
+     * @param term     The term to be searched for.
+     * @param pageable The pagination and sorting information. An unsorted
+     *                 pageable requests the notes ordered by relevance when the
+     *                 engine supports it.
+     * @return A {@link Page} of ids of the matching notes.
+     */
+    Page<UUID> searchIds(User user, String term, Pageable pageable);
+
+    /**
+     * Searches the ids of the notes of the provided user whose title or content
+     * matches the provided term, without counting them.
+     * 
+     * @param user     The owner of the notes.
+     * @param term     The term to be searched for.
+     * @param pageable The pagination and sorting information.
+     * @return A {@link Slice} of ids of the matching notes.
+     */
+    Slice<UUID> searchIdSlice(User user, String term, Pageable pageable);
+
+    /**
+     * Searches the ids of the notes of the provided user whose title or content
+     * matches the provided term, using keyset pagination. The position of each
+     * id holds the values of the sort property and the id of its note.
+     * 
+     * @param user     The owner of the notes.
+     * @param term     The term to be searched for.
+     * @param position The {@link KeysetScrollPosition} after which ids are
+     *                 retrieved.
+     * @param sort     The sorting information, by a note property and then the
+     *                 note id.
+     * @param limit    The maximum number of ids to be retrieved.
+     * @return A {@link Window} of ids of the matching notes.
+     */
+    Window<UUID> scrollIds(User user, String term, KeysetScrollPosition position, Sort sort, int limit);
+
+    /**
+     * Tells whether the engine orders the notes by relevance when the pageable
+     * passed to {@link #searchIds(User, String, Pageable)} is unsorted.
+     * 
+     * @return {@code true} if the engine ranks the notes; {@code false}
+     *         otherwise.
+     */
+    default boolean supportsRelevance() {
+        return false;
+    }
+
+    /**
+     * Adds the provided note to the search index, or replaces it if it is
+     * already indexed.
+     * 
+     * @param note The saved note.
+     */
+    default void index(Note note) {
+    }
+
+    /**
+     * Adds the note with the provided id to the search index, or replaces it if
+     * it is already indexed. Used after notes are updated without being loaded.
+     * 
+     * @param id The id of the updated note.
+     */
+    default void indexById(UUID id) {
+    }
+
+    /**
+     * Removes the note with the provided id from the search index.
+     * 
+     * @param id The id of the deleted note.
+     */
+    default void deleteById(UUID id) {
+    }
+
+    /**
+     * Removes the notes with the provided ids from the search index.
+     * 
+     * @param ids The ids of the deleted notes.
+     */
+    default void deleteAllById(Collection<UUID> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    /**
+     * Removes all the notes of the provided user from the search index.
+     * 
+     * @param user The owner of the deleted notes.
+     */
+    default void deleteByUser(User user) {
+    }
+
+}
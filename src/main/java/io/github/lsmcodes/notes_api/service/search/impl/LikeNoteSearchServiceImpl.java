@@ -0,0 +1,59 @@
+package io.github.lsmcodes.notes_api.service.search.impl;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+
+import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.note.NoteRepository;
+import io.github.lsmcodes.notes_api.repository.note.NoteSpecifications;
+import io.github.lsmcodes.notes_api.service.search.NoteSearchService;
+
+/**
+ * Implements {@link NoteSearchService} with a case-insensitive {@code LIKE}
+ * over the note title and content. Works on every database and is used by
+ * default.
+ */
+@Service
+@ConditionalOnProperty(name = "search.engine", havingValue = "like", matchIfMissing = true)
+public class LikeNoteSearchServiceImpl implements NoteSearchService {
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<UUID> searchIds(User user, String term, Pageable pageable) {
+        return this.noteRepository.findIdsByUserAndTitleOrContentContainingIgnoreCase(user, term, pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Slice<UUID> searchIdSlice(User user, String term, Pageable pageable) {
+        return this.noteRepository.findIdSliceByUserAndTitleOrContentContainingIgnoreCase(user, term, pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Window<UUID> scrollIds(User user, String term, KeysetScrollPosition position, Sort sort, int limit) {
+        return this.noteRepository.findBy(
+                NoteSpecifications.hasUser(user).and(NoteSpecifications.titleOrContentContainsIgnoreCase(term)),
+                query -> query.sortBy(sort).limit(limit).scroll(position)).map(Note::getId);
+    }
+
+}
@@ -0,0 +1,40 @@
+package io.github.lsmcodes.notes_api.service.search.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the Lucene note index from the database when the application starts
+ * with {@code search.lucene.rebuild-on-startup} enabled, for example with
+ * {@code --search.lucene.rebuild-on-startup=true}. A new index, or one that was
+ * not closed cleanly, is already rebuilt when it is opened, so this is only
+ * needed when the database was changed without the application, for example
+ * after a restore.
+ */
+@Component
+@ConditionalOnExpression("'${search.engine:like}' == 'lucene' and ${search.lucene.rebuild-on-startup:false}")
+public class LuceneIndexRebuildRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LuceneIndexRebuildRunner.class);
+
+    @Autowired
+    private LuceneNoteSearchServiceImpl luceneNoteSearchService;
+
+    /**
+     * Rebuilds the index and logs the number of indexed notes.
+     * 
+     * @param args The application arguments.
+     * @throws Exception If the index cannot be rebuilt.
+     */
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long indexedNotes = this.luceneNoteSearchService.rebuild();
+        LOGGER.info("Rebuilt the note search index with {} notes", indexedNotes);
+    }
+
+}
@@ -0,0 +1,579 @@
+package io.github.lsmcodes.notes_api.service.search.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.note.NoteRepository;
+import io.github.lsmcodes.notes_api.service.search.NoteSearchService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implements {@link NoteSearchService} with an embedded Lucene index stored on
+ * local disk. Notes are scored with BM25 and the term supports quoted phrases
+ * and {@code *} prefixes. Changes are applied once the transaction that made
+ * them commits and become searchable after a near-real-time refresh. The index
+ * is committed on shutdown and after a rebuild, with a marker of whether it was
+ * closed cleanly; an index that was not, or that failed to apply a change, is
+ * rebuilt from the database when it is next opened.
+ */
+@Service
+@ConditionalOnProperty(name = "search.engine", havingValue = "lucene")
+public class LuceneNoteSearchServiceImpl implements NoteSearchService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LuceneNoteSearchServiceImpl.class);
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private static final String CLEAN_SHUTDOWN = "cleanShutdown";
+
+    private static final double MAX_STALE_SECONDS = 1.0;
+
+    private static final double MIN_STALE_SECONDS = 0.025;
+
+    private static final Map<String, SortField.Type> SORT_FIELDS = Map.of("title", SortField.Type.STRING,
+            "createdAt", SortField.Type.LONG, "updatedAt", SortField.Type.LONG, "id", SortField.Type.STRING);
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Value("${search.lucene.directory}")
+    private Path directory;
+
+    private Analyzer analyzer;
+
+    private IndexWriter indexWriter;
+
+    private SearcherManager searcherManager;
+
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    private volatile boolean stale;
+
+    /**
+     * Opens the index, creating it if it does not exist, and starts the thread
+     * that refreshes the searcher after changes. The index is rebuilt from the
+     * database unless it was closed cleanly, and is marked as not closed cleanly
+     * until it is.
+     * 
+     * @throws IOException If the index cannot be opened or rebuilt.
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        this.analyzer = new StandardAnalyzer();
+        this.indexWriter = new IndexWriter(new MMapDirectory(this.directory), new IndexWriterConfig(this.analyzer));
+        boolean cleanShutdown = this.isCleanShutdown();
+        this.indexWriter.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, "false").entrySet());
+        this.indexWriter.commit();
+        this.searcherManager = new SearcherManager(this.indexWriter, null);
+        this.reopenThread = new ControlledRealTimeReopenThread<>(this.indexWriter, this.searcherManager,
+                MAX_STALE_SECONDS, MIN_STALE_SECONDS);
+        this.reopenThread.setName("lucene-note-index-reopen");
+        this.reopenThread.setDaemon(true);
+        this.reopenThread.start();
+
+        if (!cleanShutdown) {
+            LOGGER.warn("The note search index was not closed cleanly, rebuilding it from the database");
+            LOGGER.info("Rebuilt the note search index with {} notes", this.rebuild());
+        }
+    }
+
+    /**
+     * Stops the refresh thread, commits the pending changes and closes the index,
+     * marking it as closed cleanly unless a change failed to be applied.
+     * 
+     * @throws IOException If the index cannot be committed or closed.
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        this.reopenThread.close();
+        this.searcherManager.close();
+
+        if (!this.stale) {
+            this.indexWriter.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, "true").entrySet());
+        }
+
+        this.indexWriter.close();
+        this.analyzer.close();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<UUID> searchIds(User user, String term, Pageable pageable) {
+        Query query = this.getQuery(user, term);
+
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+
+        try {
+            IndexSearcher searcher = this.searcherManager.acquire();
+
+            try {
+                ScoreDoc[] scoreDocs = searcher.search(query, limit, this.getSort(pageable.getSort())).scoreDocs;
+                List<UUID> ids = new ArrayList<>();
+
+                for (int i = (int) Math.min(pageable.getOffset(), scoreDocs.length); i < scoreDocs.length; i++) {
+                    ids.add(this.getId((FieldDoc) scoreDocs[i]));
+                }
+
+                return new PageImpl<>(ids, pageable, searcher.count(query));
+            } finally {
+                this.searcherManager.release(searcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Slice<UUID> searchIdSlice(User user, String term, Pageable pageable) {
+        Query query = this.getQuery(user, term);
+
+        if (query == null) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        int end = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE - 1);
+
+        try {
+            IndexSearcher searcher = this.searcherManager.acquire();
+
+            try {
+                ScoreDoc[] scoreDocs = searcher.search(query, end + 1, this.getSort(pageable.getSort())).scoreDocs;
+                List<UUID> ids = new ArrayList<>();
+
+                for (int i = (int) Math.min(pageable.getOffset(), scoreDocs.length); i < Math.min(end,
+                        scoreDocs.length); i++) {
+                    ids.add(this.getId((FieldDoc) scoreDocs[i]));
+                }
+
+                return new SliceImpl<>(ids, pageable, scoreDocs.length > end);
+            } finally {
+                this.searcherManager.release(searcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Window<UUID> scrollIds(User user, String term, KeysetScrollPosition position, Sort sort, int limit) {
+        Query query = this.getQuery(user, term);
+
+        if (query == null) {
+            return Window.from(List.of(), index -> position, false);
+        }
+
+        String property = sort.iterator().next().getProperty();
+        org.apache.lucene.search.Sort luceneSort = this.getSort(sort);
+
+        try {
+            IndexSearcher searcher = this.searcherManager.acquire();
+
+            try {
+                TopDocs topDocs = position.isInitial() ? searcher.search(query, limit + 1, luceneSort)
+                        : searcher.searchAfter(this.getAfter(searcher, property, position), query, limit + 1,
+                                luceneSort);
+                List<FieldDoc> fieldDocs = new ArrayList<>();
+
+                for (int i = 0; i < Math.min(limit, topDocs.scoreDocs.length); i++) {
+                    fieldDocs.add((FieldDoc) topDocs.scoreDocs[i]);
+                }
+
+                return Window.from(fieldDocs.stream().map(this::getId).toList(),
+                        index -> this.getPosition(property, fieldDocs.get(index)),
+                        topDocs.scoreDocs.length > limit);
+            } finally {
+                this.searcherManager.release(searcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsRelevance() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void index(Note note) {
+        this.afterCommit(() -> this.updateDocument(note));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void indexById(UUID id) {
+        this.afterCommit(() -> {
+            Optional<Note> note = this.noteRepository.findById(id);
+
+            if (note.isPresent()) {
+                this.updateDocument(note.get());
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteById(UUID id) {
+        this.afterCommit(() -> this.indexWriter.deleteDocuments(new Term("id", id.toString())));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        this.afterCommit(() -> this.indexWriter.deleteDocuments(
+                ids.stream().map(id -> new Term("id", id.toString())).toArray(Term[]::new)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteByUser(User user) {
+        this.afterCommit(() -> this.indexWriter.deleteDocuments(new Term("userId", user.getId().toString())));
+    }
+
+    /**
+     * Replaces the index content with all the notes in the database, reading
+     * them in batches, then commits the index and refreshes the searcher.
+     * 
+     * @return The number of indexed notes.
+     * @throws IOException If the index cannot be written.
+     */
+    public long rebuild() throws IOException {
+        this.stale = false;
+        this.indexWriter.deleteAll();
+
+        Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+        Page<Note> page;
+        long indexedNotes = 0;
+
+        do {
+            page = this.noteRepository.findAll(pageable);
+
+            for (Note note : page) {
+                this.indexWriter.addDocument(this.toDocument(note));
+            }
+
+            indexedNotes += page.getNumberOfElements();
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+
+        this.indexWriter.commit();
+        this.refresh();
+        return indexedNotes;
+    }
+
+    /**
+     * Makes every change made so far visible to searches, without waiting for
+     * the near-real-time refresh.
+     * 
+     * @throws IOException If the searcher cannot be refreshed.
+     */
+    public void refresh() throws IOException {
+        this.searcherManager.maybeRefreshBlocking();
+    }
+
+    /**
+     * Applies the provided change to the index once the current transaction
+     * commits, so changes rolled back in the database never reach the index.
+     * Outside of a transaction, the change is applied right away.
+     * 
+     * @param change The change to be applied.
+     */
+    private void afterCommit(IndexChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.apply(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                LuceneNoteSearchServiceImpl.this.apply(change);
+            }
+
+        });
+    }
+
+    /**
+     * Applies the provided change to the index. As the change is already
+     * committed to the database, a failure is logged rather than thrown, and the
+     * index is marked to be rebuilt when it is next opened.
+     * 
+     * @param change The change to be applied.
+     */
+    private void apply(IndexChange change) {
+        try {
+            change.apply();
+        } catch (IOException | RuntimeException exception) {
+            this.stale = true;
+            LOGGER.error("Could not update the note search index, it will be rebuilt on the next startup",
+                    exception);
+        }
+    }
+
+    /**
+     * Tells whether the index was closed cleanly the last time it was open.
+     * 
+     * @return {@code true} if the last commit of the index marks it as closed
+     *         cleanly; {@code false} if it does not or the index is new.
+     */
+    private boolean isCleanShutdown() {
+        Iterable<Map.Entry<String, String>> commitData = this.indexWriter.getLiveCommitData();
+
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (CLEAN_SHUTDOWN.equals(entry.getKey())) {
+                    return Boolean.parseBoolean(entry.getValue());
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds the provided note to the index, or replaces it if it is already
+     * indexed.
+     * 
+     * @param note The note to be indexed.
+     * @throws IOException If the index cannot be written.
+     */
+    private void updateDocument(Note note) throws IOException {
+        this.indexWriter.updateDocument(new Term("id", note.getId().toString()), this.toDocument(note));
+    }
+
+    /**
+     * Converts the provided note to a Lucene {@link Document}. The title and
+     * content are analyzed for searching, while the id, owner and sort values
+     * are kept as is.
+     * 
+     * @param note The note to be converted.
+     * @return The {@link Document} of the note.
+     */
+    private Document toDocument(Note note) {
+        Document document = new Document();
+        document.add(new StringField("id", note.getId().toString(), Field.Store.YES));
+        document.add(new StringField("userId", note.getUser().getId().toString(), Field.Store.NO));
+        document.add(new TextField("title", note.getTitle(), Field.Store.NO));
+        document.add(new TextField("content", note.getContent(), Field.Store.NO));
+        document.add(new SortedDocValuesField("title_sort", new BytesRef(note.getTitle())));
+        document.add(new NumericDocValuesField("createdAt_sort", this.toEpochMilli(note.getCreatedAt())));
+        document.add(new NumericDocValuesField("updatedAt_sort", this.toEpochMilli(note.getUpdatedAt())));
+        document.add(new SortedDocValuesField("id_sort", new BytesRef(note.getId().toString())));
+        return document;
+    }
+
+    /**
+     * Converts the provided sorting information to a Lucene
+     * {@link org.apache.lucene.search.Sort}, ending with the note id so notes
+     * with equal values keep a stable order.
+     * 
+     * @param sort The sorting information, or an unsorted one to sort by
+     *             relevance.
+     * @return The Lucene sort.
+     * @throws IllegalArgumentException If a property cannot be sorted by.
+     */
+    private org.apache.lucene.search.Sort getSort(Sort sort) {
+        List<SortField> sortFields = new ArrayList<>();
+
+        if (sort.isUnsorted()) {
+            sortFields.add(SortField.FIELD_SCORE);
+        }
+
+        for (Sort.Order order : sort) {
+            SortField.Type type = SORT_FIELDS.get(order.getProperty());
+
+            if (type == null) {
+                throw new IllegalArgumentException("Notes cannot be sorted by " + order.getProperty());
+            }
+
+            sortFields.add(new SortField(order.getProperty() + "_sort", type, order.isDescending()));
+        }
+
+        if (sort.getOrderFor("id") == null) {
+            sortFields.add(new SortField("id_sort", SortField.Type.STRING));
+        }
+
+        return new org.apache.lucene.search.Sort(sortFields.toArray(SortField[]::new));
+    }
+
+    /**
+     * Builds the query matching the notes of the provided user against the
+     * provided term.
+     * 
+     * @param user The owner of the notes.
+     * @param term The term to be searched for.
+     * @return The {@link Query}, or {@code null} if the term has nothing to
+     *         search for.
+     */
+    private Query getQuery(User user, String term) {
+        SimpleQueryParser parser = new SimpleQueryParser(this.analyzer, Map.of("title", 2f, "content", 1f));
+        parser.setDefaultOperator(Occur.MUST);
+        Query termQuery = parser.parse(term);
+
+        if (termQuery == null) {
+            return null;
+        }
+
+        return new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("userId", user.getId().toString())), Occur.FILTER)
+                .add(termQuery, Occur.MUST).build();
+    }
+
+    /**
+     * Returns the note id of a sorted search hit, taken from its last sort
+     * value.
+     * 
+     * @param fieldDoc The search hit.
+     * @return The id of the note.
+     */
+    private UUID getId(FieldDoc fieldDoc) {
+        return UUID.fromString(((BytesRef) fieldDoc.fields[fieldDoc.fields.length - 1]).utf8ToString());
+    }
+
+    /**
+     * Returns the keyset position of a search hit, holding the value of the sort
+     * property and the note id.
+     * 
+     * @param property The sort property.
+     * @param fieldDoc The search hit, sorted by the property and the note id.
+     * @return The {@link KeysetScrollPosition} of the hit.
+     */
+    private KeysetScrollPosition getPosition(String property, FieldDoc fieldDoc) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(property, fieldDoc.fields[0] instanceof BytesRef bytes ? bytes.utf8ToString()
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli((Long) fieldDoc.fields[0]), ZoneOffset.UTC));
+        keys.put("id", this.getId(fieldDoc));
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Converts the provided keyset position to the search hit after which the
+     * search continues. Its document is the last one of the index, so only the
+     * sort values tell which hits come after it.
+     * 
+     * @param searcher The searcher the search runs on.
+     * @param property The sort property.
+     * @param position The {@link KeysetScrollPosition} holding the values of the
+     *                 sort property and the note id.
+     * @return The {@link FieldDoc} to search after.
+     */
+    private FieldDoc getAfter(IndexSearcher searcher, String property, KeysetScrollPosition position) {
+        Object value = position.getKeys().get(property);
+        Object sortValue = value instanceof LocalDateTime dateTime ? (Object) this.toEpochMilli(dateTime)
+                : new BytesRef(value.toString());
+        return new FieldDoc(Math.max(searcher.getIndexReader().maxDoc() - 1, 0), Float.NaN,
+                new Object[] { sortValue, new BytesRef(position.getKeys().get("id").toString()) });
+    }
+
+    /**
+     * Converts the provided date to epoch milliseconds, so it can be sorted by.
+     * 
+     * @param dateTime The date to be converted, or {@code null}.
+     * @return The epoch milliseconds of the date, or zero when it is
+     *         {@code null}.
+     */
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Represents a change to the index.
+     */
+    @FunctionalInterface
+    private interface IndexChange {
+
+        /**
+         * Applies the change.
+         * 
+         * @throws IOException If the index cannot be written.
+         */
+        void apply() throws IOException;
+
+    }
+
+}
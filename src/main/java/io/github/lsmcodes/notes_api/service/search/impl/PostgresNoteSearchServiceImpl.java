@@ -0,0 +1,158 @@
+package io.github.lsmcodes.notes_api.service.search.impl;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.note.NoteRepository;
+import io.github.lsmcodes.notes_api.service.search.NoteSearchService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+/**
+ * Implements {@link NoteSearchService} with PostgreSQL full-text search over the
+ * generated {@code search_vector} column and its GIN index. Unsorted requests
+ * are ordered by relevance.
+ */
+@Service
+@ConditionalOnProperty(name = "search.engine", havingValue = "postgres")
+public class PostgresNoteSearchServiceImpl implements NoteSearchService {
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of("title", "title", "createdAt", "created_at",
+            "updatedAt", "updated_at");
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<UUID> searchIds(User user, String term, Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            return this.noteRepository.searchIdsByUserIdOrderByRank(user.getId(), term, pageable);
+        }
+
+        return this.noteRepository.searchIdsByUserId(user.getId(), term, this.getColumnsPageable(pageable));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Slice<UUID> searchIdSlice(User user, String term, Pageable pageable) {
+        return this.noteRepository.searchIdSliceByUserId(user.getId(), term, this.getColumnsPageable(pageable));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Window<UUID> scrollIds(User user, String term, KeysetScrollPosition position, Sort sort, int limit) {
+        Sort.Order order = sort.iterator().next();
+        String column = "n." + this.getSortColumn(order.getProperty());
+        String direction = order.isAscending() ? "ASC" : "DESC";
+        StringBuilder sql = new StringBuilder("SELECT n.id, ").append(column).append(" FROM notes n ")
+                .append("WHERE n.user_id = :userId AND n.search_vector @@ websearch_to_tsquery('simple', :term)");
+
+        if (!position.isInitial()) {
+            sql.append(" AND (").append(column).append(", n.id) ").append(order.isAscending() ? ">" : "<")
+                    .append(" (:value, :id)");
+        }
+
+        sql.append(" ORDER BY ").append(column).append(' ').append(direction).append(", n.id ").append(direction)
+                .append(" LIMIT :limit");
+
+        Query query = this.entityManager.createNativeQuery(sql.toString())
+                .setParameter("userId", user.getId())
+                .setParameter("term", term)
+                .setParameter("limit", limit + 1);
+
+        if (!position.isInitial()) {
+            query.setParameter("value", position.getKeys().get(order.getProperty()))
+                    .setParameter("id", position.getKeys().get("id"));
+        }
+
+        List<Object[]> rows = query.getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<Object[]> windowRows = hasNext ? rows.subList(0, limit) : rows;
+
+        return Window.from(windowRows.stream().map(row -> (UUID) row[0]).toList(),
+                index -> this.getPosition(order.getProperty(), windowRows.get(index)), hasNext);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsRelevance() {
+        return true;
+    }
+
+    /**
+     * Returns a copy of the provided pageable sorted by column names, as native
+     * queries are sorted by column.
+     * 
+     * @param pageable The pagination and sorting information.
+     * @return The {@link Pageable} sorted by the property columns.
+     * @throws IllegalArgumentException If a property cannot be sorted by.
+     */
+    private Pageable getColumnsPageable(Pageable pageable) {
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .map(order -> order.withProperty(this.getSortColumn(order.getProperty()))).toList());
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    /**
+     * Returns the column of the provided sort property, as native queries are
+     * sorted by column.
+     * 
+     * @param property The sort property.
+     * @return The column name of the property.
+     * @throws IllegalArgumentException If the property cannot be sorted by.
+     */
+    private String getSortColumn(String property) {
+        String column = SORT_COLUMNS.get(property);
+
+        if (column == null) {
+            throw new IllegalArgumentException("Notes cannot be sorted by " + property);
+        }
+
+        return column;
+    }
+
+    /**
+     * Returns the keyset position of a row selected by the keyset query, holding
+     * the value of the sort property and the note id.
+     * 
+     * @param property The sort property.
+     * @param row      The row, with the note id and the sort column value.
+     * @return The {@link KeysetScrollPosition} of the row.
+     */
+    private KeysetScrollPosition getPosition(String property, Object[] row) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(property, row[1] instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : row[1]);
+        keys.put("id", row[0]);
+        return ScrollPosition.forward(keys);
+    }
+
+}
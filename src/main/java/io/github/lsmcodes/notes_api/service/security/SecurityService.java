@@ -1,7 +1,11 @@
 package io.github.lsmcodes.notes_api.service.security;
 
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
+import io.jsonwebtoken.Claims;
+
 /**
  * Provides methods for user authentication.
  */
@@ -14,4 +18,16 @@ public interface SecurityService extends UserDetailsService {
      */
     public String getCurrentAuthenticatedUser();
 
+    /**
+     * Builds user details from the claims of a verified token, without loading the
+     * user from the database.
+     * 
+     * @param claims The claims of a verified token.
+     * @return A {@link UserDetails} object containing the id, username and role
+     *         defined in the claims.
+     * @throws AuthenticationException if the claims are incomplete or were issued
+     *                                 for an outdated credential version.
+     */
+    public UserDetails loadUserByClaims(Claims claims) throws AuthenticationException;
+
 }
\ No newline at end of file
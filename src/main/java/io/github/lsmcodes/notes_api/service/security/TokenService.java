@@ -3,12 +3,28 @@ package io.github.lsmcodes.notes_api.service.security;
 import java.util.Date;
 
 import io.github.lsmcodes.notes_api.model.user.User;
+import io.jsonwebtoken.Claims;
 
 /**
  * Provides methods for manipulating tokens
  */
 public interface TokenService {
 
+    /**
+     * The name of the claim containing the user id.
+     */
+    public static final String ID_CLAIM = "id";
+
+    /**
+     * The name of the claim containing the user role.
+     */
+    public static final String ROLE_CLAIM = "role";
+
+    /**
+     * The name of the claim containing the user credential version.
+     */
+    public static final String VERSION_CLAIM = "version";
+
     /**
      * Generates a JWT token from a User object.
      * 
@@ -25,6 +41,14 @@ public interface TokenService {
      */
     public String getSubjectFromToken(String token);
 
+    /**
+     * Verifies a JWT token and extracts all of its claims.
+     * 
+     * @param token The JWT token from which the claims will be extracted.
+     * @return The extracted {@link Claims}.
+     */
+    public Claims getClaimsFromToken(String token);
+
     /**
      * Generates an expiration date based on the current system time and the defined
      * expiration period.
@@ -1,16 +1,23 @@
 package io.github.lsmcodes.notes_api.service.security.impl;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import io.github.lsmcodes.notes_api.enumeration.UserRole;
 import io.github.lsmcodes.notes_api.model.user.User;
 import io.github.lsmcodes.notes_api.service.security.SecurityService;
+import io.github.lsmcodes.notes_api.service.security.TokenService;
 import io.github.lsmcodes.notes_api.service.user.UserService;
+import io.jsonwebtoken.Claims;
 
 /**
  * Implements {@link SecurityService} interface methods.
@@ -50,4 +57,28 @@ public class SecurityServiceImpl implements SecurityService {
         return authentication.getName();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UserDetails loadUserByClaims(Claims claims) throws AuthenticationException {
+        String id = claims.get(TokenService.ID_CLAIM, String.class);
+        String role = claims.get(TokenService.ROLE_CLAIM, String.class);
+        Integer version = claims.get(TokenService.VERSION_CLAIM, Integer.class);
+
+        if (id == null || role == null || version == null) {
+            throw new BadCredentialsException("The token does not contain the user claims.");
+        }
+
+        UUID userId = UUID.fromString(id);
+        Optional<Integer> credentialVersion = this.userService.findCredentialVersionById(userId);
+
+        if (!credentialVersion.isPresent() || credentialVersion.get().intValue() != version.intValue()) {
+            throw new CredentialsExpiredException("The token was issued for outdated user credentials.");
+        }
+
+        return User.builder().id(userId).username(claims.getSubject()).role(UserRole.valueOf(role))
+                .credentialVersion(version).build();
+    }
+
 }
\ No newline at end of file
@@ -30,6 +30,9 @@ public class TokenServiceImpl implements TokenService {
         return Jwts.builder()
                 .claims()
                 .subject(user.getUsername())
+                .add(ID_CLAIM, user.getId())
+                .add(ROLE_CLAIM, user.getRole().getValue())
+                .add(VERSION_CLAIM, user.getCredentialVersion())
                 .issuedAt(new Date())
                 .expiration(generateExpirationDate())
                 .and()
@@ -41,10 +44,15 @@ public class TokenServiceImpl implements TokenService {
      * {@inheritDoc}
      */
     public String getSubjectFromToken(String token) {
-        Claims claims = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(key.getBytes())).build().parseSignedClaims(token)
+        return getClaimsFromToken(token).getSubject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Claims getClaimsFromToken(String token) {
+        return Jwts.parser().verifyWith(Keys.hmacShaKeyFor(key.getBytes())).build().parseSignedClaims(token)
                 .getPayload();
-        
-        return claims.getSubject();
     }
 
     /**
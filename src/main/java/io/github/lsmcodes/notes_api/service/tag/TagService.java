@@ -0,0 +1,36 @@
+package io.github.lsmcodes.notes_api.service.tag;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import io.github.lsmcodes.notes_api.model.tag.Tag;
+import io.github.lsmcodes.notes_api.model.user.User;
+
+/**
+ * Provides the tag dictionary of the users, which maps tag names to the tags
+ * referenced by notes. Names are compared in lower case.
+ */
+public interface TagService {
+
+    /**
+     * Resolves the provided names to tags of the provided user, creating the
+     * tags that do not exist yet.
+     * 
+     * @param user  The tags owner.
+     * @param names The tag names, in any case. May be {@code null}.
+     * @return A {@link Set} of the tags, ordered by name.
+     */
+    Set<Tag> resolve(User user, Collection<String> names);
+
+    /**
+     * Finds the ids of the existing tags of the provided user with any of the
+     * provided names, without creating the missing ones.
+     * 
+     * @param user  The tags owner.
+     * @param names The tag names, in any case.
+     * @return A {@link List} of the ids of the tags found.
+     */
+    List<Long> findIds(User user, Collection<String> names);
+
+}
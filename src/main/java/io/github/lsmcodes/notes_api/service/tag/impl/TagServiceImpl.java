@@ -0,0 +1,75 @@
+package io.github.lsmcodes.notes_api.service.tag.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import io.github.lsmcodes.notes_api.model.tag.Tag;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.tag.TagRepository;
+import io.github.lsmcodes.notes_api.service.tag.TagService;
+import jakarta.transaction.Transactional;
+
+/**
+ * Implements {@link TagService} interface methods.
+ */
+@Service
+public class TagServiceImpl implements TagService {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public Set<Tag> resolve(User user, Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+
+        Set<String> normalizedNames = this.normalize(names);
+        List<Tag> tags = new ArrayList<>(this.tagRepository.findByUserAndNameIn(user, normalizedNames));
+        Set<String> existingNames = tags.stream().map(Tag::getName).collect(Collectors.toSet());
+
+        List<Tag> newTags = normalizedNames.stream().filter(name -> !existingNames.contains(name))
+                .map(name -> Tag.builder().user(user).name(name).build()).toList();
+        tags.addAll(this.tagRepository.saveAll(newTags));
+
+        return tags.stream().sorted(Comparator.comparing(Tag::getName))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> findIds(User user, Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return List.of();
+        }
+
+        return this.tagRepository.findIdsByUserAndNameIn(user, this.normalize(names));
+    }
+
+    /**
+     * Converts the provided names to distinct lower case names.
+     * 
+     * @param names The tag names.
+     * @return A {@link Set} of the lower case names.
+     */
+    private Set<String> normalize(Collection<String> names) {
+        return names.stream().map(name -> name.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+}
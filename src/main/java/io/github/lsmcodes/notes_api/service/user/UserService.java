@@ -44,6 +44,15 @@ public interface UserService {
      */
     Optional<User> findByUsername(String username);
 
+    /**
+     * Finds the credential version of an user based on the provided id.
+     * 
+     * @param id The id of the user to be searched for.
+     * @return An {@link Optional} containing the credential version if the user
+     *         is found, or {@code Optional.empty()} if no user is found.
+     */
+    Optional<Integer> findCredentialVersionById(UUID id);
+
     /**
      * Deletes an user based on the provided id.
      * 
@@ -4,6 +4,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import io.github.lsmcodes.notes_api.model.user.User;
@@ -22,6 +24,7 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      */
+    @CacheEvict(cacheNames = "credentialVersions", key = "#user.id", condition = "#user.id != null")
     @Override
     public User save(User user) {
         return this.userRepository.save(user);
@@ -54,6 +57,16 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      */
+    @Cacheable(cacheNames = "credentialVersions")
+    @Override
+    public Optional<Integer> findCredentialVersionById(UUID id) {
+        return this.userRepository.findCredentialVersionById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @CacheEvict(cacheNames = "credentialVersions")
     @Override
     public void deleteById(UUID id) {
         this.userRepository.deleteById(id);
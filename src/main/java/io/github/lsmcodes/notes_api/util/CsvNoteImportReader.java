@@ -0,0 +1,216 @@
+package io.github.lsmcodes.notes_api.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteRequestDTO;
+
+/**
+ * Reads the notes of a CSV import, as described by RFC 4180. The first record
+ * is a header naming the {@code title}, {@code content} and optional
+ * {@code tags} columns in any order; the tags of a note are separated by
+ * semicolons. Quoted fields may contain commas, quotes and line breaks.
+ */
+public class CsvNoteImportReader implements NoteImportReader {
+
+    private static final String TAG_SEPARATOR = ";";
+
+    private final BufferedReader reader;
+
+    private long line = 1;
+
+    private boolean ended;
+
+    private boolean unterminated;
+
+    private boolean oversized;
+
+    private List<String> columns;
+
+    /**
+     * Builds a new reader of the provided import.
+     * 
+     * @param reader The {@link Reader} of the import.
+     */
+    public CsvNoteImportReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NoteImportRecord next() throws IOException {
+        if (this.columns == null) {
+            List<String> header = this.readFields();
+
+            if (header == null) {
+                return null;
+            }
+
+            if (this.oversized) {
+                this.ended = true;
+                return new NoteImportRecord(1, null, RECORD_TOO_LONG);
+            }
+
+            this.columns = header.stream()
+                    .map(column -> column.replace("\uFEFF", "").strip().toLowerCase(Locale.ROOT)).toList();
+        }
+
+        long recordLine;
+        List<String> fields;
+
+        do {
+            recordLine = this.line;
+            fields = this.readFields();
+
+            if (fields == null) {
+                return null;
+            }
+        } while (!this.oversized && fields.size() == 1 && fields.get(0).isEmpty());
+
+        if (this.oversized) {
+            return new NoteImportRecord(recordLine, null, RECORD_TOO_LONG);
+        }
+
+        if (this.unterminated) {
+            return new NoteImportRecord(recordLine, null, "A quoted field is not closed");
+        }
+
+        if (fields.size() != this.columns.size()) {
+            return new NoteImportRecord(recordLine, null,
+                    "Expected " + this.columns.size() + " fields but found " + fields.size());
+        }
+
+        NoteRequestDTO dto = new NoteRequestDTO();
+
+        for (int i = 0; i < fields.size(); i++) {
+            switch (this.columns.get(i)) {
+                case "title" -> dto.setTitle(fields.get(i));
+                case "content" -> dto.setContent(fields.get(i));
+                case "tags" -> dto.setTags(fields.get(i).isBlank() ? null
+                        : Arrays.stream(fields.get(i).split(TAG_SEPARATOR)).map(String::strip)
+                                .filter(tag -> !tag.isEmpty()).toList());
+                default -> {
+                }
+            }
+        }
+
+        return new NoteImportRecord(recordLine, dto, null);
+    }
+
+    /**
+     * Reads the fields of the next record, which ends at the first line break
+     * outside quotes. Once the record is longer than {@link #MAX_RECORD_LENGTH}
+     * characters, its fields are no longer kept and the rest of it is only
+     * scanned for its end.
+     * 
+     * @return A {@link List} of the fields of the record, or {@code null} if the
+     *         import has no more records.
+     * @throws IOException If an error occurs while reading the import.
+     */
+    private List<String> readFields() throws IOException {
+        if (this.ended) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int fieldLength = 0;
+        int length = 0;
+        boolean quoted = false;
+        boolean read = false;
+        int character;
+        this.oversized = false;
+
+        while ((character = this.reader.read()) != -1) {
+            read = true;
+
+            if (!this.oversized && ++length > MAX_RECORD_LENGTH) {
+                this.oversized = true;
+                fields.clear();
+                field.setLength(0);
+            }
+
+            if (quoted) {
+                if (character == '"') {
+                    this.reader.mark(1);
+
+                    if (this.reader.read() == '"') {
+                        length++;
+                        fieldLength = this.append(field, fieldLength, '"');
+                    } else {
+                        this.reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (character == '\n') {
+                        this.line++;
+                    }
+
+                    fieldLength = this.append(field, fieldLength, character);
+                }
+            } else if (character == '"' && fieldLength == 0) {
+                quoted = true;
+            } else if (character == ',') {
+                this.add(fields, field);
+                fieldLength = 0;
+            } else if (character == '\n') {
+                this.line++;
+                this.add(fields, field);
+                return fields;
+            } else if (character != '\r') {
+                fieldLength = this.append(field, fieldLength, character);
+            }
+        }
+
+        this.ended = true;
+        this.unterminated = quoted;
+
+        if (!read) {
+            return null;
+        }
+
+        this.add(fields, field);
+        return fields;
+    }
+
+    /**
+     * Appends a character to the field being read, unless the record is too
+     * long to be kept.
+     * 
+     * @param field     The {@link StringBuilder} of the field.
+     * @param length    The number of characters of the field read so far.
+     * @param character The character to be appended.
+     * @return The number of characters of the field read so far, including the
+     *         appended one.
+     */
+    private int append(StringBuilder field, int length, int character) {
+        if (!this.oversized) {
+            field.append((char) character);
+        }
+
+        return length + 1;
+    }
+
+    /**
+     * Adds the field being read to the fields of the record, unless the record
+     * is too long to be kept, and starts the next field.
+     * 
+     * @param fields The {@link List} of the fields of the record.
+     * @param field  The {@link StringBuilder} of the field.
+     */
+    private void add(List<String> fields, StringBuilder field) {
+        if (!this.oversized) {
+            fields.add(field.toString());
+        }
+
+        field.setLength(0);
+    }
+
+}
@@ -0,0 +1,105 @@
+package io.github.lsmcodes.notes_api.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteRequestDTO;
+
+/**
+ * Reads the notes of a newline-delimited JSON import, where each non-blank
+ * line holds a note object. Each line is parsed on its own, so an invalid line
+ * only rejects its own note.
+ */
+public class NdjsonNoteImportReader implements NoteImportReader {
+
+    private final BufferedReader reader;
+
+    private final ObjectReader objectReader;
+
+    private long line;
+
+    private boolean oversized;
+
+    /**
+     * Builds a new reader of the provided import.
+     * 
+     * @param reader       The {@link Reader} of the import.
+     * @param objectReader The {@link ObjectReader} used to parse each line into
+     *                     a {@link NoteRequestDTO}.
+     */
+    public NdjsonNoteImportReader(Reader reader, ObjectReader objectReader) {
+        this.reader = new BufferedReader(reader);
+        this.objectReader = objectReader.forType(NoteRequestDTO.class)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NoteImportRecord next() throws IOException {
+        String text;
+
+        while ((text = this.readLine()) != null) {
+            this.line++;
+
+            if (this.oversized) {
+                return new NoteImportRecord(this.line, null, RECORD_TOO_LONG);
+            }
+
+            if (text.isBlank()) {
+                continue;
+            }
+
+            try {
+                NoteRequestDTO dto = this.objectReader.readValue(text);
+                return dto == null ? new NoteImportRecord(this.line, null, "Note cannot be null")
+                        : new NoteImportRecord(this.line, dto, null);
+            } catch (JsonProcessingException e) {
+                return new NoteImportRecord(this.line, null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Reads the next line, which ends at a line feed optionally preceded by a
+     * carriage return. At most {@link #MAX_RECORD_LENGTH} characters of the line
+     * are kept; the rest of a longer line is skipped.
+     * 
+     * @return The line, without its line break, or {@code null} if the import
+     *         has no more lines.
+     * @throws IOException If an error occurs while reading the import.
+     */
+    private String readLine() throws IOException {
+        StringBuilder text = new StringBuilder();
+        int character;
+        this.oversized = false;
+
+        while ((character = this.reader.read()) != -1 && character != '\n') {
+            if (text.length() <= MAX_RECORD_LENGTH) {
+                text.append((char) character);
+            } else {
+                this.oversized = true;
+            }
+        }
+
+        if (character == -1 && text.isEmpty()) {
+            return null;
+        }
+
+        if (!this.oversized && !text.isEmpty() && text.charAt(text.length() - 1) == '\r') {
+            text.setLength(text.length() - 1);
+        }
+
+        this.oversized = this.oversized || text.length() > MAX_RECORD_LENGTH;
+        return text.toString();
+    }
+
+}
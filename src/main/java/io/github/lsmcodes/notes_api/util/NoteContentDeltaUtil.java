@@ -0,0 +1,72 @@
+package io.github.lsmcodes.notes_api.util;
+
+import java.util.List;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteContentOperationDTO;
+import io.github.lsmcodes.notes_api.exception.InvalidContentDeltaException;
+
+/**
+ * Provides methods to apply content deltas to the content of notes. A delta is
+ * a list of retain, insert and delete operations walking through the content
+ * from its start; the characters after the last operation are kept. Lengths
+ * are counted in UTF-16 code units, as in JavaScript strings.
+ */
+public class NoteContentDeltaUtil {
+
+    /**
+     * Applies the provided operations to the provided content.
+     * 
+     * @param content    The content the operations are based on.
+     * @param operations The operations to be applied, in order.
+     * @return The content after the operations.
+     * @throws InvalidContentDeltaException If an operation does not set exactly
+     *                                      one member, has a negative length or
+     *                                      goes past the end of the content.
+     */
+    public static String apply(String content, List<NoteContentOperationDTO> operations)
+            throws InvalidContentDeltaException {
+        StringBuilder builder = new StringBuilder(content.length());
+        int index = 0;
+
+        for (NoteContentOperationDTO operation : operations) {
+            if (operation == null || countMembers(operation) != 1) {
+                throw new InvalidContentDeltaException(
+                        "Each operation must set exactly one of retain, insert or delete");
+            }
+
+            if (operation.getInsert() != null) {
+                builder.append(operation.getInsert());
+                continue;
+            }
+
+            int length = operation.getRetain() != null ? operation.getRetain() : operation.getDelete();
+
+            if (length < 0 || length > content.length() - index) {
+                throw new InvalidContentDeltaException("The operations do not match the length of the content");
+            }
+
+            if (operation.getRetain() != null) {
+                builder.append(content, index, index + length);
+            }
+
+            index += length;
+        }
+
+        return builder.append(content, index, content.length()).toString();
+    }
+
+    /**
+     * Counts the members set in the provided operation.
+     * 
+     * @param operation The operation to be verified.
+     * @return The number of members that are not {@code null}.
+     */
+    private static int countMembers(NoteContentOperationDTO operation) {
+        int members = 0;
+        members += operation.getRetain() != null ? 1 : 0;
+        members += operation.getInsert() != null ? 1 : 0;
+        members += operation.getDelete() != null ? 1 : 0;
+        return members;
+    }
+
+}
@@ -0,0 +1,116 @@
+package io.github.lsmcodes.notes_api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
+
+import io.github.lsmcodes.notes_api.exception.InvalidCursorException;
+import io.github.lsmcodes.notes_api.model.note.Note;
+
+/**
+ * Provides methods to encode and decode the opaque cursors used to scroll
+ * through notes with keyset pagination. A cursor holds the sort property, the
+ * sort direction and the values of the sort property and id of the last
+ * retrieved note.
+ */
+public class NoteCursorUtil {
+
+    private static final Set<String> SORT_PROPERTIES = Set.of("title", "createdAt", "updatedAt");
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Represents a decoded note cursor.
+     * 
+     * @param property  The property by which the notes are sorted.
+     * @param direction The direction in which the notes are sorted.
+     * @param position  The {@link KeysetScrollPosition} after which notes are
+     *                  retrieved.
+     */
+    public record NoteCursor(String property, Direction direction, KeysetScrollPosition position) {
+
+        /**
+         * Returns the {@link Sort} of the cursor, using the note id as tiebreaker.
+         * 
+         * @return The {@link Sort} by the cursor property and the note id.
+         */
+        public Sort sort() {
+            return Sort.by(this.direction, this.property, "id");
+        }
+
+    }
+
+    /**
+     * Decodes the provided cursor. An empty cursor starts from the first note
+     * sorted by the provided property and direction, which are otherwise taken
+     * from the cursor itself.
+     * 
+     * @param cursor        The cursor to be decoded.
+     * @param property      The property by which the notes will be sorted when
+     *                      the cursor is empty.
+     * @param sortDirection The direction in which the notes will be sorted when
+     *                      the cursor is empty.
+     * @return The decoded {@link NoteCursor}.
+     * @throws InvalidCursorException If the cursor or the sort parameters are
+     *                                invalid.
+     */
+    public static NoteCursor decode(String cursor, String property, String sortDirection)
+            throws InvalidCursorException {
+        try {
+            if (cursor.isBlank()) {
+                if (!SORT_PROPERTIES.contains(property)) {
+                    throw new InvalidCursorException("The provided sort property is invalid");
+                }
+
+                return new NoteCursor(property, Direction.fromString(sortDirection), ScrollPosition.keyset());
+            }
+
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decodedCursor.split(SEPARATOR, 4);
+            if (parts.length != 4 || !SORT_PROPERTIES.contains(parts[0])) {
+                throw new InvalidCursorException("The provided cursor is invalid");
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(parts[0], parts[0].equals("title") ? parts[3] : LocalDateTime.parse(parts[3]));
+            keys.put("id", UUID.fromString(parts[2]));
+
+            return new NoteCursor(parts[0], Direction.valueOf(parts[1]), ScrollPosition.forward(keys));
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw new InvalidCursorException("The provided cursor is invalid");
+        }
+    }
+
+    /**
+     * Encodes the cursor pointing after the last note of the provided
+     * {@link Window}.
+     * 
+     * @param window The {@link Window} of notes retrieved with the cursor.
+     * @param cursor The {@link NoteCursor} used to retrieve the window.
+     * @return The encoded cursor, or {@code null} if there are no more notes.
+     */
+    public static String encodeNext(Window<Note> window, NoteCursor cursor) {
+        if (window.isEmpty() || !window.hasNext()) {
+            return null;
+        }
+
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        Map<String, ?> keys = position.getKeys();
+        String decodedCursor = String.join(SEPARATOR, cursor.property(), cursor.direction().name(),
+                keys.get("id").toString(), keys.get(cursor.property()).toString());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(decodedCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,135 @@
+package io.github.lsmcodes.notes_api.util;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteResponseDTO;
+
+/**
+ * Provides methods to select the fields of the notes returned by the list
+ * endpoints. A sparse fieldset names the fields to be returned, such as
+ * {@code id,title,tags,updatedAt}, and the summary view returns every field
+ * but the content, replaced by a snippet of its beginning.
+ */
+public class NoteFieldsUtil {
+
+    /**
+     * The pattern of the {@code fields} parameter, a comma-separated list of
+     * note fields.
+     */
+    public static final String FIELDS_PATTERN = "^(id|title|content|snippet|tags|createdAt|updatedAt)"
+            + "(,(id|title|content|snippet|tags|createdAt|updatedAt))*$";
+
+    /**
+     * The pattern of the {@code view} parameter.
+     */
+    public static final String VIEW_PATTERN = "^(full|summary)$";
+
+    /**
+     * The maximum number of characters of a snippet, without the ellipsis.
+     */
+    public static final int SNIPPET_LENGTH = 160;
+
+    /**
+     * The number of characters at the beginning of the content a snippet is
+     * computed from, leaving room for the whitespace it collapses.
+     */
+    public static final int SNIPPET_SOURCE_LENGTH = 2 * SNIPPET_LENGTH;
+
+    private static final Set<String> SUMMARY_FIELDS = Set.of("id", "title", "snippet", "tags", "createdAt",
+            "updatedAt");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String ELLIPSIS = "…";
+
+    /**
+     * Returns the fields selected by the provided parameters. A sparse fieldset
+     * takes precedence over the view.
+     * 
+     * @param fields The comma-separated fields, or {@code null}.
+     * @param view   The view, either "full" or "summary", or {@code null}.
+     * @return The {@link Set} of selected fields, or {@code null} if every field
+     *         but the snippet is returned.
+     */
+    public static Set<String> parse(String fields, String view) {
+        if (fields != null) {
+            return Arrays.stream(fields.split(",")).collect(Collectors.toUnmodifiableSet());
+        }
+
+        return "summary".equals(view) ? SUMMARY_FIELDS : null;
+    }
+
+    /**
+     * Tells whether the provided fields can be read without the note content.
+     * 
+     * @param fields The selected fields, or {@code null} for every field.
+     * @return {@code true} if the content is not selected; {@code false}
+     *         otherwise.
+     */
+    public static boolean isSummary(Set<String> fields) {
+        return fields != null && !fields.contains("content");
+    }
+
+    /**
+     * Keeps the provided fields of the note, computing its snippet from the
+     * content when it is selected and the content was read.
+     * 
+     * @param dto    The {@link NoteResponseDTO} whose fields are selected.
+     * @param fields The selected fields, or {@code null} for every field.
+     * @return The provided {@link NoteResponseDTO}, with the other fields set to
+     *         {@code null}.
+     */
+    public static NoteResponseDTO select(NoteResponseDTO dto, Set<String> fields) {
+        if (fields == null) {
+            return dto;
+        }
+
+        if (fields.contains("snippet") && dto.getSnippet() == null && dto.getContent() != null) {
+            dto.setSnippet(snippet(dto.getContent()));
+        }
+
+        dto.setId(fields.contains("id") ? dto.getId() : null);
+        dto.setTitle(fields.contains("title") ? dto.getTitle() : null);
+        dto.setContent(fields.contains("content") ? dto.getContent() : null);
+        dto.setSnippet(fields.contains("snippet") ? dto.getSnippet() : null);
+        dto.setTags(fields.contains("tags") ? dto.getTags() : null);
+        dto.setCreatedAt(fields.contains("createdAt") ? dto.getCreatedAt() : null);
+        dto.setUpdatedAt(fields.contains("updatedAt") ? dto.getUpdatedAt() : null);
+        return dto;
+    }
+
+    /**
+     * Computes the snippet of the provided content: its beginning, with
+     * whitespace collapsed, cut at a word boundary and followed by an ellipsis
+     * when the content goes on.
+     * 
+     * @param content The content, or at least its first
+     *                {@link #SNIPPET_SOURCE_LENGTH} characters plus one if it
+     *                goes on.
+     * @return The snippet of the content.
+     */
+    public static String snippet(String content) {
+        boolean truncated = content.length() > SNIPPET_SOURCE_LENGTH;
+        String text = WHITESPACE.matcher(truncated ? content.substring(0, SNIPPET_SOURCE_LENGTH) : content)
+                .replaceAll(" ").strip();
+
+        if (text.length() > SNIPPET_LENGTH) {
+            int cut = text.lastIndexOf(' ', SNIPPET_LENGTH);
+
+            if (cut < SNIPPET_LENGTH / 2) {
+                cut = Character.isLowSurrogate(text.charAt(SNIPPET_LENGTH)) ? SNIPPET_LENGTH - 1 : SNIPPET_LENGTH;
+            }
+
+            text = text.substring(0, cut).stripTrailing();
+            truncated = true;
+        } else if (truncated && !text.isEmpty() && Character.isHighSurrogate(text.charAt(text.length() - 1))) {
+            text = text.substring(0, text.length() - 1);
+        }
+
+        return truncated ? text + ELLIPSIS : text;
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.github.lsmcodes.notes_api.util;
+
+import java.io.IOException;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteRequestDTO;
+
+/**
+ * Reads the notes of an import one record at a time, so the imported notes are
+ * never held in memory all at once.
+ */
+public interface NoteImportReader {
+
+    /**
+     * The maximum number of characters of a record. The rest of a longer record
+     * is skipped without being held in memory, and the record is rejected.
+     */
+    int MAX_RECORD_LENGTH = 1024 * 1024;
+
+    /**
+     * The reason why a record longer than {@link #MAX_RECORD_LENGTH} is
+     * rejected.
+     */
+    String RECORD_TOO_LONG = "The record must contain " + MAX_RECORD_LENGTH + " characters or less";
+
+    /**
+     * Represents a record read from an import.
+     * 
+     * @param line  The line of the import where the record starts, counting
+     *              from 1.
+     * @param dto   The {@link NoteRequestDTO} read from the record, or
+     *              {@code null} if the record could not be read.
+     * @param error The reason why the record could not be read, or {@code null}
+     *              if it was read.
+     */
+    record NoteImportRecord(long line, NoteRequestDTO dto, String error) {
+
+    }
+
+    /**
+     * Reads the next record of the import.
+     * 
+     * @return The next {@link NoteImportRecord}, or {@code null} if the import
+     *         has no more records.
+     * @throws IOException If an error occurs while reading the import.
+     */
+    NoteImportRecord next() throws IOException;
+
+}
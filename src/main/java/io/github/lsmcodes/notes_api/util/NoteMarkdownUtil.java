@@ -0,0 +1,241 @@
+package io.github.lsmcodes.notes_api.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteRequestDTO;
+import io.github.lsmcodes.notes_api.dto.model.note.NoteResponseDTO;
+import io.github.lsmcodes.notes_api.exception.InvalidFrontMatterException;
+
+/**
+ * Provides methods to convert notes to and from Markdown files. A file starts
+ * with a YAML front matter holding the title, tags and dates of the note,
+ * followed by its content. Every front matter value is written as JSON, which
+ * YAML reads as a double-quoted string or a flow sequence. When reading, the
+ * common subset of YAML written by other tools is also accepted: plain and
+ * single-quoted scalars, and flow or block sequences.
+ */
+public class NoteMarkdownUtil {
+
+    private static final String FRONT_MATTER_DELIMITER = "---";
+
+    private static final int MAX_FILE_NAME_TITLE_LENGTH = 50;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Converts the provided note to Markdown.
+     * 
+     * @param note The {@link NoteResponseDTO} to be converted.
+     * @return The Markdown text, with the front matter and the content of the
+     *         note.
+     */
+    public static String toMarkdown(NoteResponseDTO note) {
+        String tags = note.getTags() == null ? ""
+                : note.getTags().stream().map(NoteMarkdownUtil::quote).collect(Collectors.joining(", "));
+
+        return FRONT_MATTER_DELIMITER + "\n"
+                + "title: " + quote(note.getTitle()) + "\n"
+                + "tags: [" + tags + "]\n"
+                + "createdAt: " + quote(String.valueOf(note.getCreatedAt())) + "\n"
+                + "updatedAt: " + quote(String.valueOf(note.getUpdatedAt())) + "\n"
+                + FRONT_MATTER_DELIMITER + "\n"
+                + note.getContent();
+    }
+
+    /**
+     * Returns the file name of the provided note, made of its title, without the
+     * characters that are not safe in file names, and its id, so every note has
+     * its own file.
+     * 
+     * @param note The {@link NoteResponseDTO} whose file name is returned.
+     * @return The file name of the note, with the {@code .md} extension.
+     */
+    public static String fileName(NoteResponseDTO note) {
+        String title = note.getTitle().replaceAll("[^\\p{L}\\p{N} ._-]", "_").strip();
+
+        if (title.codePointCount(0, title.length()) > MAX_FILE_NAME_TITLE_LENGTH) {
+            title = title.substring(0, title.offsetByCodePoints(0, MAX_FILE_NAME_TITLE_LENGTH)).strip();
+        }
+
+        return (title.isEmpty() ? "" : title + " ") + note.getId() + ".md";
+    }
+
+    /**
+     * Reads the note of the provided Markdown file. The title and tags are read
+     * from the front matter, if any, and the rest of the file is the content. A
+     * file without a title in its front matter is titled after its file name.
+     * The other front matter keys, including the dates, are ignored.
+     * 
+     * @param fileName The name of the file, possibly with its directories.
+     * @param markdown The Markdown text of the file.
+     * @return A {@link NoteRequestDTO} with the title, tags and content of the
+     *         note.
+     * @throws InvalidFrontMatterException If the front matter is not closed or
+     *                                     one of its values cannot be read.
+     */
+    public static NoteRequestDTO fromMarkdown(String fileName, String markdown) throws InvalidFrontMatterException {
+        String text = markdown.startsWith("\uFEFF") ? markdown.substring(1) : markdown;
+        Map<String, Object> frontMatter = new LinkedHashMap<>();
+        int position = 0;
+
+        if (text.startsWith(FRONT_MATTER_DELIMITER + "\n") || text.startsWith(FRONT_MATTER_DELIMITER + "\r\n")) {
+            position = text.indexOf('\n') + 1;
+            List<String> sequence = null;
+
+            while (true) {
+                if (position >= text.length()) {
+                    throw new InvalidFrontMatterException("The front matter is not closed");
+                }
+
+                int lineEnd = text.indexOf('\n', position);
+                String line = text.substring(position, lineEnd == -1 ? text.length() : lineEnd).stripTrailing();
+                position = lineEnd == -1 ? text.length() : lineEnd + 1;
+
+                if (line.equals(FRONT_MATTER_DELIMITER)) {
+                    break;
+                }
+
+                if (line.isBlank() || line.stripLeading().startsWith("#")) {
+                    continue;
+                }
+
+                if (sequence != null && line.stripLeading().startsWith("-")) {
+                    sequence.add(parseScalar(line.stripLeading().substring(1).strip()));
+                    continue;
+                }
+
+                int separator = line.indexOf(':');
+
+                if (separator <= 0) {
+                    throw new InvalidFrontMatterException("The front matter line \"" + line + "\" is not a key");
+                }
+
+                String key = line.substring(0, separator).strip();
+                String value = line.substring(separator + 1).strip();
+                sequence = null;
+
+                if (value.isEmpty()) {
+                    sequence = new ArrayList<>();
+                    frontMatter.put(key, sequence);
+                } else {
+                    frontMatter.put(key, parseValue(key, value));
+                }
+            }
+        }
+
+        NoteRequestDTO dto = new NoteRequestDTO();
+        dto.setTitle(frontMatter.get("title") instanceof String title ? title : baseName(fileName));
+        dto.setContent(text.substring(position));
+
+        Object tags = frontMatter.get("tags");
+
+        if (tags instanceof String tag) {
+            dto.setTags(List.of(tag));
+        } else if (tags instanceof List<?> tagList && !tagList.isEmpty()) {
+            dto.setTags(tagList.stream().map(String::valueOf).toList());
+        }
+
+        return dto;
+    }
+
+    /**
+     * Parses the provided front matter value, which is either a scalar or a flow
+     * sequence of scalars.
+     * 
+     * @param key   The key of the value.
+     * @param value The value to be parsed.
+     * @return The parsed {@link String} or {@link List} of {@link String}.
+     * @throws InvalidFrontMatterException If the value cannot be parsed.
+     */
+    private static Object parseValue(String key, String value) throws InvalidFrontMatterException {
+        if (!value.startsWith("[")) {
+            return parseScalar(value);
+        }
+
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(value);
+            List<String> values = new ArrayList<>();
+
+            for (JsonNode element : node) {
+                if (!element.isValueNode()) {
+                    throw new InvalidFrontMatterException("The front matter value of \"" + key + "\" is invalid");
+                }
+
+                values.add(element.asText());
+            }
+
+            return values;
+        } catch (JsonProcessingException e) {
+            if (!value.endsWith("]")) {
+                throw new InvalidFrontMatterException("The front matter value of \"" + key + "\" is invalid");
+            }
+
+            List<String> values = new ArrayList<>();
+
+            for (String element : value.substring(1, value.length() - 1).split(",")) {
+                if (!element.isBlank()) {
+                    values.add(parseScalar(element.strip()));
+                }
+            }
+
+            return values;
+        }
+    }
+
+    /**
+     * Parses the provided scalar, which is either double-quoted as in JSON,
+     * single-quoted or plain.
+     * 
+     * @param value The scalar to be parsed.
+     * @return The parsed scalar.
+     * @throws InvalidFrontMatterException If a double-quoted scalar is invalid.
+     */
+    private static String parseScalar(String value) throws InvalidFrontMatterException {
+        if (value.startsWith("\"")) {
+            try {
+                return OBJECT_MAPPER.readValue(value, String.class);
+            } catch (JsonProcessingException e) {
+                throw new InvalidFrontMatterException("The front matter value " + value + " is invalid");
+            }
+        }
+
+        if (value.length() >= 2 && value.startsWith("'") && value.endsWith("'")) {
+            return value.substring(1, value.length() - 1).replace("''", "'");
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the name of the provided file without its directories and its
+     * {@code .md} extension.
+     * 
+     * @param fileName The name of the file, possibly with its directories.
+     * @return The base name of the file.
+     */
+    private static String baseName(String fileName) {
+        String name = fileName.substring(fileName.lastIndexOf('/') + 1);
+        return name.toLowerCase(Locale.ROOT).endsWith(".md") ? name.substring(0, name.length() - 3) : name;
+    }
+
+    /**
+     * Quotes the provided value as a JSON string.
+     * 
+     * @param value The value to be quoted.
+     * @return The quoted value, with its special characters escaped.
+     */
+    private static String quote(String value) {
+        return "\"" + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + "\"";
+    }
+
+}
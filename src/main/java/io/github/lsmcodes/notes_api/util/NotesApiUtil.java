@@ -1,14 +1,18 @@
 package io.github.lsmcodes.notes_api.util;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.validation.BindingResult;
 
 import io.github.lsmcodes.notes_api.enumeration.UserRole;
 import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.tag.Tag;
 import io.github.lsmcodes.notes_api.model.user.User;
 import io.github.lsmcodes.notes_api.repository.note.NoteRepository;
+import io.github.lsmcodes.notes_api.repository.tag.TagRepository;
 import io.github.lsmcodes.notes_api.repository.user.UserRepository;
 
 /**
@@ -36,7 +40,7 @@ public class NotesApiUtil {
      * @return The created {@link Note} instance.
      */
     public static Note getNewNote(NoteRepository repository) {
-        Note note = Note.builder().tags(List.of("Tag")).title("Sample Title").content("Sample content.").build();
+        Note note = Note.builder().title("Sample Title").content("Sample content.").build();
         return repository.save(note);
     }
 
@@ -46,8 +50,21 @@ public class NotesApiUtil {
      * @return The created {@link Note} instance.
      */
     public static Note getNewNote() {
-        return Note.builder().id(UUID.randomUUID()).tags(List.of("Tag")).title("Sample Title")
-                .content("Sample content.").build();
+        Set<Tag> tags = new LinkedHashSet<>(List.of(Tag.builder().id(1L).name("tag").build()));
+        return Note.builder().id(UUID.randomUUID()).tags(tags).title("Sample Title").content("Sample content.")
+                .build();
+    }
+
+    /**
+     * Creates and saves a generic {@link Tag} instance of the provided user for
+     * use in tests.
+     * 
+     * @param repository The repository where the Tag instance will be saved.
+     * @param user       The owner of the tag.
+     * @return The created {@link Tag} instance.
+     */
+    public static Tag getNewTag(TagRepository repository, User user) {
+        return repository.save(Tag.builder().user(user).name("tag").build());
     }
 
     /**
@@ -0,0 +1,30 @@
+CREATE TABLE user_tags (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id UUID NOT NULL,
+    name VARCHAR(30) NOT NULL,
+    PRIMARY KEY (id),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Names are stored lower case, so this index also serves the case-insensitive tag lookups.
+CREATE UNIQUE INDEX user_tags_user_id_name_idx ON user_tags (user_id, name);
+
+CREATE TABLE note_tags (
+    note_id UUID,
+    tag_id BIGINT,
+    PRIMARY KEY (note_id, tag_id),
+    FOREIGN KEY (note_id) REFERENCES notes(id) ON DELETE CASCADE,
+    FOREIGN KEY (tag_id) REFERENCES user_tags(id) ON DELETE CASCADE
+);
+
+CREATE INDEX note_tags_tag_id_note_id_idx ON note_tags (tag_id, note_id);
+
+INSERT INTO user_tags (user_id, name)
+SELECT DISTINCT n.user_id, LOWER(t.tag) FROM tags t JOIN notes n ON n.id = t.note_id WHERE n.user_id IS NOT NULL;
+
+INSERT INTO note_tags (note_id, tag_id)
+SELECT DISTINCT t.note_id, u.id FROM tags t
+JOIN notes n ON n.id = t.note_id
+JOIN user_tags u ON u.user_id = n.user_id AND u.name = LOWER(t.tag);
+
+DROP TABLE tags;
@@ -0,0 +1,3 @@
+ALTER TABLE user_tags ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE user_tags_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1 @@
+ALTER TABLE users ADD COLUMN credential_version INTEGER NOT NULL DEFAULT 0;
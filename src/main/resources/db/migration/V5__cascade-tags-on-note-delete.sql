@@ -0,0 +1,12 @@
+ALTER TABLE tags RENAME TO tags_old;
+
+CREATE TABLE tags (
+    note_id UUID,
+    tag VARCHAR(30) NOT NULL,
+    CONSTRAINT tags_note_id_tag_pkey PRIMARY KEY (note_id, tag),
+    FOREIGN KEY (note_id) REFERENCES notes(id) ON DELETE CASCADE
+);
+
+INSERT INTO tags (note_id, tag) SELECT note_id, tag FROM tags_old;
+
+DROP TABLE tags_old;
@@ -0,0 +1,7 @@
+CREATE INDEX notes_user_id_title_id_idx ON notes (user_id, title, id);
+
+CREATE INDEX notes_user_id_created_at_id_idx ON notes (user_id, created_at, id);
+
+CREATE INDEX notes_user_id_updated_at_id_idx ON notes (user_id, updated_at, id);
+
+DROP INDEX notes_user_id_idx;
@@ -0,0 +1,484 @@
+package io.github.lsmcodes.notes_api.controller.note;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.validation.BindingResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteContentDeltaRequestDTO;
+import io.github.lsmcodes.notes_api.dto.model.note.NoteContentOperationDTO;
+import io.github.lsmcodes.notes_api.dto.model.note.NotePatchRequestDTO;
+import io.github.lsmcodes.notes_api.dto.model.note.NoteRequestDTO;
+import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.note.NoteRepository;
+import io.github.lsmcodes.notes_api.repository.user.UserRepository;
+import io.github.lsmcodes.notes_api.service.note.NoteService;
+import io.github.lsmcodes.notes_api.service.security.TokenService;
+import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+import io.github.lsmcodes.notes_api.util.StatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Statement budget tests for the {@link NoteController} class. Each endpoint is
+ * called with a real token against the database, and the number of SQL
+ * statements it runs must stay within its budget, so that N+1 queries and
+ * extra round trips fail the build.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(OrderAnnotation.class)
+public class NoteControllerStatementBudgetTest {
+
+    private static final String USERNAME = "note_budget_user";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private StatementCounter statementCounter;
+
+    private User user;
+
+    private Note note;
+
+    /**
+     * Creates the authenticated user, if needed, and a note with two tags owned
+     * by it.
+     */
+    @BeforeEach
+    public void setUp() {
+        this.statementCounter = new StatementCounter(this.entityManagerFactory);
+        this.user = this.userRepository.findByUsername(USERNAME).orElseGet(() -> {
+            User newUser = NotesApiUtil.getNewUser();
+            newUser.setId(null);
+            newUser.setUsername(USERNAME);
+            return this.userRepository.save(newUser);
+        });
+
+        Note newNote = NotesApiUtil.getNewNote();
+        newNote.setId(null);
+        newNote.setUser(this.user);
+        this.note = this.noteService.save(newNote, List.of("Tag", "Other"));
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#createNote(User loggedInUser, NoteRequestDTO dto, BindingResult result)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("NoteController createNote should stay within its statement budget")
+    public void createNote_ShouldStayWithinStatementBudget() throws Exception {
+        // The tags already exist, so they are resolved with a single dictionary lookup
+        NoteRequestDTO dto = new NoteRequestDTO(List.of("Tag", "Other"), "Sample Title", "Sample content.");
+        this.assertStatementBudget(MockMvcRequestBuilders.post("/notes-api/notes")
+                .content(new ObjectMapper().writeValueAsString(dto)).contentType(MediaType.APPLICATION_JSON), 5);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findById(User loggedInUser, UUID id)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("NoteController findById should stay within its statement budget")
+    public void findById_ShouldStayWithinStatementBudget() throws Exception {
+        this.assertStatementBudget(MockMvcRequestBuilders.get("/notes-api/notes/{id}", this.note.getId()), 3);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findAll(User loggedInUser, int page, int size, String property, String sortDirection, String fields, String view)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("NoteController findAll should stay within its statement budget")
+    public void findAll_ShouldStayWithinStatementBudget() throws Exception {
+        this.assertStatementBudget(MockMvcRequestBuilders.get("/notes-api/notes"), 4);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findAll(User loggedInUser, int page, int size, String property, String sortDirection, String fields, String view)}
+     * statement budget with the summary view.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("NoteController findAll should stay within its statement budget with the summary view")
+    public void findAll_ShouldStayWithinStatementBudget_WithTheSummaryView() throws Exception {
+        // The tag names are read by their own query, as the notes are not loaded as entities
+        this.assertStatementBudget(MockMvcRequestBuilders.get("/notes-api/notes").param("view", "summary"), 5);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findAll(User loggedInUser, int page, int size, String property, String sortDirection, String fields, String view)}
+     * statement budget with a sparse fieldset without the tags.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("NoteController findAll should stay within its statement budget with a sparse fieldset without the tags")
+    public void findAll_ShouldStayWithinStatementBudget_WithASparseFieldsetWithoutTheTags() throws Exception {
+        // The tag names are not read when the tags are not selected
+        this.assertStatementBudget(MockMvcRequestBuilders.get("/notes-api/notes").param("fields", "id,title"), 4);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findByTitleOrContentContainingTerm(User loggedInUser, String term, int page, int size, String property, String sortDirection, String fields, String view)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(4)
+    @DisplayName("NoteController findByTitleOrContentContainingTerm should stay within its statement budget")
+    public void findByTitleOrContentContainingTerm_ShouldStayWithinStatementBudget() throws Exception {
+        this.assertStatementBudget(MockMvcRequestBuilders.get("/notes-api/notes/term").param("term", "sample"), 4);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findByTags(User loggedInUser, List tags, int page, int size, String property, String sortDirection, String fields, String view)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(5)
+    @DisplayName("NoteController findByTags should stay within its statement budget")
+    public void findByTags_ShouldStayWithinStatementBudget() throws Exception {
+        // The tag names are resolved to tag ids once, before the notes are queried
+        this.assertStatementBudget(MockMvcRequestBuilders.get("/notes-api/notes/tags").param("tags", "tag"), 5);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#updateById(User loggedInUser, UUID id, NoteRequestDTO dto, BindingResult result)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteController updateById should stay within its statement budget")
+    public void updateById_ShouldStayWithinStatementBudget() throws Exception {
+        // Includes the dictionary lookup, the insert of the new tag and one delete per removed tag
+        NoteRequestDTO dto = new NoteRequestDTO(List.of("Updated tag"), "Updated Title", "Updated content.");
+        this.assertStatementBudget(MockMvcRequestBuilders.put("/notes-api/notes/{id}", this.note.getId())
+                .content(new ObjectMapper().writeValueAsString(dto)).contentType(MediaType.APPLICATION_JSON), 9);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#updateById(User loggedInUser, UUID id, NoteRequestDTO dto, BindingResult result)}
+     * statement budget when the tags are unchanged.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(7)
+    @DisplayName("NoteController updateById should not write the tags when they are unchanged")
+    public void updateById_ShouldNotWriteTheTagsWhenTheyAreUnchanged() throws Exception {
+        // Only the user lookups, the note and the note update, without any dictionary lookup or tag write
+        NoteRequestDTO dto = new NoteRequestDTO(List.of("TAG", "other"), "Updated Title", "Updated content.");
+        this.assertStatementBudget(MockMvcRequestBuilders.put("/notes-api/notes/{id}", this.note.getId())
+                .content(new ObjectMapper().writeValueAsString(dto)).contentType(MediaType.APPLICATION_JSON), 4);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#updateById(User loggedInUser, UUID id, NoteRequestDTO dto, BindingResult result)}
+     * statement budget when a single tag is replaced.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(8)
+    @DisplayName("NoteController updateById should only write the changed tags")
+    public void updateById_ShouldOnlyWriteTheChangedTags() throws Exception {
+        // One delete for the removed tag and one insert for the added tag, the kept tag is not rewritten
+        NoteRequestDTO dto = new NoteRequestDTO(List.of("tag", "New"), "Sample Title", "Sample content.");
+        this.assertStatementBudget(MockMvcRequestBuilders.put("/notes-api/notes/{id}", this.note.getId())
+                .content(new ObjectMapper().writeValueAsString(dto)).contentType(MediaType.APPLICATION_JSON), 7);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#patchById(User loggedInUser, UUID id, NotePatchRequestDTO dto, BindingResult result)}
+     * statement budget when only the title is supplied.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(9)
+    @DisplayName("NoteController patchById should update the title with a single statement")
+    public void patchById_ShouldUpdateTheTitleWithASingleStatement() throws Exception {
+        // Only the user lookup and the update, the note and its tags are not loaded
+        this.assertStatementBudget(MockMvcRequestBuilders.patch("/notes-api/notes/{id}", this.note.getId())
+                .content("{\"title\":\"Patched Title\"}").contentType("application/merge-patch+json"), 2);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#updateContentById(User loggedInUser, UUID id, NoteContentDeltaRequestDTO dto, BindingResult result)}
+     * statement budget, and that the returned update date is the base of the
+     * next delta.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(10)
+    @DisplayName("NoteController updateContentById should stay within its statement budget")
+    public void updateContentById_ShouldStayWithinStatementBudget() throws Exception {
+        // The user lookups, the locked note, the update and the read of the new update date
+        LocalDateTime baseUpdatedAt = this.noteRepository.findById(this.note.getId()).orElseThrow().getUpdatedAt();
+        NoteContentDeltaRequestDTO dto = new NoteContentDeltaRequestDTO(baseUpdatedAt,
+                List.of(new NoteContentOperationDTO(7, null, null), new NoteContentOperationDTO(null, "edited ", null)));
+        this.assertStatementBudget(MockMvcRequestBuilders.patch("/notes-api/notes/{id}/content", this.note.getId())
+                .content(this.objectMapper.writeValueAsString(dto)).contentType(MediaType.APPLICATION_JSON), 5);
+
+        Note updatedNote = this.noteRepository.findById(this.note.getId()).orElseThrow();
+        assertThat(updatedNote.getContent()).isEqualTo("Sample edited content.");
+        assertThat(updatedNote.getUpdatedAt()).isAfterOrEqualTo(baseUpdatedAt);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#deleteById(User loggedInUser, UUID id)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(11)
+    @DisplayName("NoteController deleteById should stay within its statement budget")
+    public void deleteById_ShouldStayWithinStatementBudget() throws Exception {
+        this.assertStatementBudget(MockMvcRequestBuilders.delete("/notes-api/notes/{id}", this.note.getId()), 3);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#deleteByIds(User loggedInUser, List ids)}
+     * statement budget, which must not grow with the number of ids.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(12)
+    @DisplayName("NoteController deleteByIds should stay within its statement budget")
+    public void deleteByIds_ShouldStayWithinStatementBudget() throws Exception {
+        // The user lookup, the existing ids, then one delete for the tags and one for the notes
+        Note otherNote = NotesApiUtil.getNewNote();
+        otherNote.setId(null);
+        otherNote.setUser(this.user);
+        otherNote = this.noteService.save(otherNote, List.of("Tag"));
+
+        this.assertStatementBudget(MockMvcRequestBuilders.delete("/notes-api/notes").param("ids",
+                this.note.getId().toString(), otherNote.getId().toString(), UUID.randomUUID().toString()), 4);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#createNotes(User loggedInUser, List dtos)}
+     * statement budget, which must not grow with the number of notes.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(13)
+    @DisplayName("NoteController createNotes should stay within its statement budget")
+    public void createNotes_ShouldStayWithinStatementBudget() throws Exception {
+        // A single dictionary lookup, then the notes and their tags are inserted in JDBC batches
+        List<NoteRequestDTO> dtos = IntStream.range(0, 40).mapToObj(
+                i -> new NoteRequestDTO(List.of("Tag", "Other"), "Batch Title " + i, "Batch content.")).toList();
+        this.assertStatementBudget(MockMvcRequestBuilders.post("/notes-api/notes/batch")
+                .content(new ObjectMapper().writeValueAsString(dtos)).contentType(MediaType.APPLICATION_JSON), 4);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#createNotes(User loggedInUser, List dtos)}
+     * statement budget when every note adds a new tag, which must not grow with
+     * the number of created tags.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(13)
+    @DisplayName("NoteController createNotes should stay within its statement budget when creating tags")
+    public void createNotes_ShouldStayWithinStatementBudget_WhenCreatingTags() throws Exception {
+        // A single dictionary lookup, one sequence call per 50 new tags, then every row is inserted in JDBC batches
+        List<NoteRequestDTO> dtos = IntStream.range(0, 40).mapToObj(
+                i -> new NoteRequestDTO(List.of("New Tag " + i), "New Tag Title " + i, "Batch content.")).toList();
+        this.assertStatementBudget(MockMvcRequestBuilders.post("/notes-api/notes/batch")
+                .content(new ObjectMapper().writeValueAsString(dtos)).contentType(MediaType.APPLICATION_JSON), 6);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#importNdjsonNotes(User loggedInUser, InputStream body)}
+     * statement budget, which must not grow with the number of notes of a chunk.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(14)
+    @DisplayName("NoteController importNdjsonNotes should stay within its statement budget")
+    public void importNdjsonNotes_ShouldStayWithinStatementBudget() throws Exception {
+        // A single dictionary lookup, then the notes and their tags are inserted in JDBC batches
+        String body = IntStream.range(0, 120).mapToObj(
+                i -> "{\"tags\":[\"Tag\"],\"title\":\"Import Title " + i + "\",\"content\":\"Import content.\"}")
+                .collect(Collectors.joining("\n"));
+        this.assertStatementBudget(MockMvcRequestBuilders.post("/notes-api/notes/import")
+                .content(body).contentType(MediaType.APPLICATION_NDJSON), 4);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#importZipNotes(User loggedInUser, InputStream body)}
+     * statement budget, which must not grow with the number of files of a chunk.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(15)
+    @DisplayName("NoteController importZipNotes should stay within its statement budget")
+    public void importZipNotes_ShouldStayWithinStatementBudget() throws Exception {
+        // A single dictionary lookup, then the notes and their tags are inserted in JDBC batches
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+
+        try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+            for (int i = 0; i < 120; i++) {
+                zip.putNextEntry(new ZipEntry("Zip Import Title " + i + ".md"));
+                zip.write("---\ntags: [\"Tag\"]\n---\nImport content.".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        this.assertStatementBudget(MockMvcRequestBuilders.post("/notes-api/notes/import.zip")
+                .content(archive.toByteArray()).contentType("application/zip"), 4);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#exportAll(User loggedInUser, HttpServletResponse response)}
+     * statement budget, which must not grow with the number of notes.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(16)
+    @DisplayName("NoteController exportAll should stay within its statement budget")
+    public void exportAll_ShouldStayWithinStatementBudget() throws Exception {
+        // The user lookups, then a single query streams the notes with their tags
+        this.assertStatementBudget(MockMvcRequestBuilders.get("/notes-api/notes/export"), 3);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#exportZip(User loggedInUser, HttpServletResponse response)}
+     * statement budget, which must not grow with the number of notes.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(17)
+    @DisplayName("NoteController exportZip should stay within its statement budget")
+    public void exportZip_ShouldStayWithinStatementBudget() throws Exception {
+        // The user lookups, then a single query streams the notes with their tags
+        this.assertStatementBudget(MockMvcRequestBuilders.get("/notes-api/notes/export.zip"), 3);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#deleteAll(User loggedInUser)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(18)
+    @DisplayName("NoteController deleteAll should stay within its statement budget")
+    public void deleteAll_ShouldStayWithinStatementBudget() throws Exception {
+        // The user lookup, then one delete for the tags and one for the notes, whatever the number of notes
+        this.assertStatementBudget(MockMvcRequestBuilders.delete("/notes-api/notes"), 3);
+    }
+
+    /**
+     * Performs the provided request as the authenticated user and asserts it
+     * succeeds within the provided number of SQL statements.
+     * 
+     * @param request The request to be performed.
+     * @param budget  The maximum number of SQL statements.
+     * @throws Exception if an error occurs while performing the request.
+     */
+    private void assertStatementBudget(MockHttpServletRequestBuilder request, long budget) throws Exception {
+        request.header(HttpHeaders.AUTHORIZATION, "Bearer " + this.tokenService.generateToken(this.user))
+                .accept(MediaType.APPLICATION_JSON);
+
+        long statements = this.statementCounter.count(
+                () -> this.mockMvc.perform(request).andExpect(status().is2xxSuccessful()));
+
+        assertThat(statements).as("SQL statements").isLessThanOrEqualTo(budget);
+    }
+
+}
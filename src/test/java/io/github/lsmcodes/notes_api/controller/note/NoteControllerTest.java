@@ -1,11 +1,28 @@
 package io.github.lsmcodes.notes_api.controller.note;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
@@ -13,6 +30,7 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,9 +40,13 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -34,13 +56,21 @@ import org.springframework.validation.BindingResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.github.lsmcodes.notes_api.dto.model.note.NoteContentDeltaRequestDTO;
+import io.github.lsmcodes.notes_api.dto.model.note.NotePatchRequestDTO;
 import io.github.lsmcodes.notes_api.dto.model.note.NoteRequestDTO;
+import io.github.lsmcodes.notes_api.exception.NoteNotFoundException;
+import io.github.lsmcodes.notes_api.exception.StaleNoteException;
 import io.github.lsmcodes.notes_api.exception.UserNotFoundException;
 import io.github.lsmcodes.notes_api.model.note.Note;
 import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.note.NoteSummary;
 import io.github.lsmcodes.notes_api.service.note.NoteService;
 import io.github.lsmcodes.notes_api.service.user.UserService;
 import io.github.lsmcodes.notes_api.service.verification.VerificationService;
+import io.github.lsmcodes.notes_api.util.NoteCursorUtil;
+import io.github.lsmcodes.notes_api.util.NoteCursorUtil.NoteCursor;
+import io.github.lsmcodes.notes_api.util.NoteImportReader;
 import io.github.lsmcodes.notes_api.util.NotesApiUtil;
 
 /**
@@ -67,7 +97,7 @@ public class NoteControllerTest {
 
     /**
      * Tests the
-     * {@link NoteController#createNote(NoteRequestDTO dto, BindingResult result)}
+     * {@link NoteController#createNote(User loggedInUser, NoteRequestDTO dto, BindingResult result)}
      * to ensure it correctly creates a new note.
      * 
      * @throws Exception if an error occurs while creating a note.
@@ -80,23 +110,335 @@ public class NoteControllerTest {
         // Arrange
         this.setUpAuthenticatedUser();
         NoteRequestDTO noteRequestDTO = new NoteRequestDTO(List.of("Tag"), "Sample Title", "Sample content.");
-        Note note = noteRequestDTO.DTOToEntity();
+        Note note = NotesApiUtil.getNewNote();
 
-        Mockito.when(this.noteService.save(note)).thenReturn(note);
+        Mockito.when(this.noteService.save(ArgumentMatchers.any(Note.class), ArgumentMatchers.eq(List.of("Tag"))))
+                .thenReturn(note);
 
         // Act and Assert
         mockMvc.perform(MockMvcRequestBuilders.post("/notes-api/notes")
                 .content(new ObjectMapper().writeValueAsString(noteRequestDTO)).contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.data.tags").value(note.getTags()))
+                .andExpect(jsonPath("$.data.tags[0]").value("tag"))
                 .andExpect(jsonPath("$.data.title").value(note.getTitle()))
                 .andExpect(jsonPath("$.data.content").value(note.getContent()));
     }
 
     /**
      * Tests the
-     * {@link NoteController#findById(UUID id)}
+     * {@link NoteController#createNotes(User loggedInUser, List dtos)}
+     * to ensure it creates all the notes with their tags.
+     * 
+     * @throws Exception if an error occurs while creating the notes.
+     */
+    @Test
+    @Order(1)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController createNotes should create the notes")
+    public void createNotes_ShouldCreateTheNotes() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        List<NoteRequestDTO> dtos = List.of(new NoteRequestDTO(List.of("tag"), "First Title", "First content."),
+                new NoteRequestDTO(null, "Second Title", "Second content."));
+
+        Mockito.when(this.noteService.saveAll(ArgumentMatchers.eq(user), ArgumentMatchers.anyList(),
+                ArgumentMatchers.anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/notes-api/notes/batch")
+                .content(new ObjectMapper().writeValueAsString(dtos))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data[0].title").value("First Title"))
+                .andExpect(jsonPath("$.data[1].title").value("Second Title"));
+
+        Mockito.verify(this.noteService).saveAll(ArgumentMatchers.eq(user), ArgumentMatchers.anyList(),
+                ArgumentMatchers.eq(Arrays.asList(List.of("tag"), null)));
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#createNotes(User loggedInUser, List dtos)}
+     * to ensure it reports the errors of each invalid note and creates none of
+     * the notes.
+     * 
+     * @throws Exception if an error occurs while creating the notes.
+     */
+    @Test
+    @Order(1)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController createNotes should report the errors of each invalid note")
+    public void createNotes_ShouldReportTheErrorsOfEachInvalidNote() throws Exception {
+        // Arrange
+        this.setUpAuthenticatedUser();
+        List<NoteRequestDTO> dtos = List.of(new NoteRequestDTO(null, "Valid Title", "Valid content."),
+                new NoteRequestDTO(null, null, "Content without title."),
+                new NoteRequestDTO(null, "Title without content", null));
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/notes-api/notes/batch")
+                .content(new ObjectMapper().writeValueAsString(dtos))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Note 1: Title cannot be null; Note 2: Content cannot be null"));
+
+        Mockito.verifyNoInteractions(this.noteService);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#importNdjsonNotes(User loggedInUser, InputStream body)}
+     * to ensure it saves the valid notes in chunks and reports the line of each
+     * rejected note.
+     * 
+     * @throws Exception if an error occurs while importing the notes.
+     */
+    @Test
+    @Order(1)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController importNdjsonNotes should save the valid notes in chunks and report the rejected ones")
+    public void importNdjsonNotes_ShouldSaveTheValidNotesInChunksAndReportTheRejectedOnes() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        String validLines = IntStream.range(0, 500)
+                .mapToObj(i -> "{\"tags\":[\"Tag\"],\"title\":\"Title " + i + "\",\"content\":\"Content.\"}")
+                .collect(Collectors.joining("\n"));
+        String body = "{\"title\":\"First Title\",\"content\":\"First content.\"}\n"
+                + "\n"
+                + "{\"title\":\"Title without content\"}\n"
+                + "{\"title\": \n"
+                + "null\n"
+                + "{\"title\":\"Title\",\"content\":\"Content.\",\"tags\":[null]}\n"
+                + validLines + "\n";
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/notes-api/notes/import")
+                .content(body)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.accepted").value(501))
+                .andExpect(jsonPath("$.data.rejected").value(4))
+                .andExpect(jsonPath("$.data.errors[0].line").value(3))
+                .andExpect(jsonPath("$.data.errors[0].message").value("Content cannot be null"))
+                .andExpect(jsonPath("$.data.errors[1].line").value(4))
+                .andExpect(jsonPath("$.data.errors[2].line").value(5))
+                .andExpect(jsonPath("$.data.errors[2].message").value("Note cannot be null"))
+                .andExpect(jsonPath("$.data.errors[3].line").value(6))
+                .andExpect(jsonPath("$.data.errors[3].message").value("Tags cannot contain null"));
+
+        Mockito.verify(this.noteService, Mockito.times(2)).saveAll(ArgumentMatchers.eq(user),
+                ArgumentMatchers.anyList(), ArgumentMatchers.anyList());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#importNdjsonNotes(User loggedInUser, InputStream body)}
+     * to ensure it rejects a line longer than the maximum record length and
+     * goes on with the next lines.
+     * 
+     * @throws Exception if an error occurs while importing the notes.
+     */
+    @Test
+    @Order(1)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController importNdjsonNotes should reject a line longer than the maximum record length")
+    public void importNdjsonNotes_ShouldRejectALineLongerThanTheMaximumRecordLength() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        String body = "{\"title\":\"First Title\",\"content\":\"" + "x".repeat(NoteImportReader.MAX_RECORD_LENGTH)
+                + "\"}\r\n"
+                + "{\"title\":\"Second Title\",\"content\":\"Second content.\"}\r\n";
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/notes-api/notes/import")
+                .content(body)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.accepted").value(1))
+                .andExpect(jsonPath("$.data.rejected").value(1))
+                .andExpect(jsonPath("$.data.errors[0].line").value(1))
+                .andExpect(jsonPath("$.data.errors[0].message")
+                        .value("The record must contain 1048576 characters or less"));
+
+        Mockito.verify(this.noteService).saveAll(ArgumentMatchers.eq(user),
+                ArgumentMatchers.argThat(notes -> notes.size() == 1
+                        && notes.get(0).getTitle().equals("Second Title")),
+                ArgumentMatchers.anyList());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#importCsvNotes(User loggedInUser, InputStream body)}
+     * to ensure it rejects a record longer than the maximum record length, even
+     * when a quoted field spans several lines, and goes on with the next
+     * records.
+     * 
+     * @throws Exception if an error occurs while importing the notes.
+     */
+    @Test
+    @Order(1)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController importCsvNotes should reject a record longer than the maximum record length")
+    public void importCsvNotes_ShouldRejectARecordLongerThanTheMaximumRecordLength() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        String body = "title,content\r\n"
+                + "First Title,\"" + "x\r\n\"\",".repeat(NoteImportReader.MAX_RECORD_LENGTH / 6) + "\"\r\n"
+                + "Second Title,Second content.\r\n";
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/notes-api/notes/import")
+                .content(body)
+                .contentType("text/csv")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.accepted").value(1))
+                .andExpect(jsonPath("$.data.rejected").value(1))
+                .andExpect(jsonPath("$.data.errors[0].line").value(2))
+                .andExpect(jsonPath("$.data.errors[0].message")
+                        .value("The record must contain 1048576 characters or less"));
+
+        Mockito.verify(this.noteService).saveAll(ArgumentMatchers.eq(user),
+                ArgumentMatchers.argThat(notes -> notes.size() == 1
+                        && notes.get(0).getTitle().equals("Second Title")),
+                ArgumentMatchers.anyList());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#importCsvNotes(User loggedInUser, InputStream body)}
+     * to ensure it reads quoted fields and tags, and reports the line of each
+     * rejected note.
+     * 
+     * @throws Exception if an error occurs while importing the notes.
+     */
+    @Test
+    @Order(1)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController importCsvNotes should read quoted fields and report the rejected notes")
+    public void importCsvNotes_ShouldReadQuotedFieldsAndReportTheRejectedNotes() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        String body = "Content,Title,Tags\r\n"
+                + "\"First line,\r\nsecond \"\"line\"\"\",First Title,Work; Ideas\r\n"
+                + "Content without tags,Second Title,\r\n"
+                + "Missing fields\r\n"
+                + "Content with a long title," + "x".repeat(101) + ",\r\n";
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/notes-api/notes/import")
+                .content(body)
+                .contentType("text/csv")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.accepted").value(2))
+                .andExpect(jsonPath("$.data.rejected").value(2))
+                .andExpect(jsonPath("$.data.errors[0].line").value(5))
+                .andExpect(jsonPath("$.data.errors[0].message").value("Expected 3 fields but found 1"))
+                .andExpect(jsonPath("$.data.errors[1].line").value(6))
+                .andExpect(jsonPath("$.data.errors[1].message").value("Title must contain 100 characters or less"));
+
+        Mockito.verify(this.noteService).saveAll(ArgumentMatchers.eq(user),
+                ArgumentMatchers.argThat(notes -> notes.size() == 2
+                        && notes.get(0).getContent().equals("First line,\r\nsecond \"line\"")
+                        && notes.get(1).getTitle().equals("Second Title")),
+                ArgumentMatchers.eq(Arrays.asList(List.of("Work", "Ideas"), null)));
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#importZipNotes(User loggedInUser, InputStream body)}
+     * to ensure it reads the front matter of each Markdown file, skips the other
+     * entries and reports the file of each rejected note.
+     * 
+     * @throws Exception if an error occurs while importing the notes.
+     */
+    @Test
+    @Order(1)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController importZipNotes should read the Markdown files and report the rejected notes")
+    public void importZipNotes_ShouldReadTheMarkdownFilesAndReportTheRejectedNotes() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+
+        try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+            zip.putNextEntry(new ZipEntry("vault/"));
+            zip.putNextEntry(new ZipEntry("vault/First Title 1.md"));
+            zip.write(("---\ntitle: \"First: \\\"Title\\\"\"\ntags: [\"Work\", \"Ideas\"]\n"
+                    + "createdAt: \"2024-01-01T10:00\"\n---\n# Heading\n\nFirst content").getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("vault/Second Title.md"));
+            zip.write("---\naliases: []\ntags:\n  - reading\n---\nSecond content".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("vault/Broken.md"));
+            zip.write("---\ntitle: \"Broken\"\n".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("vault/image.png"));
+            zip.write(new byte[] { 1, 2, 3 });
+        }
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/notes-api/notes/import.zip")
+                .content(archive.toByteArray())
+                .contentType("application/zip")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.accepted").value(2))
+                .andExpect(jsonPath("$.data.rejected").value(1))
+                .andExpect(jsonPath("$.data.errors[0].file").value("vault/Broken.md"))
+                .andExpect(jsonPath("$.data.errors[0].line").doesNotExist())
+                .andExpect(jsonPath("$.data.errors[0].message").value("The front matter is not closed"));
+
+        Mockito.verify(this.noteService).saveAll(ArgumentMatchers.eq(user),
+                ArgumentMatchers.argThat(notes -> notes.size() == 2
+                        && notes.get(0).getTitle().equals("First: \"Title\"")
+                        && notes.get(0).getContent().equals("# Heading\n\nFirst content")
+                        && notes.get(1).getTitle().equals("Second Title")
+                        && notes.get(1).getContent().equals("Second content")),
+                ArgumentMatchers.eq(List.of(List.of("Work", "Ideas"), List.of("reading"))));
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#importZipNotes(User loggedInUser, InputStream body)}
+     * to ensure it returns a 400 status when the archive is corrupted.
+     * 
+     * @throws Exception if an error occurs while importing the notes.
+     */
+    @Test
+    @Order(1)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController importZipNotes should return bad request when the archive is corrupted")
+    public void importZipNotes_ShouldReturnBadRequest_WhenTheArchiveIsCorrupted() throws Exception {
+        // Arrange
+        this.setUpAuthenticatedUser();
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+
+        try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+            zip.putNextEntry(new ZipEntry("note.md"));
+            zip.write("Sample content. ".repeat(1000).getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] body = archive.toByteArray();
+        Arrays.fill(body, 40, 80, (byte) 0xFF);
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/notes-api/notes/import.zip")
+                .content(body)
+                .contentType("application/zip")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verify(this.noteService, Mockito.never()).saveAll(ArgumentMatchers.any(), ArgumentMatchers.anyList(),
+                ArgumentMatchers.anyList());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findById(User loggedInUser, UUID id)}
      * to ensure it retrieves the correct note.
      * 
      * @throws Exception if an error occurs while searching for the note.
@@ -111,21 +453,46 @@ public class NoteControllerTest {
         Note note = NotesApiUtil.getNewNote();
         UUID id = note.getId();
 
-        Mockito.doNothing().when(this.verificationService).verifyIfNoteExistsByUserAndId(user, id);
-        Mockito.when(this.noteService.findByUserAndId(user, id)).thenReturn(Optional.of(note));
+        Mockito.when(this.noteService.getByUserAndId(user, id)).thenReturn(note);
 
         // Act and Assert
         mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes/{id}", note.getId())
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.tags[0]").value("Tag"))
+                .andExpect(jsonPath("$.data.tags[0]").value("tag"))
                 .andExpect(jsonPath("$.data.title").value(note.getTitle()))
                 .andExpect(jsonPath("$.data.content").value(note.getContent()));
     }
 
     /**
      * Tests the
-     * {@link NoteController#findAll(int page, int size, String property, String sortDirection)}
+     * {@link NoteController#findById(User loggedInUser, UUID id)}
+     * to ensure it returns a 404 status when the note does not exist.
+     * 
+     * @throws Exception if an error occurs while searching for the note.
+     */
+    @Test
+    @Order(2)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController findById should return not found when note does not exist")
+    public void findById_ShouldReturnNotFound_WhenNoteDoesNotExist() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        UUID id = UUID.randomUUID();
+
+        Mockito.when(this.noteService.getByUserAndId(user, id))
+                .thenThrow(new NoteNotFoundException("There is no note with the provided id"));
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes/{id}", id)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("There is no note with the provided id"));
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findAll(User loggedInUser, int page, int size, String property, String sortDirection, String fields, String view)}
      * to ensure it retrieves all saved notes.
      * 
      * @throws Exception if an error occurs while searching for the notes.
@@ -152,14 +519,14 @@ public class NoteControllerTest {
                 .param("sortDirection", "asc")
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.content[0].tags[0]").value("Tag"))
+                .andExpect(jsonPath("$.data.content[0].tags[0]").value("tag"))
                 .andExpect(jsonPath("$.data.content[0].title").value(note.getTitle()))
                 .andExpect(jsonPath("$.data.content[0].content").value(note.getContent()));
     }
 
     /**
      * Tests the
-     * {@link NoteController#findByTitleOrContentContainingTerm(String term, int page, int size, String property, String sortDirection)}
+     * {@link NoteController#findByTitleOrContentContainingTerm(User loggedInUser, String term, int page, int size, String property, String sortDirection, String fields, String view)}
      * to ensure it retrieves all notes containing the specified term whether in
      * title or content.
      * 
@@ -190,14 +557,14 @@ public class NoteControllerTest {
                 .param("sortDirection", "asc")
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.content[0].tags[0]").value("Tag"))
+                .andExpect(jsonPath("$.data.content[0].tags[0]").value("tag"))
                 .andExpect(jsonPath("$.data.content[0].title").value(note.getTitle()))
                 .andExpect(jsonPath("$.data.content[0].content").value(note.getContent()));
     }
 
     /**
      * Tests the
-     * {@link NoteController#findByTags(List tags, int page, int size, String property, String sortDirection)}
+     * {@link NoteController#findByTags(User loggedInUser, List tags, int page, int size, String property, String sortDirection, String fields, String view)}
      * to ensure it retrieves all notes containing at least one of the specified
      * tags.
      * 
@@ -211,7 +578,7 @@ public class NoteControllerTest {
         // Arrange
         User user = this.setUpAuthenticatedUser();
         Note note = NotesApiUtil.getNewNote();
-        List<String> tags = note.getTags();
+        List<String> tags = List.of("Tag");
 
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Direction.ASC, "title"));
         Page<Note> page = new PageImpl<>(List.of(note), pageable, 1);
@@ -227,14 +594,330 @@ public class NoteControllerTest {
                 .param("sortDirection", "asc")
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.content[0].tags[0]").value("Tag"))
+                .andExpect(jsonPath("$.data.content[0].tags[0]").value("tag"))
                 .andExpect(jsonPath("$.data.content[0].title").value(note.getTitle()))
                 .andExpect(jsonPath("$.data.content[0].content").value(note.getContent()));
     }
 
     /**
      * Tests the
-     * {@link NoteController#updateById(UUID id, NoteRequestDTO dto, BindingResult result)}
+     * {@link NoteController#findAll(User loggedInUser, int page, int size, String property, String sortDirection, String fields, String view)}
+     * to ensure the summary view retrieves note summaries with a snippet instead
+     * of the notes and their content.
+     * 
+     * @throws Exception if an error occurs while searching for the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController findAll should retrieve summaries when the summary view is requested")
+    public void findAll_ShouldRetrieveSummaries_WhenTheSummaryViewIsRequested() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        NoteSummary summary = new NoteSummary(UUID.randomUUID(), "Title", "First line\n\nsecond line",
+                LocalDateTime.now(), LocalDateTime.now());
+        summary.setTags(List.of("tag"));
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Direction.ASC, "title"));
+        Mockito.when(this.noteService.findSummariesByUser(user, pageable,
+                Set.of("id", "title", "snippet", "tags", "createdAt", "updatedAt")))
+                .thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes")
+                .param("view", "summary")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(summary.getId().toString()))
+                .andExpect(jsonPath("$.data.content[0].title").value("Title"))
+                .andExpect(jsonPath("$.data.content[0].tags[0]").value("tag"))
+                .andExpect(jsonPath("$.data.content[0].snippet").value("First line second line"))
+                .andExpect(jsonPath("$.data.content[0].updatedAt").exists())
+                .andExpect(jsonPath("$.data.content[0].content").doesNotExist());
+        Mockito.verify(this.noteService, Mockito.never()).findByUser(Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findByTagsWithoutTotal(User loggedInUser, List tags, int page, int size, String property, String sortDirection, String fields, String view)}
+     * to ensure a sparse fieldset without the content retrieves only the
+     * requested fields of the note summaries.
+     * 
+     * @throws Exception if an error occurs while searching for the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController findByTagsWithoutTotal should retrieve only the requested fields")
+    public void findByTagsWithoutTotal_ShouldRetrieveOnlyTheRequestedFields() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        NoteSummary summary = new NoteSummary(UUID.randomUUID(), "Title", LocalDateTime.now(), LocalDateTime.now());
+        summary.setTags(List.of("tag"));
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Direction.ASC, "title"));
+        Mockito.when(this.noteService.findSummarySliceByUserAndTagsInIgnoreCase(user, List.of("tag"), pageable,
+                Set.of("id", "title"))).thenReturn(new SliceImpl<>(List.of(summary), pageable, false));
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes/tags")
+                .param("tags", "tag")
+                .param("withTotal", "false")
+                .param("fields", "id,title")
+                .param("view", "summary")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(summary.getId().toString()))
+                .andExpect(jsonPath("$.data.content[0].title").value("Title"))
+                .andExpect(jsonPath("$.data.content[0].tags").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].snippet").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].createdAt").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].updatedAt").doesNotExist());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findByTitleOrContentContainingTerm(User loggedInUser, String term, int page, int size, String property, String sortDirection, String fields, String view)}
+     * to ensure a sparse fieldset with the content retrieves the notes and
+     * computes the requested snippet from their content.
+     * 
+     * @throws Exception if an error occurs while searching for the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController findByTitleOrContentContainingTerm should retrieve the notes when the content is requested")
+    public void findByTitleOrContentContainingTerm_ShouldRetrieveTheNotes_WhenTheContentIsRequested() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        Note note = NotesApiUtil.getNewNote();
+        note.setContent("word ".repeat(100));
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Direction.ASC, "title"));
+        Mockito.when(this.noteService.findByUserAndTitleOrContentContainingIgnoreCase(user, "word", pageable))
+                .thenReturn(new PageImpl<>(List.of(note), pageable, 1));
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes/term")
+                .param("term", "word")
+                .param("fields", "content,snippet")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].content").value(note.getContent()))
+                .andExpect(jsonPath("$.data.content[0].snippet").value("word ".repeat(31) + "word…"))
+                .andExpect(jsonPath("$.data.content[0].title").doesNotExist());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findAll(User loggedInUser, int page, int size, String property, String sortDirection, String fields, String view)}
+     * to ensure it returns a 400 status when an unknown field is requested.
+     * 
+     * @throws Exception if an error occurs while searching for the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController findAll should return bad request when an unknown field is requested")
+    public void findAll_ShouldReturnBadRequest_WhenAnUnknownFieldIsRequested() throws Exception {
+        // Arrange
+        this.setUpAuthenticatedUser();
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes")
+                .param("fields", "id,password")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(this.noteService);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findAllWithoutTotal(User loggedInUser, int page, int size, String property, String sortDirection, String fields, String view)}
+     * to ensure it retrieves the notes without the total count when
+     * {@code withTotal=false} is provided.
+     * 
+     * @throws Exception if an error occurs while searching for the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController findAllWithoutTotal should retrieve notes without the total count")
+    public void findAllWithoutTotal_ShouldRetrieveNotesWithoutTotalCount() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        Note note = NotesApiUtil.getNewNote();
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Direction.ASC, "title"));
+        Slice<Note> slice = new SliceImpl<>(List.of(note), pageable, true);
+
+        Mockito.when(this.noteService.findSliceByUser(user, pageable)).thenReturn(slice);
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes")
+                .param("withTotal", "false")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title").value(note.getTitle()))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.page").doesNotExist());
+        Mockito.verify(this.noteService, Mockito.never()).findByUser(Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#scrollAll(User loggedInUser, String cursor, int limit, String property, String sortDirection)}
+     * to ensure it retrieves the first notes and a cursor to the next ones when
+     * an empty cursor is provided.
+     * 
+     * @throws Exception if an error occurs while searching for the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController scrollAll should retrieve the first notes and the next cursor")
+    public void scrollAll_ShouldRetrieveFirstNotesAndNextCursor() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        Note note = NotesApiUtil.getNewNote();
+        NoteCursor noteCursor = NoteCursorUtil.decode("", "title", "asc");
+        Window<Note> window = Window.from(List.of(note),
+                index -> ScrollPosition.forward(Map.of("title", note.getTitle(), "id", note.getId())), true);
+
+        Mockito.when(this.noteService.scrollByUser(user, ScrollPosition.keyset(), noteCursor.sort(), 1))
+                .thenReturn(window);
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes")
+                .param("cursor", "")
+                .param("limit", "1")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title").value(note.getTitle()))
+                .andExpect(jsonPath("$.data.nextCursor").value(NoteCursorUtil.encodeNext(window, noteCursor)))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#scrollAll(User loggedInUser, String cursor, int limit, String property, String sortDirection)}
+     * to ensure it retrieves the notes after the provided cursor and no next
+     * cursor on the last notes.
+     * 
+     * @throws Exception if an error occurs while searching for the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController scrollAll should retrieve the notes after the provided cursor")
+    public void scrollAll_ShouldRetrieveNotesAfterTheProvidedCursor() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        Note previousNote = NotesApiUtil.getNewNote();
+        Note note = NotesApiUtil.getNewNote();
+        previousNote.setCreatedAt(LocalDateTime.of(2024, 8, 1, 10, 30, 15, 123456000));
+        Map<String, Object> keys = Map.of("createdAt", previousNote.getCreatedAt(), "id", previousNote.getId());
+        NoteCursor previousCursor = NoteCursorUtil.decode("", "createdAt", "desc");
+        String cursor = NoteCursorUtil.encodeNext(
+                Window.from(List.of(previousNote), index -> ScrollPosition.forward(keys), true), previousCursor);
+
+        Mockito.when(this.noteService.scrollByUser(user, ScrollPosition.forward(keys), previousCursor.sort(), 10))
+                .thenReturn(Window.from(List.of(note), index -> ScrollPosition.keyset(), false));
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes")
+                .param("cursor", cursor)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(note.getId().toString()))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#scrollByTags(User loggedInUser, List tags, String cursor, int limit, String property, String sortDirection)}
+     * to ensure it returns a 400 status when the provided cursor is invalid.
+     * 
+     * @throws Exception if an error occurs while searching for the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController scrollByTags should return bad request when the cursor is invalid")
+    public void scrollByTags_ShouldReturnBadRequest_WhenCursorIsInvalid() throws Exception {
+        // Arrange
+        this.setUpAuthenticatedUser();
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes/tags")
+                .param("tags", "Tag")
+                .param("cursor", "not-a-cursor")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("The provided cursor is invalid"));
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#scrollAll(User loggedInUser, String cursor, int limit, String property, String sortDirection)}
+     * to ensure it returns a 400 status when the limit is out of range.
+     * 
+     * @throws Exception if an error occurs while retrieving the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController scrollAll should return bad request when the limit is out of range")
+    public void scrollAll_ShouldReturnBadRequest_WhenTheLimitIsOutOfRange() throws Exception {
+        // Arrange
+        this.setUpAuthenticatedUser();
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes")
+                .param("cursor", "")
+                .param("limit", "0")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes")
+                .param("cursor", "")
+                .param("limit", "101")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(this.noteService);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#findByTitleOrContentContainingTerm(User loggedInUser, String term, int page, int size, String property, String sortDirection, String fields, String view)}
+     * to ensure it returns a 400 status when the notes are sorted by relevance
+     * and the search engine does not support it.
+     * 
+     * @throws Exception if an error occurs while searching for the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController findByTitleOrContentContainingTerm should return bad request when relevance is not supported")
+    public void findByTitleOrContentContainingTerm_ShouldReturnBadRequest_WhenRelevanceIsNotSupported()
+            throws Exception {
+        // Arrange
+        this.setUpAuthenticatedUser();
+        Mockito.when(this.noteService.isRelevanceSortSupported()).thenReturn(false);
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes/term")
+                .param("term", "Sample")
+                .param("property", "relevance")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("The search engine cannot sort notes by relevance"));
+        Mockito.verify(this.noteService, Mockito.never()).findByUserAndTitleOrContentContainingIgnoreCase(
+                ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#updateById(User loggedInUser, UUID id, NoteRequestDTO dto, BindingResult result)}
      * to ensure it correctly updates and returns the specified note.
      * 
      * @throws Exception if an error occurs while updating the note.
@@ -249,8 +932,7 @@ public class NoteControllerTest {
         Note note = NotesApiUtil.getNewNote();
         UUID id = note.getId();
 
-        Mockito.doNothing().when(this.verificationService).verifyIfNoteExistsByUserAndId(user, id);
-        Mockito.when(this.noteService.findByUserAndId(user, id)).thenReturn(Optional.of(note));
+        Mockito.when(this.noteService.getByUserAndId(user, id)).thenReturn(note);
 
         NoteRequestDTO noteRequestDTO = new NoteRequestDTO(List.of("Updated tag"), "Updated Title", "Updated content.");
 
@@ -260,14 +942,299 @@ public class NoteControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.tags[0]").value("Updated tag"))
                 .andExpect(jsonPath("$.data.title").value(noteRequestDTO.getTitle()))
                 .andExpect(jsonPath("$.data.content").value(noteRequestDTO.getContent()));
+
+        Mockito.verify(this.noteService).save(note, List.of("Updated tag"));
     }
 
     /**
      * Tests the
-     * {@link NoteController#deleteById(UUID id)}
+     * {@link NoteController#patchById(User loggedInUser, UUID id, NotePatchRequestDTO dto, BindingResult result)}
+     * to ensure it updates only the supplied title without loading the note when
+     * the tags are not supplied.
+     * 
+     * @throws Exception if an error occurs while updating the note.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController patchById should update the title without loading the note")
+    public void patchById_ShouldUpdateTheTitleWithoutLoadingTheNote() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        UUID id = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2030, 1, 1, 12, 0, 0, 123456000);
+
+        Mockito.when(this.noteService.updateByUserAndId(user, id, "Updated Title", null)).thenReturn(updatedAt);
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.patch("/notes-api/notes/{id}", id)
+                .content("{\"title\":\"Updated Title\"}")
+                .contentType("application/merge-patch+json")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("2030-01-01T12:00:00.123456"));
+
+        Mockito.verify(this.noteService).updateByUserAndId(user, id, "Updated Title", null);
+        Mockito.verify(this.noteService, Mockito.never()).getByUserAndId(user, id);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#patchById(User loggedInUser, UUID id, NotePatchRequestDTO dto, BindingResult result)}
+     * to ensure it saves the supplied tags, including their removal, with the
+     * loaded note and keeps the members that are not supplied.
+     * 
+     * @throws Exception if an error occurs while updating the note.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController patchById should save the supplied tags")
+    public void patchById_ShouldSaveTheSuppliedTags() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        Note note = NotesApiUtil.getNewNote();
+        UUID id = note.getId();
+
+        Mockito.when(this.noteService.getByUserAndId(user, id)).thenReturn(note);
+        Mockito.when(this.noteService.save(note, null)).thenAnswer(invocation -> {
+            note.setUpdatedAt(LocalDateTime.of(2030, 1, 1, 12, 0));
+            return note;
+        });
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.patch("/notes-api/notes/{id}", id)
+                .content("{\"tags\":null,\"content\":\"Updated content.\"}")
+                .contentType("application/merge-patch+json")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("2030-01-01T12:00:00"));
+
+        Mockito.verify(this.noteService).save(note, null);
+        Mockito.verify(this.noteService, Mockito.never()).updateByUserAndId(ArgumentMatchers.any(),
+                ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+        assertThat(note.getTitle()).isEqualTo("Sample Title");
+        assertThat(note.getContent()).isEqualTo("Updated content.");
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#patchById(User loggedInUser, UUID id, NotePatchRequestDTO dto, BindingResult result)}
+     * to ensure it rejects the removal of the title.
+     * 
+     * @throws Exception if an error occurs while updating the note.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController patchById should reject a null title")
+    public void patchById_ShouldRejectANullTitle() throws Exception {
+        // Arrange
+        this.setUpAuthenticatedUser();
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.patch("/notes-api/notes/{id}", UUID.randomUUID())
+                .content("{\"title\":null}")
+                .contentType("application/merge-patch+json")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Title cannot be null"));
+
+        Mockito.verifyNoInteractions(this.noteService);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#patchById(User loggedInUser, UUID id, NotePatchRequestDTO dto, BindingResult result)}
+     * to ensure it rejects a null tag.
+     * 
+     * @throws Exception if an error occurs while updating the note.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController patchById should reject a null tag")
+    public void patchById_ShouldRejectANullTag() throws Exception {
+        // Arrange
+        this.setUpAuthenticatedUser();
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.patch("/notes-api/notes/{id}", UUID.randomUUID())
+                .content("{\"tags\":[null]}")
+                .contentType("application/merge-patch+json")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Tags cannot contain null"));
+
+        Mockito.verifyNoInteractions(this.noteService);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#updateContentById(User loggedInUser, UUID id, NoteContentDeltaRequestDTO dto, BindingResult result)}
+     * to ensure it returns the new update date of the note.
+     * 
+     * @throws Exception if an error occurs while updating the note.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController updateContentById should return the new update date")
+    public void updateContentById_ShouldReturnTheNewUpdateDate() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        Note note = NotesApiUtil.getNewNote();
+        UUID id = note.getId();
+        LocalDateTime baseUpdatedAt = LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123456000);
+        note.setUpdatedAt(baseUpdatedAt.plusMinutes(1));
+
+        Mockito.when(this.noteService.updateContentByUserAndId(ArgumentMatchers.eq(user), ArgumentMatchers.eq(id),
+                ArgumentMatchers.eq(baseUpdatedAt), ArgumentMatchers.anyList())).thenReturn(note);
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.patch("/notes-api/notes/{id}/content", id)
+                .content("{\"baseUpdatedAt\":\"2024-01-01T10:00:00.123456\",\"operations\":[{\"retain\":7},"
+                        + "{\"insert\":\"text\"}]}")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("2024-01-01T10:01:00.123456"));
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#updateContentById(User loggedInUser, UUID id, NoteContentDeltaRequestDTO dto, BindingResult result)}
+     * to ensure it returns a conflict when the base of the delta is stale.
+     * 
+     * @throws Exception if an error occurs while updating the note.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController updateContentById should return conflict when the base is stale")
+    public void updateContentById_ShouldReturnConflict_WhenTheBaseIsStale() throws Exception {
+        // Arrange
+        this.setUpAuthenticatedUser();
+
+        Mockito.when(this.noteService.updateContentByUserAndId(ArgumentMatchers.any(), ArgumentMatchers.any(),
+                ArgumentMatchers.any(), ArgumentMatchers.anyList()))
+                .thenThrow(new StaleNoteException("The note was updated after the provided base"));
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.patch("/notes-api/notes/{id}/content", UUID.randomUUID())
+                .content("{\"baseUpdatedAt\":\"2024-01-01T10:00:00\",\"operations\":[{\"delete\":1}]}")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("The note was updated after the provided base"));
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#exportAll(User loggedInUser, HttpServletResponse response)}
+     * to ensure it writes every note as a line of newline-delimited JSON.
+     * 
+     * @throws Exception if an error occurs while exporting the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController exportAll should write each note as a JSON line")
+    @SuppressWarnings("unchecked")
+    public void exportAll_ShouldWriteEachNoteAsAJsonLine() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        Note firstNote = NotesApiUtil.getNewNote();
+        Note secondNote = NotesApiUtil.getNewNote();
+        secondNote.setTitle("Second Title");
+
+        Mockito.doAnswer(invocation -> {
+            Consumer<Note> action = invocation.getArgument(1);
+            action.accept(firstNote);
+            action.accept(secondNote);
+            return null;
+        }).when(this.noteService).forEachByUser(ArgumentMatchers.eq(user), ArgumentMatchers.any(Consumer.class));
+
+        // Act
+        String body = mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes/export")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"notes.ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> lines = body.lines().toList();
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("id").asText()).isEqualTo(firstNote.getId().toString());
+        assertThat(objectMapper.readTree(lines.get(1)).get("title").asText()).isEqualTo("Second Title");
+        assertThat(objectMapper.readTree(lines.get(1)).get("tags").get(0).asText()).isEqualTo("tag");
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#exportZip(User loggedInUser, HttpServletResponse response)}
+     * to ensure it writes every note as a Markdown file with a front matter.
+     * 
+     * @throws Exception if an error occurs while exporting the notes.
+     */
+    @Test
+    @Order(5)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController exportZip should write each note as a Markdown file")
+    @SuppressWarnings("unchecked")
+    public void exportZip_ShouldWriteEachNoteAsAMarkdownFile() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        Note firstNote = NotesApiUtil.getNewNote();
+        firstNote.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        firstNote.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+        Note secondNote = NotesApiUtil.getNewNote();
+        secondNote.setTitle("A \"quoted\" title/with slash");
+
+        Mockito.doAnswer(invocation -> {
+            Consumer<Note> action = invocation.getArgument(1);
+            action.accept(firstNote);
+            action.accept(secondNote);
+            return null;
+        }).when(this.noteService).forEachByUser(ArgumentMatchers.eq(user), ArgumentMatchers.any(Consumer.class));
+
+        // Act
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.get("/notes-api/notes/export.zip"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"notes.zip\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        Map<String, String> files = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(body))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                files.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        assertThat(files).containsOnlyKeys("Sample Title " + firstNote.getId() + ".md",
+                "A _quoted_ title_with slash " + secondNote.getId() + ".md");
+        assertThat(files.get("Sample Title " + firstNote.getId() + ".md")).isEqualTo("""
+                ---
+                title: "Sample Title"
+                tags: ["tag"]
+                createdAt: "2024-01-01T10:00"
+                updatedAt: "2024-01-02T10:00"
+                ---
+                Sample content.""");
+        assertThat(files.get("A _quoted_ title_with slash " + secondNote.getId() + ".md"))
+                .contains("title: \"A \\\"quoted\\\" title/with slash\"\n");
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#deleteById(User loggedInUser, UUID id)}
      * to ensure it correctly deletes the specified note and returns a message.
      * 
      * @throws Exception if an error occurs while deleting the note.
@@ -282,8 +1249,7 @@ public class NoteControllerTest {
         Note note = NotesApiUtil.getNewNote();
         UUID id = note.getId();
 
-        Mockito.doNothing().when(this.verificationService).verifyIfNoteExistsByUserAndId(user, id);
-        Mockito.when(this.noteService.findByUserAndId(user, id)).thenReturn(Optional.of(note));
+        Mockito.doNothing().when(this.noteService).deleteByUserAndId(user, id);
 
         // Act and Assert
         mockMvc.perform(MockMvcRequestBuilders.delete("/notes-api/notes/{id}", id)
@@ -294,7 +1260,38 @@ public class NoteControllerTest {
 
     /**
      * Tests the
-     * {@link NoteController#deleteAll()}
+     * {@link NoteController#deleteByIds(User loggedInUser, List ids)}
+     * to ensure it deletes the notes and returns the ids that were not found.
+     * 
+     * @throws Exception if an error occurs while deleting the notes.
+     */
+    @Test
+    @Order(6)
+    @WithMockUser(username = "default_user", roles = "USER")
+    @DisplayName("NoteController deleteByIds should delete the notes and return the ids not found")
+    public void deleteByIds_ShouldDeleteTheNotesAndReturnTheIdsNotFound() throws Exception {
+        // Arrange
+        User user = this.setUpAuthenticatedUser();
+        UUID foundId = UUID.randomUUID();
+        UUID notFoundId = UUID.randomUUID();
+
+        Mockito.when(this.noteService.deleteByUserAndIdIn(user, List.of(foundId, notFoundId)))
+                .thenReturn(List.of(notFoundId));
+
+        // Act and Assert
+        mockMvc.perform(MockMvcRequestBuilders.delete("/notes-api/notes")
+                .param("ids", foundId.toString(), notFoundId.toString())
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deleted").value(1))
+                .andExpect(jsonPath("$.data.notFoundIds[0]").value(notFoundId.toString()));
+
+        Mockito.verify(this.noteService, Mockito.never()).deleteByUser(user);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteController#deleteAll(User loggedInUser)}
      * to ensure it correctly deletes all notes and returns a message.
      * 
      * @throws Exception if an error occurs while deleting all notes.
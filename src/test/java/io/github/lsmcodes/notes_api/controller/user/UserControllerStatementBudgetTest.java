@@ -0,0 +1,159 @@
+package io.github.lsmcodes.notes_api.controller.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.validation.BindingResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lsmcodes.notes_api.dto.model.user.UserRequestDTO;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.user.UserRepository;
+import io.github.lsmcodes.notes_api.service.security.TokenService;
+import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+import io.github.lsmcodes.notes_api.util.StatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Statement budget tests for the {@link UserController} class. Each endpoint is
+ * called against the database, and the number of SQL statements it runs must
+ * stay within its budget, so that extra round trips fail the build.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(OrderAnnotation.class)
+public class UserControllerStatementBudgetTest {
+
+    private static final String USERNAME = "user_budget_user";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private StatementCounter statementCounter;
+
+    private User user;
+
+    /**
+     * Creates the authenticated user if needed.
+     */
+    @BeforeEach
+    public void setUp() {
+        this.statementCounter = new StatementCounter(this.entityManagerFactory);
+        this.user = this.userRepository.findByUsername(USERNAME).orElseGet(() -> {
+            User newUser = NotesApiUtil.getNewUser();
+            newUser.setId(null);
+            newUser.setUsername(USERNAME);
+            return this.userRepository.save(newUser);
+        });
+    }
+
+    /**
+     * Tests the
+     * {@link UserController#createUser(UserRequestDTO dto, BindingResult result)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("UserController createUser should stay within its statement budget")
+    public void createUser_ShouldStayWithinStatementBudget() throws Exception {
+        UserRequestDTO dto = new UserRequestDTO("Budget User", "created_budget_user", "1234567890");
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders.post("/notes-api/users")
+                .content(new ObjectMapper().writeValueAsString(dto)).contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON);
+
+        long statements = this.statementCounter.count(
+                () -> this.mockMvc.perform(request).andExpect(status().isCreated()));
+
+        assertThat(statements).as("SQL statements").isLessThanOrEqualTo(2);
+    }
+
+    /**
+     * Tests the {@link UserController#getLoggedInUser(User loggedInUser)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("UserController getLoggedInUser should stay within its statement budget")
+    public void getLoggedInUser_ShouldStayWithinStatementBudget() throws Exception {
+        this.assertStatementBudget(MockMvcRequestBuilders.get("/notes-api/users"), 1);
+    }
+
+    /**
+     * Tests the
+     * {@link UserController#updateLoggedInUser(User loggedInUser, UserRequestDTO dto, BindingResult result)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("UserController updateLoggedInUser should stay within its statement budget")
+    public void updateLoggedInUser_ShouldStayWithinStatementBudget() throws Exception {
+        UserRequestDTO dto = new UserRequestDTO("Updated User", "updated_budget_user", "0987654321");
+        this.assertStatementBudget(MockMvcRequestBuilders.put("/notes-api/users")
+                .content(new ObjectMapper().writeValueAsString(dto)).contentType(MediaType.APPLICATION_JSON), 4);
+    }
+
+    /**
+     * Tests the {@link UserController#deleteLoggedInUser(User loggedInUser)}
+     * statement budget.
+     * 
+     * @throws Exception if an error occurs while performing the request.
+     */
+    @Test
+    @Order(4)
+    @DisplayName("UserController deleteLoggedInUser should stay within its statement budget")
+    public void deleteLoggedInUser_ShouldStayWithinStatementBudget() throws Exception {
+        // The notes and their tags are deleted with one statement each, whatever the number of notes
+        this.assertStatementBudget(MockMvcRequestBuilders.delete("/notes-api/users"), 5);
+    }
+
+    /**
+     * Performs the provided request as the authenticated user and asserts it
+     * succeeds within the provided number of SQL statements.
+     * 
+     * @param request The request to be performed.
+     * @param budget  The maximum number of SQL statements.
+     * @throws Exception if an error occurs while performing the request.
+     */
+    private void assertStatementBudget(MockHttpServletRequestBuilder request, long budget) throws Exception {
+        request.header(HttpHeaders.AUTHORIZATION, "Bearer " + this.tokenService.generateToken(this.user))
+                .accept(MediaType.APPLICATION_JSON);
+
+        long statements = this.statementCounter.count(
+                () -> this.mockMvc.perform(request).andExpect(status().is2xxSuccessful()));
+
+        assertThat(statements).as("SQL statements").isLessThanOrEqualTo(budget);
+    }
+
+}
@@ -87,7 +87,7 @@ public class UserControllerTest {
     }
 
     /**
-     * Tests the {@link UserController#getLoggedInUser()} endpoint method to ensure
+     * Tests the {@link UserController#getLoggedInUser(User loggedInUser)} endpoint method to ensure
      * it correctly returns the logged in user.
      * 
      * @throws Exception if an error occurs while searching for the logged-in user.
@@ -114,7 +114,7 @@ public class UserControllerTest {
 
     /**
      * Tests the
-     * {@link UserController#updateLoggedInUser(UserRequestDTO dto, BindingResult result)}
+     * {@link UserController#updateLoggedInUser(User loggedInUser, UserRequestDTO dto, BindingResult result)}
      * endpoint method to ensure it correctly updates the logged-in user.
      * 
      * @throws Exception if an error occurs while updating the logged in user.
@@ -142,7 +142,7 @@ public class UserControllerTest {
     }
 
     /**
-     * Tests the {@link UserController#deleteLoggedInUser()} endpoint method to
+     * Tests the {@link UserController#deleteLoggedInUser(User loggedInUser)} endpoint method to
      * ensure it correctly deletes the logged-in user.
      * 
      * @throws Exception if an error occurs while deleting the logged-in user.
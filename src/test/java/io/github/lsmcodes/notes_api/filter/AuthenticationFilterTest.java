@@ -1,15 +1,28 @@
 package io.github.lsmcodes.notes_api.filter;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.io.IOException;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.service.security.SecurityService;
+import io.github.lsmcodes.notes_api.service.security.TokenService;
+import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +35,11 @@ import jakarta.servlet.http.HttpServletResponse;
 @ExtendWith(MockitoExtension.class)
 public class AuthenticationFilterTest {
 
+    @AfterEach
+    public void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
     /**
      * Tests {@link AuthenticationFilter#doFilterInternal(HttpServletRequest, HttpServletResponse, FilterChain)} doFilter method to ensure it correctly
      * passes request and response to {@link FilterChain#doFilter(jakarta.servlet.ServletRequest, jakarta.servlet.ServletResponse)} method.
@@ -46,4 +64,43 @@ public class AuthenticationFilterTest {
         Mockito.verify(filterChain).doFilter(request, response);
     }
 
+    /**
+     * Tests {@link AuthenticationFilter#doFilterInternal(HttpServletRequest, HttpServletResponse, FilterChain)}
+     * to ensure it authenticates the user from the token claims, without loading
+     * the user by username, when claims-only authentication is enabled.
+     * 
+     * @throws ServletException if an error occurs during filtering.
+     * @throws IOException      if an I/O error occurs during filtering.
+     */
+    @Test
+    @DisplayName("AuthenticationFilter doFilterInternal should authenticate from claims when claims-only is enabled")
+    public void doFilterInternal_ShouldAuthenticateFromClaims_WhenClaimsOnlyIsEnabled() throws ServletException, IOException {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Claims claims = Jwts.claims().subject(user.getUsername()).build();
+
+        TokenService tokenService = Mockito.mock(TokenService.class);
+        SecurityService securityService = Mockito.mock(SecurityService.class);
+        Mockito.when(tokenService.getClaimsFromToken("token")).thenReturn(claims);
+        Mockito.when(securityService.loadUserByClaims(claims)).thenReturn(user);
+
+        AuthenticationFilter filter = new AuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "tokenService", tokenService);
+        ReflectionTestUtils.setField(filter, "securityService", securityService);
+        ReflectionTestUtils.setField(filter, "claimsOnly", true);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        FilterChain filterChain = Mockito.mock(FilterChain.class);
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // Assert
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isEqualTo(user);
+        assertThat(authentication.getDetails()).isEqualTo(claims);
+        Mockito.verify(securityService, Mockito.never()).loadUserByUsername(Mockito.anyString());
+    }
+
 }
\ No newline at end of file
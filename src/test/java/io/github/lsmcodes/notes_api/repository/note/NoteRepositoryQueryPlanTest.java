@@ -0,0 +1,127 @@
+package io.github.lsmcodes.notes_api.repository.note;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.user.UserRepository;
+import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+import io.github.lsmcodes.notes_api.util.QueryPlanInspector;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Query plan tests for the {@link NoteRepository} interface, ensuring its
+ * queries are served by indexes instead of scanning the notes or tags tables.
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "io.github.lsmcodes.notes_api.util.QueryPlanInspector")
+@TestMethodOrder(OrderAnnotation.class)
+public class NoteRepositoryQueryPlanTest {
+
+    private static final Map<String, String> SORT_INDEXES = Map.of("title", "NOTES_USER_ID_TITLE_ID_IDX",
+            "createdAt", "NOTES_USER_ID_CREATED_AT_ID_IDX", "updatedAt", "NOTES_USER_ID_UPDATED_AT_ID_IDX");
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Tests the query plans of the {@link NoteRepository} listing queries to
+     * ensure the notes of the user are read through the composite index of the
+     * sort property for pages, slices and tag searches, and through a user id
+     * index for term searches, whose plan is left to the database.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("NoteRepository listing queries should use the user and sort property index")
+    public void listingQueries_ShouldUseTheUserAndSortPropertyIndex() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+
+        for (Map.Entry<String, String> sortIndex : SORT_INDEXES.entrySet()) {
+            Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, sortIndex.getKey()));
+            List<String> sortedPlans = new ArrayList<>();
+            List<String> termPlans = new ArrayList<>();
+
+            // Act
+            sortedPlans.addAll(QueryPlanInspector.explain(this.entityManager,
+                    () -> this.noteRepository.findIdsByUser(user, pageable)));
+            sortedPlans.addAll(QueryPlanInspector.explain(this.entityManager,
+                    () -> this.noteRepository.findIdSliceByUser(user, pageable)));
+            sortedPlans.addAll(QueryPlanInspector.explain(this.entityManager,
+                    () -> this.noteRepository.findIdsByUserAndTagIdIn(user, List.of(1L), pageable)));
+            sortedPlans.addAll(QueryPlanInspector.explain(this.entityManager,
+                    () -> this.noteRepository.findIdSliceByUserAndTagIdIn(user, List.of(1L), pageable)));
+            termPlans.addAll(QueryPlanInspector.explain(this.entityManager,
+                    () -> this.noteRepository.findIdsByUserAndTitleOrContentContainingIgnoreCase(user, "term",
+                            pageable)));
+            termPlans.addAll(QueryPlanInspector.explain(this.entityManager,
+                    () -> this.noteRepository.findIdSliceByUserAndTitleOrContentContainingIgnoreCase(user, "term",
+                            pageable)));
+
+            // Assert
+            assertThat(sortedPlans).filteredOn(plan -> plan.contains("ORDER BY")).hasSize(4)
+                    .allSatisfy(plan -> assertThat(plan).contains(sortIndex.getValue()));
+            assertThat(sortedPlans).hasSize(6).allSatisfy(plan -> assertThat(plan)
+                    .doesNotContainIgnoringCase("tableScan"));
+            assertThat(termPlans).hasSize(3).allSatisfy(plan -> assertThat(plan)
+                    .doesNotContainIgnoringCase("tableScan").containsPattern("PUBLIC\\.\\w+: USER_ID = \\?1"));
+        }
+    }
+
+    /**
+     * Tests the query plans of the {@link NoteRepository} lookup queries and of
+     * keyset scrolling to ensure none of them scans a whole table.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("NoteRepository lookup queries should not scan whole tables")
+    public void lookupQueries_ShouldNotScanWholeTables() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        Note note = NotesApiUtil.getNewNote(this.noteRepository);
+        note.setUser(user);
+
+        Sort sort = Sort.by(Sort.Direction.DESC, "updatedAt", "id");
+        List<String> lookupPlans = new ArrayList<>();
+
+        // Act
+        lookupPlans.addAll(QueryPlanInspector.explain(this.entityManager,
+                () -> this.noteRepository.existsByUserAndId(user, note.getId())));
+        lookupPlans.addAll(QueryPlanInspector.explain(this.entityManager,
+                () -> this.noteRepository.findByUserAndId(user, note.getId())));
+        lookupPlans.addAll(QueryPlanInspector.explain(this.entityManager,
+                () -> this.noteRepository.findAllWithTagsByIdIn(List.of(note.getId()))));
+        lookupPlans.addAll(QueryPlanInspector.explain(this.entityManager,
+                () -> this.noteRepository.findBy(NoteSpecifications.hasUser(user),
+                        query -> query.sortBy(sort).limit(10).scroll(ScrollPosition.keyset()))));
+
+        // Assert
+        assertThat(lookupPlans).hasSize(4).allSatisfy(plan -> assertThat(plan)
+                .doesNotContainIgnoringCase("tableScan"));
+    }
+
+}
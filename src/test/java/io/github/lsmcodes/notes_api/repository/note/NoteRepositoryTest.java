@@ -1,11 +1,21 @@
 package io.github.lsmcodes.notes_api.repository.note;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
@@ -16,13 +26,23 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
 import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.tag.Tag;
 import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.tag.TagRepository;
 import io.github.lsmcodes.notes_api.repository.user.UserRepository;
 import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+import io.github.lsmcodes.notes_api.util.StatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.TypedQuery;
 
 /**
  * Integration tests for the {@link NoteRepository} interface.
@@ -38,6 +58,12 @@ public class NoteRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     /**
      * Tests the save repository method to ensure it correctly saves a note to the
      * database.
@@ -47,7 +73,7 @@ public class NoteRepositoryTest {
     @DisplayName("NoteRepository save method should save note")
     public void save_ShouldSaveNote() {
         // Arrange
-        Note note = Note.builder().tags(List.of("Tag")).title("Sample Title").content("Sample content.").build();
+        Note note = Note.builder().title("Sample Title").content("Sample content.").build();
 
         // Act
         Note savedNote = this.noteRepository.save(note);
@@ -100,13 +126,14 @@ public class NoteRepositoryTest {
     }
 
     /**
-     * Tests the {@link NoteRepository#findByUser(User user, Pageable pageable)}
-     * repository method to ensure it correctly retrieves all notes from a user.
+     * Tests the {@link NoteRepository#findIdsByUser(User user, Pageable pageable)}
+     * repository method to ensure it correctly retrieves the ids of all notes from
+     * a user.
      */
     @Test
     @Order(4)
-    @DisplayName("NoteRepository findByUser method should return all notes")
-    public void findByUser_ShouldReturnAllNotes() {
+    @DisplayName("NoteRepository findIdsByUser method should return the ids of all notes")
+    public void findIdsByUser_ShouldReturnIdsOfAllNotes() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10, Sort.by("title").ascending());
 
@@ -119,25 +146,24 @@ public class NoteRepositoryTest {
         secondNote.setUser(user);
 
         // Act
-        Page<Note> foundPage = this.noteRepository.findByUser(user, pageable);
-        List<Note> pageContent = foundPage.getContent();
+        Page<UUID> foundPage = this.noteRepository.findIdsByUser(user, pageable);
+        List<UUID> pageContent = foundPage.getContent();
 
         // Assert
-        assertThat(pageContent).hasSize(2);
-        assertThat(pageContent.get(0)).isEqualTo(firstNote);
-        assertThat(pageContent.get(1)).isEqualTo(secondNote);
+        assertThat(foundPage.getTotalElements()).isEqualTo(2);
+        assertThat(pageContent).containsExactly(firstNote.getId(), secondNote.getId());
     }
 
     /**
      * Tests the
-     * {@link NoteRepository#findByUserAndTitleOrContentContainingIgnoreCase(User user, String term, Pageable pageable)}
-     * method to ensure it finds notes from the provided user whose title or content
+     * {@link NoteRepository#findIdsByUserAndTitleOrContentContainingIgnoreCase(User user, String term, Pageable pageable)}
+     * method to ensure it finds the ids of notes from the provided user whose title or content
      * contains the specified term, ignoring case.
      */
     @Test
     @Order(5)
-    @DisplayName("NoteRepository findByUserAndTitleOrContentContainingIgnoreCase method should return correct note")
-    public void findByUserAndTitleOrContentContainingIgnoreCase_ShouldReturnCorrectNote() {
+    @DisplayName("NoteRepository findIdsByUserAndTitleOrContentContainingIgnoreCase method should return correct ids")
+    public void findIdsByUserAndTitleOrContentContainingIgnoreCase_ShouldReturnCorrectIds() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10, Sort.by("title").descending());
 
@@ -150,45 +176,390 @@ public class NoteRepositoryTest {
         secondNote.setUser(user);
 
         // Act
-        Page<Note> foundPage = this.noteRepository.findByUserAndTitleOrContentContainingIgnoreCase(user, "sample",
-                pageable);
-        List<Note> pageContent = foundPage.getContent();
+        Page<UUID> foundPage = this.noteRepository.findIdsByUserAndTitleOrContentContainingIgnoreCase(user,
+                "sample", pageable);
+        List<UUID> pageContent = foundPage.getContent();
 
         // Assert
-        assertThat(pageContent).hasSize(2);
-        assertThat(pageContent.get(0)).isEqualTo(firstNote);
-        assertThat(pageContent.get(1)).isEqualTo(secondNote);
+        assertThat(foundPage.getTotalElements()).isEqualTo(2);
+        assertThat(pageContent).containsExactly(firstNote.getId(), secondNote.getId());
     }
 
     /**
      * Tests the
-     * {@link NoteRepository#findByUserAndTagsInIgnoreCase(User user, List tags, Pageable pageable)}
-     * method to ensure it finds notes from the provided user whose tags contains at
-     * least one of the specified tags, ignoring case.
+     * {@link NoteRepository#findIdsByUserAndTitleOrContentContainingIgnoreCase(User user, String term, Pageable pageable)}
+     * method to ensure notes from other users are not returned when only their content
+     * contains the specified term.
+     */
+    @Test
+    @Order(5)
+    @DisplayName("NoteRepository findIdsByUserAndTitleOrContentContainingIgnoreCase method should not return notes from other users")
+    public void findIdsByUserAndTitleOrContentContainingIgnoreCase_ShouldNotReturnNotesFromOtherUsers() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title").ascending());
+
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        User otherUser = NotesApiUtil.getNewUser();
+        otherUser.setId(null);
+        otherUser.setUsername("other_user");
+        otherUser = this.userRepository.save(otherUser);
+
+        Note note = NotesApiUtil.getNewNote(this.noteRepository);
+        Note otherNote = NotesApiUtil.getNewNote(this.noteRepository);
+        otherNote.setTitle("Other title");
+
+        note.setUser(user);
+        otherNote.setUser(otherUser);
+
+        // Act
+        Page<UUID> foundPage = this.noteRepository.findIdsByUserAndTitleOrContentContainingIgnoreCase(user,
+                "content", pageable);
+        Slice<UUID> foundSlice = this.noteRepository.findIdSliceByUserAndTitleOrContentContainingIgnoreCase(user,
+                "content", pageable);
+
+        // Assert
+        assertThat(foundPage.getTotalElements()).isEqualTo(1);
+        assertThat(foundPage.getContent()).containsExactly(note.getId());
+        assertThat(foundSlice.getContent()).containsExactly(note.getId());
+    }
+
+    /**
+     * Tests the query plan of the term search, written as the SQL the repository
+     * term queries translate to, to ensure the notes are looked up through the
+     * user id index instead of scanning the whole notes table.
+     */
+    @Test
+    @Order(5)
+    @DisplayName("Term search query plan should use the user id index")
+    public void termSearchQueryPlan_ShouldUseUserIdIndex() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+
+        // Act
+        String plan = (String) this.entityManager.createNativeQuery("EXPLAIN SELECT n.id FROM notes n " +
+                "WHERE n.user_id = ?1 AND (LOWER(n.title) LIKE ?2 OR LOWER(n.content) LIKE ?2)")
+                .setParameter(1, user.getId()).setParameter(2, "%sample%").getSingleResult();
+
+        // Assert
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+        assertThat(plan).containsIgnoringCase("USER_ID = ?1");
+    }
+
+    /**
+     * Tests the
+     * {@link NoteRepository#findIdsByUserAndTagIdIn(User user, Collection tagIds, Pageable pageable)}
+     * method to ensure it finds the ids of notes from the provided user that have at
+     * least one of the specified tags.
      */
     @Test
     @Order(6)
-    @DisplayName("NoteRepository findByUserAndTagsInIgnoreCase method should return correct notes")
-    public void findByUserAndTagsInIgnoreCase_ShouldReturnCorrectNotes() {
+    @DisplayName("NoteRepository findIdsByUserAndTagIdIn method should return correct ids")
+    public void findIdsByUserAndTagIdIn_ShouldReturnCorrectIds() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10, Sort.by("title").ascending());
 
         User user = NotesApiUtil.getNewUser(this.userRepository);
+        Tag tag = NotesApiUtil.getNewTag(this.tagRepository, user);
         Note firstNote = NotesApiUtil.getNewNote(this.noteRepository);
         Note secondNote = NotesApiUtil.getNewNote(this.noteRepository);
+        Note untaggedNote = NotesApiUtil.getNewNote(this.noteRepository);
         firstNote.setTitle("A sample title");
 
         firstNote.setUser(user);
         secondNote.setUser(user);
+        untaggedNote.setUser(user);
+        firstNote.getTags().add(tag);
+        secondNote.getTags().add(tag);
 
         // Act
-        Page<Note> foundPage = this.noteRepository.findByUserAndTagsInIgnoreCase(user, List.of("tag"), pageable);
-        List<Note> pageContent = foundPage.getContent();
+        Page<UUID> foundPage = this.noteRepository.findIdsByUserAndTagIdIn(user, List.of(tag.getId()), pageable);
+        List<UUID> pageContent = foundPage.getContent();
 
         // Assert
-        assertThat(pageContent).hasSize(2);
-        assertThat(pageContent.get(0)).isEqualTo(firstNote);
-        assertThat(pageContent.get(1)).isEqualTo(secondNote);
+        assertThat(foundPage.getTotalElements()).isEqualTo(2);
+        assertThat(pageContent).containsExactly(firstNote.getId(), secondNote.getId());
+    }
+
+    /**
+     * Tests the {@link NoteRepository#findIdSliceByUser(User user, Pageable pageable)}
+     * repository method to ensure it tells whether there is a next slice.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteRepository findIdSliceByUser method should return a slice of ids")
+    public void findIdSliceByUser_ShouldReturnSliceOfIds() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("title").ascending());
+
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        Note firstNote = NotesApiUtil.getNewNote(this.noteRepository);
+        Note secondNote = NotesApiUtil.getNewNote(this.noteRepository);
+        firstNote.setTitle("A sample title");
+
+        firstNote.setUser(user);
+        secondNote.setUser(user);
+
+        // Act
+        Slice<UUID> firstSlice = this.noteRepository.findIdSliceByUser(user, pageable);
+        Slice<UUID> secondSlice = this.noteRepository.findIdSliceByUser(user, pageable.next());
+
+        // Assert
+        assertThat(firstSlice.getContent()).containsExactly(firstNote.getId());
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(secondSlice.getContent()).containsExactly(secondNote.getId());
+        assertThat(secondSlice.hasNext()).isFalse();
+    }
+
+    /**
+     * Tests the {@link NoteRepository#findAllWithTagsByIdIn(Collection ids)}
+     * repository method to ensure it retrieves only the notes with the provided
+     * ids, with their tags.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteRepository findAllWithTagsByIdIn method should return notes with their tags")
+    public void findAllWithTagsByIdIn_ShouldReturnNotesWithTags() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        Tag tag = NotesApiUtil.getNewTag(this.tagRepository, user);
+        Note firstNote = NotesApiUtil.getNewNote(this.noteRepository);
+        Note secondNote = NotesApiUtil.getNewNote(this.noteRepository);
+        NotesApiUtil.getNewNote(this.noteRepository);
+        firstNote.getTags().add(tag);
+        secondNote.getTags().add(tag);
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        // Act
+        List<Note> foundNotes = this.noteRepository.findAllWithTagsByIdIn(
+                List.of(firstNote.getId(), secondNote.getId()));
+
+        // Assert
+        assertThat(foundNotes).containsExactlyInAnyOrder(firstNote, secondNote);
+        assertThat(foundNotes).allSatisfy(note -> {
+            assertThat(Hibernate.isInitialized(note.getTags())).isTrue();
+            assertThat(note.getTags()).extracting(Tag::getName).containsExactly("tag");
+        });
+    }
+
+    /**
+     * Tests the
+     * {@link NoteRepository#findSummariesWithSnippetByIdIn(Collection ids, int contentLength)}
+     * and {@link NoteRepository#findTagNamesByNoteIdIn(Collection ids)} repository
+     * methods to ensure they read the summaries and tag names of the provided
+     * notes without loading any entity.
+     * 
+     * @throws Exception if an error occurs while counting the statements.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteRepository findSummariesWithSnippetByIdIn method should read summaries without loading notes")
+    public void findSummariesWithSnippetByIdIn_ShouldReadSummariesWithoutLoadingNotes() throws Exception {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        Tag firstTag = NotesApiUtil.getNewTag(this.tagRepository, user);
+        Tag secondTag = this.tagRepository.save(Tag.builder().user(user).name("other").build());
+        Note firstNote = NotesApiUtil.getNewNote(this.noteRepository);
+        Note secondNote = NotesApiUtil.getNewNote(this.noteRepository);
+        NotesApiUtil.getNewNote(this.noteRepository);
+        firstNote.setContent("word ".repeat(1000));
+        firstNote.getTags().addAll(List.of(firstTag, secondTag));
+        secondNote.setContent("Short\n\ncontent");
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        List<UUID> ids = List.of(firstNote.getId(), secondNote.getId());
+        StatementCounter statementCounter = new StatementCounter(this.entityManager.getEntityManagerFactory());
+        Statistics statistics = this.entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+                .getStatistics();
+        AtomicReference<List<NoteSummary>> foundSummaries = new AtomicReference<>();
+        AtomicReference<List<NoteTagName>> foundTagNames = new AtomicReference<>();
+
+        // Act
+        long statements = statementCounter.count(() -> {
+            foundSummaries.set(this.noteRepository.findSummariesWithSnippetByIdIn(ids, 321));
+            foundTagNames.set(this.noteRepository.findTagNamesByNoteIdIn(ids));
+        });
+
+        // Assert
+        List<NoteSummary> summaries = foundSummaries.get();
+        List<NoteTagName> tagNames = foundTagNames.get();
+
+        assertThat(statements).as("SQL statements").isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).as("loaded entities").isZero();
+        assertThat(summaries).extracting(NoteSummary::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(summaries).filteredOn(summary -> summary.getId().equals(firstNote.getId()))
+                .singleElement().satisfies(summary -> {
+                    assertThat(summary.getTitle()).isEqualTo(firstNote.getTitle());
+                    assertThat(summary.getSnippet()).hasSize(160).startsWith("word word").endsWith("word…");
+                    assertThat(summary.getCreatedAt()).isNotNull();
+                });
+        assertThat(summaries).filteredOn(summary -> summary.getId().equals(secondNote.getId()))
+                .extracting(NoteSummary::getSnippet).containsExactly("Short content");
+        assertThat(tagNames).extracting(NoteTagName::getNoteId, NoteTagName::getName).containsExactly(
+                tuple(firstNote.getId(), "other"), tuple(firstNote.getId(), "tag"));
+    }
+
+    /**
+     * Tests the {@link NoteRepository#streamByUser(User user)} repository method
+     * to ensure it streams every note of the user once, ordered by id, with all
+     * its tags.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteRepository streamByUser method should stream every note of the user with its tags")
+    public void streamByUser_ShouldStreamEveryNoteOfTheUserWithItsTags() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        Tag firstTag = NotesApiUtil.getNewTag(this.tagRepository, user);
+        Tag secondTag = this.tagRepository.save(Tag.builder().user(user).name("other").build());
+        Note firstNote = NotesApiUtil.getNewNote(this.noteRepository);
+        Note secondNote = NotesApiUtil.getNewNote(this.noteRepository);
+        NotesApiUtil.getNewNote(this.noteRepository);
+        firstNote.setUser(user);
+        firstNote.getTags().addAll(List.of(firstTag, secondTag));
+        secondNote.setUser(user);
+        secondNote.getTags().add(secondTag);
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        // Act
+        List<Note> foundNotes;
+        try (Stream<Note> notes = this.noteRepository.streamByUser(user)) {
+            foundNotes = notes.toList();
+        }
+
+        // Assert
+        assertThat(foundNotes).containsExactlyElementsOf(Stream.of(firstNote, secondNote)
+                .sorted(Comparator.comparing(note -> note.getId().toString())).toList());
+        assertThat(foundNotes).allSatisfy(note -> assertThat(Hibernate.isInitialized(note.getTags())).isTrue());
+        assertThat(foundNotes.get(foundNotes.indexOf(firstNote)).getTags()).extracting(Tag::getName)
+                .containsExactlyInAnyOrder("tag", "other");
+        assertThat(foundNotes.get(foundNotes.indexOf(secondNote)).getTags()).extracting(Tag::getName)
+                .containsExactly("other");
+    }
+
+    /**
+     * Ensures Hibernate rejects paginated queries that fetch a collection, so no
+     * query can silently fall back to paginating in memory.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("Paginated queries fetching a collection should not be paginated in memory")
+    public void paginatedCollectionFetch_ShouldFail() {
+        // Arrange
+        TypedQuery<Note> query = this.entityManager
+                .createQuery("SELECT n FROM notes n JOIN FETCH n.tags", Note.class)
+                .setMaxResults(10);
+
+        // Act and Assert
+        PersistenceException exception = assertThrows(PersistenceException.class, query::getResultList);
+        assertThat(exception.getMessage()).contains("collection fetch");
+    }
+
+    /**
+     * Tests the keyset scrolling of the {@link NoteRepository} with
+     * {@link NoteSpecifications} to ensure notes sharing the sort value are
+     * neither skipped nor repeated across windows.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteRepository keyset scrolling should retrieve every note once")
+    public void findBy_ShouldScrollThroughEveryNoteOnce() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        List<Note> notes = List.of(NotesApiUtil.getNewNote(this.noteRepository),
+                NotesApiUtil.getNewNote(this.noteRepository), NotesApiUtil.getNewNote(this.noteRepository));
+        notes.forEach(note -> note.setUser(user));
+        Specification<Note> specification = NoteSpecifications.hasUser(user);
+        Sort sort = Sort.by("title", "id");
+
+        // Act
+        Window<Note> firstWindow = this.noteRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(2).scroll(ScrollPosition.keyset()));
+        Window<Note> secondWindow = this.noteRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(2).scroll(firstWindow.positionAt(firstWindow.size() - 1)));
+
+        // Assert
+        assertThat(firstWindow).hasSize(2);
+        assertThat(firstWindow.hasNext()).isTrue();
+        assertThat(secondWindow).hasSize(1);
+        assertThat(secondWindow.hasNext()).isFalse();
+        assertThat(Stream.concat(firstWindow.stream(), secondWindow.stream()))
+                .containsExactlyInAnyOrderElementsOf(notes);
+    }
+
+    /**
+     * Tests the {@link NoteSpecifications} term and tags filters to ensure they
+     * match the correct notes, ignoring the case of the term.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteSpecifications term and tags filters should return correct notes")
+    public void noteSpecifications_ShouldFilterByTermAndTags() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        Tag tag = NotesApiUtil.getNewTag(this.tagRepository, user);
+        Note firstNote = NotesApiUtil.getNewNote(this.noteRepository);
+        Note secondNote = NotesApiUtil.getNewNote(this.noteRepository);
+        firstNote.setUser(user);
+        secondNote.setUser(user);
+        secondNote.setTitle("Other title");
+        secondNote.setContent("Other content.");
+        secondNote.getTags().add(tag);
+        Specification<Note> byUser = NoteSpecifications.hasUser(user);
+
+        // Act
+        List<Note> notesWithTerm = this.noteRepository
+                .findAll(byUser.and(NoteSpecifications.titleOrContentContainsIgnoreCase("SAMPLE")));
+        List<Note> notesWithTags = this.noteRepository
+                .findAll(byUser.and(NoteSpecifications.hasAnyTag(List.of(tag.getId(), -1L))));
+
+        // Assert
+        assertThat(notesWithTerm).containsExactly(firstNote);
+        assertThat(notesWithTags).containsExactly(secondNote);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteRepository#updateTitleAndContentByUserAndId(User user, UUID id, String title, String content)}
+     * repository method to ensure it updates only the supplied values of the note
+     * of the provided user, along with the provided update date.
+     */
+    @Test
+    @Order(7)
+    @DisplayName("NoteRepository updateTitleAndContentByUserAndId method should update only the supplied values")
+    public void updateTitleAndContentByUserAndId_ShouldUpdateOnlyTheSuppliedValues() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        User otherUser = NotesApiUtil.getNewUser();
+        otherUser.setId(null);
+        otherUser.setUsername("other_user");
+        User savedOtherUser = this.userRepository.save(otherUser);
+
+        Note note = NotesApiUtil.getNewNote(this.noteRepository);
+        UUID noteId = note.getId();
+
+        note.setUser(user);
+        this.entityManager.flush();
+
+        // Act
+        LocalDateTime updatedAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+        int updatedNotes = this.noteRepository.updateTitleAndContentByUserAndId(user, noteId, "Updated Title", null,
+                updatedAt);
+        int otherUserUpdatedNotes = this.noteRepository.updateTitleAndContentByUserAndId(savedOtherUser, noteId, null,
+                "Updated content.", LocalDateTime.now());
+        this.entityManager.clear();
+
+        // Assert
+        Note updatedNote = this.noteRepository.findById(noteId).orElseThrow();
+        assertThat(updatedNotes).isEqualTo(1);
+        assertThat(otherUserUpdatedNotes).isZero();
+        assertThat(updatedNote.getTitle()).isEqualTo("Updated Title");
+        assertThat(updatedNote.getContent()).isEqualTo("Sample content.");
+        assertThat(updatedNote.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(this.noteRepository.findUpdatedAtByUserAndId(user, noteId)).contains(updatedAt);
+        assertThat(this.noteRepository.findUpdatedAtByUserAndId(savedOtherUser, noteId)).isEmpty();
     }
 
     /**
@@ -209,8 +580,45 @@ public class NoteRepositoryTest {
 
         // Act and Assert
         assertThat(this.noteRepository.existsByUserAndId(user, noteId)).isTrue();
-        this.noteRepository.deleteByUserAndId(user, noteId);
+        assertThat(this.noteRepository.deleteByUserAndId(user, noteId)).isEqualTo(1);
         assertThat(this.noteRepository.existsByUserAndId(user, noteId)).isFalse();
+        assertThat(this.noteRepository.deleteByUserAndId(user, noteId)).isZero();
+    }
+
+    /**
+     * Tests the
+     * {@link NoteRepository#deleteByUserAndIdIn(User user, Collection ids)}
+     * repository method to ensure it deletes only the provided notes of the user,
+     * with their tags.
+     */
+    @Test
+    @Order(7)
+    @DisplayName("NoteRepository deleteByUserAndIdIn method should delete the provided notes of the user")
+    public void deleteByUserAndIdIn_ShouldDeleteTheProvidedNotesOfTheUser() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        Tag tag = NotesApiUtil.getNewTag(this.tagRepository, user);
+        Note firstNote = NotesApiUtil.getNewNote(this.noteRepository);
+        Note secondNote = NotesApiUtil.getNewNote(this.noteRepository);
+        Note keptNote = NotesApiUtil.getNewNote(this.noteRepository);
+
+        firstNote.setUser(user);
+        firstNote.getTags().add(tag);
+        secondNote.setUser(user);
+        keptNote.setUser(user);
+        this.entityManager.flush();
+
+        List<UUID> ids = List.of(firstNote.getId(), secondNote.getId(), UUID.randomUUID());
+
+        // Act
+        List<UUID> foundIds = this.noteRepository.findIdsByUserAndIdIn(user, ids);
+        int deletedNotes = this.noteRepository.deleteByUserAndIdIn(user, foundIds);
+
+        // Assert
+        assertThat(foundIds).containsExactlyInAnyOrder(firstNote.getId(), secondNote.getId());
+        assertThat(deletedNotes).isEqualTo(2);
+        assertThat(this.noteRepository.findIdsByUserAndIdIn(user, ids)).isEmpty();
+        assertThat(this.noteRepository.existsByUserAndId(user, keptNote.getId())).isTrue();
     }
 
     /**
@@ -236,4 +644,46 @@ public class NoteRepositoryTest {
         assertThat(this.noteRepository.findAll()).isEmpty();
     }
 
-}
\ No newline at end of file
+    /**
+     * Tests the {@link NoteRepository#deleteByUser(User user)} repository method
+     * with 100,000 tagged notes to ensure it deletes them with a constant number
+     * of statements and without loading them into memory.
+     * 
+     * @throws Exception if an error occurs while counting the statements.
+     */
+    @Test
+    @Order(8)
+    @DisplayName("NoteRepository deleteByUser method should delete many notes with bounded statements and memory")
+    public void deleteByUser_ShouldDeleteManyNotesWithBoundedStatementsAndMemory() throws Exception {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        Tag tag = NotesApiUtil.getNewTag(this.tagRepository, user);
+        this.entityManager.flush();
+
+        this.entityManager.createNativeQuery("INSERT INTO notes (id, title, content, created_at, updated_at, user_id) "
+                + "SELECT RANDOM_UUID(), 'Title ' || X, 'Sample content.', LOCALTIMESTAMP, LOCALTIMESTAMP, ?1 "
+                + "FROM SYSTEM_RANGE(1, 100000)").setParameter(1, user.getId()).executeUpdate();
+        this.entityManager.createNativeQuery("INSERT INTO note_tags (note_id, tag_id) "
+                + "SELECT id, ?1 FROM notes WHERE user_id = ?2").setParameter(1, tag.getId())
+                .setParameter(2, user.getId()).executeUpdate();
+        this.entityManager.clear();
+
+        StatementCounter statementCounter = new StatementCounter(this.entityManager.getEntityManagerFactory());
+        Statistics statistics = this.entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+                .getStatistics();
+        int[] deletedNotes = new int[1];
+
+        // Act
+        long statements = statementCounter.count(() -> deletedNotes[0] = this.noteRepository.deleteByUser(user));
+
+        // Assert
+        assertThat(deletedNotes[0]).isEqualTo(100_000);
+        assertThat(statements).as("SQL statements").isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).as("loaded notes").isZero();
+        assertThat(statistics.getCollectionLoadCount()).as("loaded tag collections").isZero();
+        assertThat(this.noteRepository.count()).isZero();
+        assertThat(((Number) this.entityManager.createNativeQuery("SELECT COUNT(*) FROM note_tags")
+                .getSingleResult()).longValue()).isZero();
+    }
+
+}
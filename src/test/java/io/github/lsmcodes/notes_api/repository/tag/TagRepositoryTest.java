@@ -0,0 +1,63 @@
+package io.github.lsmcodes.notes_api.repository.tag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.lsmcodes.notes_api.model.tag.Tag;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.user.UserRepository;
+import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+
+/**
+ * Integration tests for the {@link TagRepository} interface.
+ */
+@ActiveProfiles("test")
+@DataJpaTest
+@TestMethodOrder(OrderAnnotation.class)
+public class TagRepositoryTest {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Tests the {@link TagRepository#findByUserAndNameIn(User user, java.util.Collection names)}
+     * and {@link TagRepository#findIdsByUserAndNameIn(User user, java.util.Collection names)}
+     * repository methods to ensure they only find the tags of the provided user.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("TagRepository find methods should return the tags of the user")
+    public void findByUserAndNameIn_ShouldReturnTagsOfTheUser() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser(this.userRepository);
+        User otherUser = NotesApiUtil.getNewUser();
+        otherUser.setId(null);
+        otherUser.setUsername("other_user");
+        otherUser = this.userRepository.save(otherUser);
+
+        Tag tag = NotesApiUtil.getNewTag(this.tagRepository, user);
+        NotesApiUtil.getNewTag(this.tagRepository, otherUser);
+
+        // Act
+        List<Tag> foundTags = this.tagRepository.findByUserAndNameIn(user, List.of("tag", "missing"));
+        List<Long> foundIds = this.tagRepository.findIdsByUserAndNameIn(user, List.of("tag", "missing"));
+
+        // Assert
+        assertThat(foundTags).containsExactly(tag);
+        assertThat(foundIds).containsExactly(tag.getId());
+    }
+
+}
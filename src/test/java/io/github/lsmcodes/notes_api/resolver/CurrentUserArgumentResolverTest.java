@@ -0,0 +1,113 @@
+package io.github.lsmcodes.notes_api.resolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.lsmcodes.notes_api.exception.UserNotFoundException;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.service.user.UserService;
+import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+
+/**
+ * Unit tests for the {@link CurrentUserArgumentResolver} class.
+ */
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+public class CurrentUserArgumentResolverTest {
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private CurrentUserArgumentResolver currentUserArgumentResolver;
+
+    @AfterEach
+    public void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Tests the resolveArgument method to ensure it returns the authenticated
+     * {@link User} without querying the {@link UserService}.
+     * 
+     * @throws UserNotFoundException if no user was found.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("CurrentUserArgumentResolver resolveArgument should return the principal without querying the service")
+    public void resolveArgument_ShouldReturnThePrincipal_WhenPrincipalIsAUser() throws UserNotFoundException {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        // Act
+        Object resolvedUser = this.currentUserArgumentResolver.resolveArgument(null, null, null, null);
+
+        // Assert
+        assertThat(resolvedUser).isSameAs(user);
+        Mockito.verifyNoInteractions(this.userService);
+    }
+
+    /**
+     * Tests the resolveArgument method to ensure it looks the user up by username
+     * when the principal is not a {@link User}.
+     * 
+     * @throws UserNotFoundException if no user was found.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("CurrentUserArgumentResolver resolveArgument should look the user up when principal is not a User")
+    public void resolveArgument_ShouldLookTheUserUp_WhenPrincipalIsNotAUser() throws UserNotFoundException {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getUsername(), null, user.getAuthorities()));
+
+        Mockito.when(this.userService.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+
+        // Act
+        Object resolvedUser = this.currentUserArgumentResolver.resolveArgument(null, null, null, null);
+
+        // Assert
+        assertThat(resolvedUser).isEqualTo(user);
+    }
+
+    /**
+     * Tests the resolveArgument method to ensure it throws an
+     * {@link UserNotFoundException} when the user does not exist.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("CurrentUserArgumentResolver resolveArgument should throw UserNotFoundException")
+    public void resolveArgument_ShouldThrowUserNotFoundException_WhenUserDoesNotExist() {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("unknown_user", null));
+
+        Mockito.when(this.userService.findByUsername("unknown_user")).thenReturn(Optional.empty());
+
+        // Act and Assert
+        assertThatThrownBy(() -> this.currentUserArgumentResolver.resolveArgument(null, null, null, null))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+}
@@ -0,0 +1,289 @@
+package io.github.lsmcodes.notes_api.service.note.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.lsmcodes.notes_api.dto.model.note.NoteImportResponseDTO;
+import io.github.lsmcodes.notes_api.exception.InvalidArchiveException;
+import io.github.lsmcodes.notes_api.exception.TooManyImportsException;
+import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.service.note.NoteService;
+import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+/**
+ * Unit tests for the {@link NoteImportServiceImpl} class.
+ */
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+public class NoteImportServiceImplTest {
+
+    @Mock
+    private NoteService noteService;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private NoteImportServiceImpl noteImportServiceImpl;
+
+    /**
+     * Starts the parser and writer threads.
+     */
+    @BeforeEach
+    public void setUp() {
+        this.noteImportServiceImpl.start();
+    }
+
+    /**
+     * Stops the parser and writer threads.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.noteImportServiceImpl.stop();
+    }
+
+    /**
+     * Tests the {@link NoteImportServiceImpl#importZip(User user, InputStream archive)}
+     * service method to ensure it saves the notes of the Markdown files in the
+     * order of the archive, in chunks, and reports the rejected files.
+     * 
+     * @throws Exception if an error occurs while importing the archive.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("NoteImportServiceImpl importZip method should save the notes in the order of the archive")
+    @SuppressWarnings("unchecked")
+    public void importZip_ShouldSaveTheNotesInTheOrderOfTheArchive() throws Exception {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("notes/", null);
+        IntStream.range(0, 1001).forEach(i -> files.put("notes/note-" + i + ".md",
+                "---\ntitle: \"Title " + i + "\"\ntags: [\"tag\"]\n---\nContent " + i));
+        files.put("notes/unclosed.md", "---\ntitle: \"Unclosed\"\ntags: []\n");
+        files.put("notes/readme.txt", "Not a note");
+        files.put("notes/Untitled.md", "---\ntags:\n  - work\n  - 'ideas'\n---\n");
+        files.put("notes/large.md", "x".repeat(1024 * 1024 + 1));
+
+        ArgumentCaptor<List<Note>> notesCaptor = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        NoteImportResponseDTO result = this.noteImportServiceImpl.importZip(user,
+                new ByteArrayInputStream(this.zip(files)));
+
+        // Assert
+        assertThat(result.getAccepted()).isEqualTo(1002);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(error -> error.getFile())
+                .containsExactly("notes/unclosed.md", "notes/large.md");
+        assertThat(result.getErrors()).extracting(error -> error.getMessage())
+                .containsExactly("The front matter is not closed", "The file must contain 1048576 bytes or less");
+
+        Mockito.verify(this.noteService, Mockito.times(3)).saveAll(ArgumentMatchers.eq(user),
+                notesCaptor.capture(), ArgumentMatchers.anyList());
+        List<Note> savedNotes = notesCaptor.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(notesCaptor.getAllValues()).extracting(List::size).containsExactly(500, 500, 2);
+        assertThat(savedNotes.subList(0, 1001)).extracting(Note::getTitle)
+                .containsExactlyElementsOf(IntStream.range(0, 1001).mapToObj(i -> "Title " + i).toList());
+        assertThat(savedNotes.get(1000).getContent()).isEqualTo("Content 1000");
+        assertThat(savedNotes.get(1001).getTitle()).isEqualTo("Untitled");
+        assertThat(savedNotes.get(1001).getContent()).isEmpty();
+        Mockito.verify(this.noteService).saveAll(ArgumentMatchers.eq(user), ArgumentMatchers.anyList(),
+                ArgumentMatchers.eq(Arrays.asList(List.of("tag"), List.of("work", "ideas"))));
+    }
+
+    /**
+     * Tests the {@link NoteImportServiceImpl#importZip(User user, InputStream archive)}
+     * service method to ensure it throws an {@link InvalidArchiveException} when
+     * the archive is corrupted.
+     * 
+     * @throws IOException if an error occurs while building the archive.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("NoteImportServiceImpl importZip method should throw InvalidArchiveException when the archive is corrupted")
+    public void importZip_ShouldThrowInvalidArchiveException_WhenTheArchiveIsCorrupted() throws IOException {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        byte[] archive = this.zip(Map.of("note.md", "Sample content. ".repeat(1000)));
+        Arrays.fill(archive, 40, 80, (byte) 0xFF);
+
+        // Act and Assert
+        assertThatThrownBy(() -> this.noteImportServiceImpl.importZip(user, new ByteArrayInputStream(archive)))
+                .isInstanceOf(InvalidArchiveException.class);
+        Mockito.verifyNoInteractions(this.noteService);
+    }
+
+    /**
+     * Tests the {@link NoteImportServiceImpl#importZip(User user, InputStream archive)}
+     * service method to ensure it throws an {@link InvalidArchiveException} when
+     * the body is empty or is not a ZIP archive.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("NoteImportServiceImpl importZip method should throw InvalidArchiveException when the body is not a ZIP archive")
+    public void importZip_ShouldThrowInvalidArchiveException_WhenTheBodyIsNotAZipArchive() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        byte[] text = "title,content\nSample title,Sample content.\n".getBytes(StandardCharsets.UTF_8);
+
+        // Act and Assert
+        assertThatThrownBy(() -> this.noteImportServiceImpl.importZip(user, new ByteArrayInputStream(text)))
+                .isInstanceOf(InvalidArchiveException.class)
+                .hasMessage("The archive is not a valid ZIP archive: it has no ZIP header");
+        assertThatThrownBy(() -> this.noteImportServiceImpl.importZip(user, new ByteArrayInputStream(new byte[0])))
+                .isInstanceOf(InvalidArchiveException.class);
+        Mockito.verifyNoInteractions(this.noteService);
+    }
+
+    /**
+     * Tests the {@link NoteImportServiceImpl#importZip(User user, InputStream archive)}
+     * service method to ensure it saves the notes read before the archive is cut
+     * short and reports them with the error of the archive, as some of them were
+     * already saved.
+     * 
+     * @throws Exception if an error occurs while importing the archive.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("NoteImportServiceImpl importZip method should report the saved notes when the archive is truncated")
+    @SuppressWarnings("unchecked")
+    public void importZip_ShouldReportTheSavedNotes_WhenTheArchiveIsTruncated() throws Exception {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Map<String, String> files = new LinkedHashMap<>();
+        IntStream.range(0, 600).forEach(i -> files.put("notes/note-" + i + ".md",
+                "---\ntitle: \"Title " + i + "\"\n---\n" + "Content " + i + ". ".repeat(20)));
+        byte[] archive = this.zip(files);
+        String truncatedFile = "notes/note-550.md";
+        int truncatedFileStart = new String(archive, StandardCharsets.ISO_8859_1).indexOf(truncatedFile);
+        byte[] truncatedArchive = Arrays.copyOf(archive, truncatedFileStart + truncatedFile.length() + 10);
+
+        ArgumentCaptor<List<Note>> notesCaptor = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        NoteImportResponseDTO result = this.noteImportServiceImpl.importZip(user,
+                new ByteArrayInputStream(truncatedArchive));
+
+        // Assert
+        assertThat(result.getAccepted()).isEqualTo(550);
+        assertThat(result.getRejected()).isZero();
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getFile()).isEqualTo(truncatedFile);
+            assertThat(error.getMessage()).startsWith("The archive is not a valid ZIP archive: ");
+        });
+
+        Mockito.verify(this.noteService, Mockito.times(2)).saveAll(ArgumentMatchers.eq(user),
+                notesCaptor.capture(), ArgumentMatchers.anyList());
+        assertThat(notesCaptor.getAllValues()).extracting(List::size).containsExactly(500, 50);
+    }
+
+    /**
+     * Tests the {@link NoteImportServiceImpl#importZip(User user, InputStream archive)}
+     * service method to ensure it throws a {@link TooManyImportsException} when
+     * every writer is busy, without reading the archive.
+     * 
+     * @throws Exception if an error occurs while importing the archives.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("NoteImportServiceImpl importZip method should throw TooManyImportsException when every writer is busy")
+    public void importZip_ShouldThrowTooManyImportsException_WhenEveryWriterIsBusy() throws Exception {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        byte[] archive = this.zip(Map.of("note.md", "Sample content."));
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch saved = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Mockito.when(this.noteService.saveAll(ArgumentMatchers.eq(user), ArgumentMatchers.anyList(),
+                ArgumentMatchers.anyList())).thenAnswer(invocation -> {
+                    saving.countDown();
+                    saved.await();
+                    return invocation.getArgument(1);
+                });
+
+        try {
+            Future<NoteImportResponseDTO> running = executor
+                    .submit(() -> this.noteImportServiceImpl.importZip(user, new ByteArrayInputStream(archive)));
+            saving.await();
+            InputStream rejected = Mockito.spy(new ByteArrayInputStream(archive));
+
+            // Act and Assert
+            assertThatThrownBy(() -> this.noteImportServiceImpl.importZip(user, rejected))
+                    .isInstanceOf(TooManyImportsException.class);
+            Mockito.verifyNoInteractions(rejected);
+
+            saved.countDown();
+            assertThat(running.get().getAccepted()).isEqualTo(1);
+        } finally {
+            saved.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Builds a ZIP archive with the provided files, where a {@code null} content
+     * stands for a directory.
+     * 
+     * @param files The contents of the files by name.
+     * @return The bytes of the archive.
+     * @throws IOException if an error occurs while building the archive.
+     */
+    private byte[] zip(Map<String, String> files) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, String> file : files.entrySet()) {
+                zip.putNextEntry(new ZipEntry(file.getKey()));
+
+                if (file.getValue() != null) {
+                    zip.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+                }
+
+                zip.closeEntry();
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+}
@@ -1,11 +1,20 @@
 package io.github.lsmcodes.notes_api.service.note.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
@@ -13,21 +22,39 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
+import io.github.lsmcodes.notes_api.dto.model.note.NoteContentOperationDTO;
+import io.github.lsmcodes.notes_api.exception.InvalidContentDeltaException;
+import io.github.lsmcodes.notes_api.exception.NoteNotFoundException;
+import io.github.lsmcodes.notes_api.exception.StaleNoteException;
 import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.tag.Tag;
 import io.github.lsmcodes.notes_api.model.user.User;
 import io.github.lsmcodes.notes_api.repository.note.NoteRepository;
+import io.github.lsmcodes.notes_api.repository.note.NoteSummary;
+import io.github.lsmcodes.notes_api.repository.note.NoteTagName;
+import io.github.lsmcodes.notes_api.service.search.NoteSearchService;
+import io.github.lsmcodes.notes_api.service.tag.TagService;
 import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+import jakarta.persistence.EntityManager;
 
 /**
  * Unit tests for the {@link NoteServiceImpl} class.
@@ -40,6 +67,15 @@ public class NoteServiceImplTest {
     @Mock
     private NoteRepository noteRepository;
 
+    @Mock
+    private NoteSearchService noteSearchService;
+
+    @Mock
+    private TagService tagService;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private NoteServiceImpl noteServiceImpl;
 
@@ -61,6 +97,93 @@ public class NoteServiceImplTest {
 
         // Assert
         assertThat(savedNote).isNotNull().isEqualTo(note);
+        Mockito.verify(this.noteSearchService).index(note);
+    }
+
+    /**
+     * Tests the {@link NoteServiceImpl#save(Note note, List tagNames)} method to
+     * ensure it resolves the tag names with the
+     * {@link TagService#resolve(User user, Collection names)} method and applies
+     * them to the current tags of the note before saving it.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("NoteServiceImpl save method should resolve the tags of the note")
+    public void save_ShouldResolveTagsOfTheNote() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Note note = NotesApiUtil.getNewNote();
+        note.setUser(user);
+
+        Set<Tag> currentTags = note.getTags();
+        Tag keptTag = currentTags.iterator().next();
+        Tag addedTag = Tag.builder().id(2L).user(user).name("work").build();
+
+        Mockito.when(this.tagService.resolve(user, Set.of("tag", "work")))
+                .thenReturn(new LinkedHashSet<>(List.of(keptTag, addedTag)));
+        Mockito.when(this.noteRepository.save(note)).thenReturn(note);
+
+        // Act
+        Note savedNote = this.noteServiceImpl.save(note, List.of("Tag", "Work"));
+
+        // Assert
+        assertThat(savedNote.getTags()).isSameAs(currentTags).containsExactlyInAnyOrder(keptTag, addedTag);
+    }
+
+    /**
+     * Tests the {@link NoteServiceImpl#save(Note note, List tagNames)} method to
+     * ensure it neither resolves nor changes the tags when the tag names match
+     * the current tags of the note.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("NoteServiceImpl save method should keep unchanged tags")
+    public void save_ShouldKeepUnchangedTags() {
+        // Arrange
+        Note note = NotesApiUtil.getNewNote();
+        Set<Tag> currentTags = Set.copyOf(note.getTags());
+        Mockito.when(this.noteRepository.save(note)).thenReturn(note);
+
+        // Act
+        Note savedNote = this.noteServiceImpl.save(note, List.of("TAG", "tag"));
+
+        // Assert
+        assertThat(savedNote.getTags()).isEqualTo(currentTags);
+        Mockito.verify(this.tagService, Mockito.never()).resolve(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    /**
+     * Tests the {@link NoteServiceImpl#saveAll(User user, List notes, List tagNames)}
+     * method to ensure it resolves the tags of all the notes at once and saves the
+     * notes of the user together.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("NoteServiceImpl saveAll method should resolve the tags once and save the notes together")
+    public void saveAll_ShouldResolveTheTagsOnceAndSaveTheNotesTogether() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Note firstNote = Note.builder().title("First Title").content("First content.").build();
+        Note secondNote = Note.builder().title("Second Title").content("Second content.").build();
+        List<Note> notes = List.of(firstNote, secondNote);
+
+        Tag workTag = Tag.builder().id(1L).user(user).name("work").build();
+        Tag homeTag = Tag.builder().id(2L).user(user).name("home").build();
+
+        Mockito.when(this.tagService.resolve(user, Set.of("work", "home")))
+                .thenReturn(new LinkedHashSet<>(List.of(homeTag, workTag)));
+        Mockito.when(this.noteRepository.saveAll(notes)).thenReturn(notes);
+
+        // Act
+        List<Note> savedNotes = this.noteServiceImpl.saveAll(user, notes,
+                Arrays.asList(List.of("Work", "HOME"), null));
+
+        // Assert
+        assertThat(savedNotes).containsExactly(firstNote, secondNote);
+        assertThat(firstNote.getUser()).isEqualTo(user);
+        assertThat(firstNote.getTags()).containsExactlyInAnyOrder(workTag, homeTag);
+        assertThat(secondNote.getTags()).isEmpty();
+        Mockito.verify(this.noteSearchService, Mockito.times(2)).index(ArgumentMatchers.any(Note.class));
     }
 
     /**
@@ -111,11 +234,58 @@ public class NoteServiceImplTest {
         assertThat(foundNote.get()).isEqualTo(note);
     }
 
+    /**
+     * Tests the {@link NoteServiceImpl#getByUserAndId(User user, UUID id)} method
+     * to ensure it returns the note retrieved by the
+     * {@link NoteRepository#findByUserAndId(User user, UUID id)} method.
+     * 
+     * @throws NoteNotFoundException if no note is found.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("NoteServiceImpl getByUserAndId method should return the note retrieved by the repository")
+    public void getByUserAndId_ShouldReturnTheNoteRetrievedByTheRepository() throws NoteNotFoundException {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Note note = NotesApiUtil.getNewNote();
+        UUID id = note.getId();
+
+        Mockito.when(this.noteRepository.findByUserAndId(user, id)).thenReturn(Optional.of(note));
+
+        // Act
+        Note foundNote = this.noteServiceImpl.getByUserAndId(user, id);
+
+        // Assert
+        assertThat(foundNote).isEqualTo(note);
+        Mockito.verify(this.noteRepository, Mockito.never()).existsByUserAndId(user, id);
+    }
+
+    /**
+     * Tests the {@link NoteServiceImpl#getByUserAndId(User user, UUID id)} method
+     * to ensure it throws a {@link NoteNotFoundException} when the note does not
+     * exist.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("NoteServiceImpl getByUserAndId method should throw NoteNotFoundException")
+    public void getByUserAndId_ShouldThrowNoteNotFoundException_WhenNoteDoesNotExist() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        UUID id = UUID.randomUUID();
+
+        Mockito.when(this.noteRepository.findByUserAndId(user, id)).thenReturn(Optional.empty());
+
+        // Act and Assert
+        assertThatThrownBy(() -> this.noteServiceImpl.getByUserAndId(user, id))
+                .isInstanceOf(NoteNotFoundException.class);
+    }
+
     /**
      * Tests the {@link NoteServiceImpl#findByUser(User user, Pageable pageable)}
      * method to ensure it interacts correctly with the
-     * {@link NoteRepository#findByUser(User user, Pageable pageable)} method
-     * providing the specified user and pageable.
+     * {@link NoteRepository#findIdsByUser(User user, Pageable pageable)} and
+     * {@link NoteRepository#findAllWithTagsByIdIn(Collection ids)} methods,
+     * keeping the order of the ids page.
      */
     @Test
     @Order(4)
@@ -129,15 +299,18 @@ public class NoteServiceImplTest {
         Note secondNote = NotesApiUtil.getNewNote();
         secondNote.setTitle("A sample title");
 
-        Page<Note> page = new PageImpl<>(Arrays.asList(firstNote, secondNote), pageable, 2);
-        Mockito.when(this.noteRepository.findByUser(user, pageable)).thenReturn(page);
+        List<UUID> ids = List.of(firstNote.getId(), secondNote.getId());
+        Mockito.when(this.noteRepository.findIdsByUser(user, pageable)).thenReturn(new PageImpl<>(ids, pageable, 2));
+        Mockito.when(this.noteRepository.findAllWithTagsByIdIn(ids)).thenReturn(List.of(secondNote, firstNote));
 
         // Act
         Page<Note> foundPage = this.noteServiceImpl.findByUser(user, pageable);
         List<Note> pageContent = foundPage.getContent();
 
         // Assert
-        assertThat(foundPage).hasSize(2).isEqualTo(page);
+        assertThat(foundPage).hasSize(2);
+        assertThat(foundPage.getTotalElements()).isEqualTo(2);
+        assertThat(foundPage.getPageable()).isEqualTo(pageable);
         assertThat(pageContent.get(0)).isEqualTo(firstNote);
         assertThat(pageContent.get(1)).isEqualTo(secondNote);
     }
@@ -146,8 +319,9 @@ public class NoteServiceImplTest {
      * Tests the
      * {@link NoteServiceImpl#findByUserAndTitleOrContentContainingIgnoreCase(User user, String term, Pageable pageable)}
      * method to ensure it interacts correctly with the
-     * {@link NoteRepository#findByUserAndTitleOrContentContainingIgnoreCase(User user, String term, Pageable pageable)}
-     * method providing the specified user, term and pageable.
+     * {@link NoteSearchService#searchIds(User user, String term, Pageable pageable)}
+     * and {@link NoteRepository#findAllWithTagsByIdIn(Collection ids)} methods
+     * providing the specified user, term and pageable.
      */
     @Test
     @Order(5)
@@ -161,10 +335,11 @@ public class NoteServiceImplTest {
         Note secondNote = NotesApiUtil.getNewNote();
         firstNote.setTitle("A sample title");
 
-        Page<Note> page = new PageImpl<>(Arrays.asList(firstNote, secondNote), pageable, 2);
+        List<UUID> ids = List.of(firstNote.getId(), secondNote.getId());
         String term = "Sample";
-        Mockito.when(this.noteRepository.findByUserAndTitleOrContentContainingIgnoreCase(user, term, pageable))
-                .thenReturn(page);
+        Mockito.when(this.noteSearchService.searchIds(user, term, pageable))
+                .thenReturn(new PageImpl<>(ids, pageable, 2));
+        Mockito.when(this.noteRepository.findAllWithTagsByIdIn(ids)).thenReturn(List.of(secondNote, firstNote));
 
         // Act
         Page<Note> foundPage = this.noteServiceImpl.findByUserAndTitleOrContentContainingIgnoreCase(user, term,
@@ -172,7 +347,8 @@ public class NoteServiceImplTest {
         List<Note> pageContent = foundPage.getContent();
 
         // Assert
-        assertThat(foundPage).hasSize(2).isEqualTo(page);
+        assertThat(foundPage).hasSize(2);
+        assertThat(foundPage.getTotalElements()).isEqualTo(2);
         assertThat(pageContent.get(0)).isEqualTo(firstNote);
         assertThat(pageContent.get(1)).isEqualTo(secondNote);
     }
@@ -181,8 +357,10 @@ public class NoteServiceImplTest {
      * Tests the
      * {@link NoteServiceImpl#findByUserAndTagsInIgnoreCase(User user, List tags, Pageable pageable)}
      * method to ensure it interacts correctly with the
-     * {@link NoteRepository#findByUserAndTagsInIgnoreCase(User user, List tags, Pageable pageable)}
-     * method providing the specified user, tags and pageable.
+     * {@link TagService#findIds(User user, Collection names)},
+     * {@link NoteRepository#findIdsByUserAndTagIdIn(User user, Collection tagIds, Pageable pageable)}
+     * and {@link NoteRepository#findAllWithTagsByIdIn(Collection ids)} methods
+     * providing the specified user, tag ids and pageable.
      */
     @Test
     @Order(6)
@@ -196,20 +374,400 @@ public class NoteServiceImplTest {
         Note secondNote = NotesApiUtil.getNewNote();
         secondNote.setTitle("A sample title");
 
-        Page<Note> page = new PageImpl<>(Arrays.asList(firstNote, secondNote), pageable, 2);
-        List<String> tags = List.of("tag");
-        Mockito.when(this.noteRepository.findByUserAndTagsInIgnoreCase(user, tags, pageable)).thenReturn(page);
+        List<UUID> ids = List.of(firstNote.getId(), secondNote.getId());
+        Mockito.when(this.tagService.findIds(user, List.of("Tag"))).thenReturn(List.of(1L));
+        Mockito.when(this.noteRepository.findIdsByUserAndTagIdIn(user, List.of(1L), pageable))
+                .thenReturn(new PageImpl<>(ids, pageable, 2));
+        Mockito.when(this.noteRepository.findAllWithTagsByIdIn(ids)).thenReturn(List.of(secondNote, firstNote));
 
         // Act
-        Page<Note> foundPage = this.noteServiceImpl.findByUserAndTagsInIgnoreCase(user, tags, pageable);
+        Page<Note> foundPage = this.noteServiceImpl.findByUserAndTagsInIgnoreCase(user, List.of("Tag"), pageable);
         List<Note> pageContent = foundPage.getContent();
 
         // Assert
-        assertThat(foundPage).hasSize(2).isEqualTo(page);
+        assertThat(foundPage).hasSize(2);
+        assertThat(foundPage.getTotalElements()).isEqualTo(2);
         assertThat(pageContent.get(0)).isEqualTo(firstNote);
         assertThat(pageContent.get(1)).isEqualTo(secondNote);
     }
 
+    /**
+     * Tests the
+     * {@link NoteServiceImpl#findByUserAndTagsInIgnoreCase(User user, List tags, Pageable pageable)}
+     * method to ensure it returns an empty page without querying the notes when
+     * the user has none of the specified tags.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteServiceImpl findByUserAndTagsInIgnoreCase method should return an empty page for unknown tags")
+    public void findByUserAndTagsInIgnoreCase_ShouldReturnEmptyPage_WhenTagsAreUnknown() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        User user = NotesApiUtil.getNewUser();
+
+        Mockito.when(this.tagService.findIds(user, List.of("missing"))).thenReturn(List.of());
+
+        // Act
+        Page<Note> foundPage = this.noteServiceImpl.findByUserAndTagsInIgnoreCase(user, List.of("missing"),
+                pageable);
+
+        // Assert
+        assertThat(foundPage).isEmpty();
+        Mockito.verifyNoInteractions(this.noteRepository);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteServiceImpl#findSliceByUserAndTagsInIgnoreCase(User user, List tags, Pageable pageable)}
+     * method to ensure it interacts correctly with the
+     * {@link NoteRepository#findIdSliceByUserAndTagIdIn(User user, Collection tagIds, Pageable pageable)}
+     * and {@link NoteRepository#findAllWithTagsByIdIn(Collection ids)} methods,
+     * keeping whether there is a next slice.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteServiceImpl findSliceByUserAndTagsInIgnoreCase method should interact correctly with the repository")
+    public void findSliceByUserAndTagsInIgnoreCase_ShouldInteractCorrectlyWithTheRepository() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("title").ascending());
+
+        User user = NotesApiUtil.getNewUser();
+        Note note = NotesApiUtil.getNewNote();
+
+        List<UUID> ids = List.of(note.getId());
+        Mockito.when(this.tagService.findIds(user, List.of("Tag"))).thenReturn(List.of(1L));
+        Mockito.when(this.noteRepository.findIdSliceByUserAndTagIdIn(user, List.of(1L), pageable))
+                .thenReturn(new SliceImpl<>(ids, pageable, true));
+        Mockito.when(this.noteRepository.findAllWithTagsByIdIn(ids)).thenReturn(List.of(note));
+
+        // Act
+        Slice<Note> foundSlice = this.noteServiceImpl.findSliceByUserAndTagsInIgnoreCase(user, List.of("Tag"),
+                pageable);
+
+        // Assert
+        assertThat(foundSlice.getContent()).containsExactly(note);
+        assertThat(foundSlice.hasNext()).isTrue();
+        assertThat(foundSlice.getPageable()).isEqualTo(pageable);
+    }
+
+    /**
+     * Tests the {@link NoteServiceImpl#findByUser(User user, Pageable pageable)}
+     * method to ensure it does not load notes when the ids page is empty.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteServiceImpl findByUser method should not load notes for an empty page")
+    public void findByUser_ShouldNotLoadNotes_WhenIdsPageIsEmpty() {
+        // Arrange
+        Pageable pageable = PageRequest.of(3, 10);
+        User user = NotesApiUtil.getNewUser();
+        Mockito.when(this.noteRepository.findIdsByUser(user, pageable))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 12));
+
+        // Act
+        Page<Note> foundPage = this.noteServiceImpl.findByUser(user, pageable);
+
+        // Assert
+        assertThat(foundPage).isEmpty();
+        assertThat(foundPage.getTotalElements()).isEqualTo(12);
+        Mockito.verify(this.noteRepository, Mockito.never()).findAllWithTagsByIdIn(Mockito.any());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteServiceImpl#findSummariesByUser(User user, Pageable pageable, Set fields)}
+     * method to ensure it reads the summaries with a snippet and their tag names
+     * instead of the notes, keeping the order of the ids page.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteServiceImpl findSummariesByUser method should read summaries with their tags")
+    public void findSummariesByUser_ShouldReadSummariesWithTheirTags() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+        User user = NotesApiUtil.getNewUser();
+        NoteSummary firstSummary = new NoteSummary(UUID.randomUUID(), "First Title", "First content",
+                LocalDateTime.now(), LocalDateTime.now());
+        NoteSummary secondSummary = new NoteSummary(UUID.randomUUID(), "Second Title", "Second content",
+                LocalDateTime.now(), LocalDateTime.now());
+
+        List<UUID> ids = List.of(firstSummary.getId(), secondSummary.getId());
+        Mockito.when(this.noteRepository.findIdsByUser(user, pageable)).thenReturn(new PageImpl<>(ids, pageable, 2));
+        Mockito.when(this.noteRepository.findSummariesWithSnippetByIdIn(ids, 321))
+                .thenReturn(List.of(secondSummary, firstSummary));
+        Mockito.when(this.noteRepository.findTagNamesByNoteIdIn(ids)).thenReturn(
+                List.of(this.getNoteTagName(firstSummary.getId(), "ideas"),
+                        this.getNoteTagName(firstSummary.getId(), "work")));
+
+        // Act
+        Page<NoteSummary> foundPage = this.noteServiceImpl.findSummariesByUser(user, pageable,
+                Set.of("id", "title", "snippet", "tags"));
+
+        // Assert
+        assertThat(foundPage.getTotalElements()).isEqualTo(2);
+        assertThat(foundPage.getContent()).containsExactly(firstSummary, secondSummary);
+        assertThat(firstSummary.getTags()).containsExactly("ideas", "work");
+        assertThat(secondSummary.getTags()).isEmpty();
+        Mockito.verify(this.noteRepository, Mockito.never()).findAllWithTagsByIdIn(Mockito.any());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteServiceImpl#findSummarySliceByUserAndTitleOrContentContainingIgnoreCase(User user, String term, Pageable pageable, Set fields)}
+     * method to ensure it reads neither the beginning of the content nor the tag
+     * names when neither the snippet nor the tags are selected.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteServiceImpl findSummarySliceByUserAndTitleOrContentContainingIgnoreCase method should not read the content or tags unless selected")
+    public void findSummarySliceByUserAndTitleOrContentContainingIgnoreCase_ShouldNotReadTheContentOrTags_UnlessSelected() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("title"));
+        User user = NotesApiUtil.getNewUser();
+        NoteSummary summary = new NoteSummary(UUID.randomUUID(), "Title", LocalDateTime.now(), LocalDateTime.now());
+
+        List<UUID> ids = List.of(summary.getId());
+        Mockito.when(this.noteSearchService.searchIdSlice(user, "term", pageable))
+                .thenReturn(new SliceImpl<>(ids, pageable, true));
+        Mockito.when(this.noteRepository.findSummariesByIdIn(ids)).thenReturn(List.of(summary));
+
+        // Act
+        Slice<NoteSummary> foundSlice = this.noteServiceImpl
+                .findSummarySliceByUserAndTitleOrContentContainingIgnoreCase(user, "term", pageable,
+                        Set.of("id", "title"));
+
+        // Assert
+        assertThat(foundSlice.getContent()).containsExactly(summary);
+        assertThat(foundSlice.hasNext()).isTrue();
+        assertThat(summary.getSnippet()).isNull();
+        assertThat(summary.getTags()).isNull();
+        Mockito.verify(this.noteRepository, Mockito.never()).findSummariesWithSnippetByIdIn(Mockito.any(),
+                Mockito.anyInt());
+        Mockito.verify(this.noteRepository, Mockito.never()).findTagNamesByNoteIdIn(Mockito.any());
+    }
+
+    /**
+     * Tests the
+     * {@link NoteServiceImpl#scrollByUser(User user, KeysetScrollPosition position, Sort sort, int limit)}
+     * method to ensure it retrieves the window with a keyset query and fetches
+     * the tags of the retrieved notes with
+     * {@link NoteRepository#findAllWithTagsByIdIn(Collection ids)}.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteServiceImpl scrollByUser method should interact correctly with the repository")
+    @SuppressWarnings("unchecked")
+    public void scrollByUser_ShouldInteractCorrectlyWithTheRepository() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Note firstNote = NotesApiUtil.getNewNote();
+        Note secondNote = NotesApiUtil.getNewNote();
+        Window<Note> window = Window.from(List.of(firstNote, secondNote), index -> ScrollPosition.keyset(), true);
+
+        Mockito.when(this.noteRepository.findBy(Mockito.any(Specification.class), Mockito.any(Function.class)))
+                .thenReturn(window);
+
+        // Act
+        Window<Note> foundWindow = this.noteServiceImpl.scrollByUser(user, ScrollPosition.keyset(),
+                Sort.by("title", "id"), 2);
+
+        // Assert
+        assertThat(foundWindow).isEqualTo(window);
+        Mockito.verify(this.noteRepository).findAllWithTagsByIdIn(List.of(firstNote.getId(), secondNote.getId()));
+    }
+
+    /**
+     * Tests the
+     * {@link NoteServiceImpl#scrollByUserAndTitleOrContentContainingIgnoreCase(User user, String term, KeysetScrollPosition position, Sort sort, int limit)}
+     * method to ensure it scrolls through the ids found by the search engine and
+     * keeps their positions.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteServiceImpl scrollByUserAndTitleOrContentContainingIgnoreCase method should scroll through the search engine")
+    public void scrollByUserAndTitleOrContentContainingIgnoreCase_ShouldScrollThroughTheSearchEngine() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Note firstNote = NotesApiUtil.getNewNote();
+        Note secondNote = NotesApiUtil.getNewNote();
+        Sort sort = Sort.by("title", "id");
+        List<ScrollPosition> positions = List.of(ScrollPosition.forward(Map.of("id", firstNote.getId())),
+                ScrollPosition.forward(Map.of("id", secondNote.getId())));
+        Window<UUID> idsWindow = Window.from(List.of(firstNote.getId(), secondNote.getId()), positions::get, true);
+
+        Mockito.when(this.noteSearchService.scrollIds(user, "term", ScrollPosition.keyset(), sort, 2))
+                .thenReturn(idsWindow);
+        Mockito.when(this.noteRepository.findAllWithTagsByIdIn(idsWindow.getContent()))
+                .thenReturn(List.of(secondNote, firstNote));
+
+        // Act
+        Window<Note> foundWindow = this.noteServiceImpl.scrollByUserAndTitleOrContentContainingIgnoreCase(user,
+                "term", ScrollPosition.keyset(), sort, 2);
+
+        // Assert
+        assertThat(foundWindow.getContent()).containsExactly(firstNote, secondNote);
+        assertThat(foundWindow.positionAt(1)).isEqualTo(positions.get(1));
+        assertThat(foundWindow.hasNext()).isTrue();
+        Mockito.verify(this.noteRepository).findAllWithTagsByIdIn(idsWindow.getContent());
+        Mockito.verifyNoMoreInteractions(this.noteRepository);
+    }
+
+    /**
+     * Tests the {@link NoteServiceImpl#forEachByUser(User user, Consumer action)}
+     * service method to ensure it performs the action for each note streamed by
+     * {@link NoteRepository#streamByUser(User user)} and detaches the note
+     * afterwards.
+     */
+    @Test
+    @Order(6)
+    @DisplayName("NoteServiceImpl forEachByUser method should perform the action and detach each note")
+    public void forEachByUser_ShouldPerformTheActionAndDetachEachNote() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Note firstNote = NotesApiUtil.getNewNote();
+        Note secondNote = NotesApiUtil.getNewNote();
+        List<Note> visitedNotes = new ArrayList<>();
+
+        Mockito.when(this.noteRepository.streamByUser(user)).thenReturn(Stream.of(firstNote, secondNote));
+
+        // Act
+        this.noteServiceImpl.forEachByUser(user, visitedNotes::add);
+
+        // Assert
+        assertThat(visitedNotes).containsExactly(firstNote, secondNote);
+        Mockito.verify(this.entityManager).detach(firstNote);
+        Mockito.verify(this.entityManager).detach(secondNote);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteServiceImpl#updateByUserAndId(User user, UUID id, String title, String content)}
+     * service method to ensure it updates the note with the
+     * {@link NoteRepository#updateTitleAndContentByUserAndId(User user, UUID id, String title, String content, LocalDateTime updatedAt)}
+     * method, with an update date from the application clock, and indexes it
+     * again.
+     * 
+     * @throws NoteNotFoundException If no note is found.
+     */
+    @Test
+    @Order(7)
+    @DisplayName("NoteServiceImpl updateByUserAndId method should update and index the note")
+    public void updateByUserAndId_ShouldUpdateAndIndexTheNote() throws NoteNotFoundException {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        UUID id = UUID.randomUUID();
+
+        ArgumentCaptor<LocalDateTime> updatedAtCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+
+        Mockito.when(this.noteRepository.updateTitleAndContentByUserAndId(ArgumentMatchers.eq(user),
+                ArgumentMatchers.eq(id), ArgumentMatchers.eq("Updated Title"), ArgumentMatchers.isNull(),
+                updatedAtCaptor.capture())).thenReturn(1);
+
+        // Act
+        LocalDateTime updatedAt = this.noteServiceImpl.updateByUserAndId(user, id, "Updated Title", null);
+
+        // Assert
+        assertThat(updatedAt).isEqualTo(updatedAtCaptor.getValue()).isAfter(before);
+        Mockito.verify(this.noteSearchService).indexById(id);
+        Mockito.verify(this.noteRepository, Mockito.never()).findByUserAndId(user, id);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteServiceImpl#updateByUserAndId(User user, UUID id, String title, String content)}
+     * service method to ensure it throws a {@link NoteNotFoundException} when no
+     * note was updated, or when no value is supplied and the note does not exist.
+     */
+    @Test
+    @Order(7)
+    @DisplayName("NoteServiceImpl updateByUserAndId method should throw NoteNotFoundException")
+    public void updateByUserAndId_ShouldThrowNoteNotFoundException_WhenNoNoteWasUpdated() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        UUID id = UUID.randomUUID();
+
+        Mockito.when(this.noteRepository.updateTitleAndContentByUserAndId(ArgumentMatchers.eq(user),
+                ArgumentMatchers.eq(id), ArgumentMatchers.isNull(), ArgumentMatchers.eq("Updated content."),
+                ArgumentMatchers.any())).thenReturn(0);
+        Mockito.when(this.noteRepository.findUpdatedAtByUserAndId(user, id)).thenReturn(Optional.empty());
+
+        // Act and Assert
+        assertThatThrownBy(() -> this.noteServiceImpl.updateByUserAndId(user, id, null, "Updated content."))
+                .isInstanceOf(NoteNotFoundException.class);
+        assertThatThrownBy(() -> this.noteServiceImpl.updateByUserAndId(user, id, null, null))
+                .isInstanceOf(NoteNotFoundException.class);
+        Mockito.verifyNoInteractions(this.noteSearchService);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteServiceImpl#updateContentByUserAndId(User user, UUID id, LocalDateTime baseUpdatedAt, List operations)}
+     * service method to ensure it applies the operations to the content of the
+     * locked note and indexes it again.
+     * 
+     * @throws Exception If the operations cannot be applied.
+     */
+    @Test
+    @Order(7)
+    @DisplayName("NoteServiceImpl updateContentByUserAndId method should apply the operations")
+    public void updateContentByUserAndId_ShouldApplyTheOperations() throws Exception {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Note note = NotesApiUtil.getNewNote();
+        LocalDateTime baseUpdatedAt = LocalDateTime.now();
+        note.setUpdatedAt(baseUpdatedAt);
+
+        List<NoteContentOperationDTO> operations = List.of(new NoteContentOperationDTO(7, null, null),
+                new NoteContentOperationDTO(null, "text", null), new NoteContentOperationDTO(null, null, 7),
+                new NoteContentOperationDTO(null, "!", null), new NoteContentOperationDTO(null, null, 1));
+
+        Mockito.when(this.noteRepository.findForUpdateByUserAndId(user, note.getId())).thenReturn(Optional.of(note));
+        Mockito.when(this.noteRepository.saveAndFlush(note)).thenReturn(note);
+
+        // Act
+        Note updatedNote = this.noteServiceImpl.updateContentByUserAndId(user, note.getId(), baseUpdatedAt,
+                operations);
+
+        // Assert
+        assertThat(updatedNote.getContent()).isEqualTo("Sample text!");
+        Mockito.verify(this.noteSearchService).index(note);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteServiceImpl#updateContentByUserAndId(User user, UUID id, LocalDateTime baseUpdatedAt, List operations)}
+     * service method to ensure it throws a {@link StaleNoteException} when the
+     * note was updated after the base, and an
+     * {@link InvalidContentDeltaException} when the operations go past the end
+     * of the content.
+     */
+    @Test
+    @Order(7)
+    @DisplayName("NoteServiceImpl updateContentByUserAndId method should reject stale bases and invalid operations")
+    public void updateContentByUserAndId_ShouldRejectStaleBasesAndInvalidOperations() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Note note = NotesApiUtil.getNewNote();
+        LocalDateTime baseUpdatedAt = LocalDateTime.now();
+        note.setUpdatedAt(baseUpdatedAt);
+
+        Mockito.when(this.noteRepository.findForUpdateByUserAndId(user, note.getId())).thenReturn(Optional.of(note));
+
+        // Act and Assert
+        assertThatThrownBy(() -> this.noteServiceImpl.updateContentByUserAndId(user, note.getId(),
+                baseUpdatedAt.minusSeconds(1), List.of(new NoteContentOperationDTO(null, "text", null))))
+                .isInstanceOf(StaleNoteException.class);
+        assertThatThrownBy(() -> this.noteServiceImpl.updateContentByUserAndId(user, note.getId(), baseUpdatedAt,
+                List.of(new NoteContentOperationDTO(100, null, null))))
+                .isInstanceOf(InvalidContentDeltaException.class);
+        assertThatThrownBy(() -> this.noteServiceImpl.updateContentByUserAndId(user, note.getId(), baseUpdatedAt,
+                List.of(new NoteContentOperationDTO(1, "text", null))))
+                .isInstanceOf(InvalidContentDeltaException.class);
+        assertThat(note.getContent()).isEqualTo("Sample content.");
+        Mockito.verify(this.noteRepository, Mockito.never()).saveAndFlush(note);
+    }
+
     /**
      * Tests the {@link NoteServiceImpl#deleteByUserAndId(User user, UUID id)}
      * service method to ensure it interacts correctly with the
@@ -219,16 +777,67 @@ public class NoteServiceImplTest {
     @Test
     @Order(7)
     @DisplayName("NoteServiceImpl deleteByUserAndId method should interact correctly with the repository")
-    public void deleteByUserAndId_ShouldInteractCorrectlyWithTheRepository() {
+    public void deleteByUserAndId_ShouldInteractCorrectlyWithTheRepository() throws NoteNotFoundException {
         // Arrange
         User user = NotesApiUtil.getNewUser();
         UUID id = UUID.randomUUID();
 
+        Mockito.when(this.noteRepository.deleteByUserAndId(user, id)).thenReturn(1);
+
         // Act
         this.noteServiceImpl.deleteByUserAndId(user, id);
 
         // Assert
         Mockito.verify(this.noteRepository).deleteByUserAndId(user, id);
+        Mockito.verify(this.noteSearchService).deleteById(id);
+    }
+
+    /**
+     * Tests the {@link NoteServiceImpl#deleteByUserAndId(User user, UUID id)}
+     * service method to ensure it throws a {@link NoteNotFoundException} when no
+     * note was deleted.
+     */
+    @Test
+    @Order(7)
+    @DisplayName("NoteServiceImpl deleteByUserAndId method should throw NoteNotFoundException")
+    public void deleteByUserAndId_ShouldThrowNoteNotFoundException_WhenNoNoteWasDeleted() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        UUID id = UUID.randomUUID();
+
+        Mockito.when(this.noteRepository.deleteByUserAndId(user, id)).thenReturn(0);
+
+        // Act and Assert
+        assertThatThrownBy(() -> this.noteServiceImpl.deleteByUserAndId(user, id))
+                .isInstanceOf(NoteNotFoundException.class);
+    }
+
+    /**
+     * Tests the
+     * {@link NoteServiceImpl#deleteByUserAndIdIn(User user, Collection ids)}
+     * service method to ensure it deletes only the notes found for the user and
+     * returns the other ids.
+     */
+    @Test
+    @Order(7)
+    @DisplayName("NoteServiceImpl deleteByUserAndIdIn method should delete the found notes and return the others")
+    public void deleteByUserAndIdIn_ShouldDeleteTheFoundNotesAndReturnTheOthers() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        UUID foundId = UUID.randomUUID();
+        UUID notFoundId = UUID.randomUUID();
+
+        Mockito.when(this.noteRepository.findIdsByUserAndIdIn(user, Set.of(foundId, notFoundId)))
+                .thenReturn(List.of(foundId));
+
+        // Act
+        List<UUID> notFoundIds = this.noteServiceImpl.deleteByUserAndIdIn(user,
+                List.of(foundId, notFoundId, foundId));
+
+        // Assert
+        assertThat(notFoundIds).containsExactly(notFoundId);
+        Mockito.verify(this.noteRepository).deleteByUserAndIdIn(user, List.of(foundId));
+        Mockito.verify(this.noteSearchService).deleteAllById(List.of(foundId));
     }
 
     /**
@@ -249,6 +858,30 @@ public class NoteServiceImplTest {
 
         // Assert
         Mockito.verify(this.noteRepository).deleteByUser(user);
+        Mockito.verify(this.noteSearchService).deleteByUser(user);
+    }
+
+    /**
+     * Builds a {@link NoteTagName} projection.
+     * 
+     * @param noteId The note id.
+     * @param name   The tag name.
+     * @return The {@link NoteTagName} projection.
+     */
+    private NoteTagName getNoteTagName(UUID noteId, String name) {
+        return new NoteTagName() {
+
+            @Override
+            public UUID getNoteId() {
+                return noteId;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+        };
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,432 @@
+package io.github.lsmcodes.notes_api.service.search.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.SearcherManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.github.lsmcodes.notes_api.model.note.Note;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.note.NoteRepository;
+import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+
+/**
+ * Unit tests for the {@link LuceneNoteSearchServiceImpl} class.
+ */
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+public class LuceneNoteSearchServiceImplTest {
+
+    @Mock
+    private NoteRepository noteRepository;
+
+    @InjectMocks
+    private LuceneNoteSearchServiceImpl luceneNoteSearchServiceImpl;
+
+    @TempDir
+    private Path directory;
+
+    private User user;
+
+    /**
+     * Opens the index in a temporary directory before each test. As the index
+     * is new, it is rebuilt from an empty database.
+     * 
+     * @throws IOException If the index cannot be opened.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        Mockito.lenient().when(this.noteRepository.findAll(ArgumentMatchers.any(Pageable.class)))
+                .thenAnswer(invocation -> Page.empty(invocation.getArgument(0)));
+        ReflectionTestUtils.setField(this.luceneNoteSearchServiceImpl, "directory", this.directory);
+        this.luceneNoteSearchServiceImpl.open();
+        this.user = NotesApiUtil.getNewUser();
+    }
+
+    /**
+     * Closes the index after each test.
+     * 
+     * @throws IOException If the index cannot be closed.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        this.luceneNoteSearchServiceImpl.close();
+    }
+
+    /**
+     * Tests the
+     * {@link LuceneNoteSearchServiceImpl#searchIds(User user, String term, Pageable pageable)}
+     * method to ensure it matches words, prefixes and phrases only among the notes
+     * of the provided user.
+     * 
+     * @throws IOException If the index cannot be refreshed.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("LuceneNoteSearchServiceImpl searchIds method should match words, prefixes and phrases of the user")
+    public void searchIds_ShouldMatchWordsPrefixesAndPhrasesOfTheUser() throws IOException {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        User otherUser = NotesApiUtil.getNewUser();
+
+        Note note = this.getNewNote(this.user, "Groceries", "Buy fresh apples and bread.");
+        Note otherNote = this.getNewNote(otherUser, "Groceries", "Buy fresh apples and milk.");
+
+        this.luceneNoteSearchServiceImpl.index(note);
+        this.luceneNoteSearchServiceImpl.index(otherNote);
+        this.luceneNoteSearchServiceImpl.refresh();
+
+        // Act
+        Page<UUID> wordPage = this.luceneNoteSearchServiceImpl.searchIds(this.user, "APPLES", pageable);
+        Page<UUID> prefixPage = this.luceneNoteSearchServiceImpl.searchIds(this.user, "groc*", pageable);
+        Page<UUID> phrasePage = this.luceneNoteSearchServiceImpl.searchIds(this.user, "\"fresh apples\"",
+                pageable);
+        Page<UUID> missingPhrasePage = this.luceneNoteSearchServiceImpl.searchIds(this.user, "\"apples fresh\"",
+                pageable);
+
+        // Assert
+        assertThat(wordPage.getContent()).containsExactly(note.getId());
+        assertThat(wordPage.getTotalElements()).isEqualTo(1);
+        assertThat(prefixPage.getContent()).containsExactly(note.getId());
+        assertThat(phrasePage.getContent()).containsExactly(note.getId());
+        assertThat(missingPhrasePage.getContent()).isEmpty();
+    }
+
+    /**
+     * Tests the
+     * {@link LuceneNoteSearchServiceImpl#searchIds(User user, String term, Pageable pageable)}
+     * method to ensure it ranks title matches first when unsorted and sorts and
+     * pages the notes as requested otherwise.
+     * 
+     * @throws IOException If the index cannot be refreshed.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("LuceneNoteSearchServiceImpl searchIds method should rank, sort and page the notes")
+    public void searchIds_ShouldRankSortAndPageTheNotes() throws IOException {
+        // Arrange
+        Note contentNote = this.getNewNote(this.user, "Another title", "A sample content.");
+        Note titleNote = this.getNewNote(this.user, "Sample title", "Some content.");
+
+        this.luceneNoteSearchServiceImpl.index(contentNote);
+        this.luceneNoteSearchServiceImpl.index(titleNote);
+        this.luceneNoteSearchServiceImpl.refresh();
+
+        // Act
+        Page<UUID> rankedPage = this.luceneNoteSearchServiceImpl.searchIds(this.user, "sample",
+                PageRequest.of(0, 10));
+        Page<UUID> sortedPage = this.luceneNoteSearchServiceImpl.searchIds(this.user, "sample",
+                PageRequest.of(1, 1, Sort.by("title").descending()));
+
+        // Assert
+        assertThat(rankedPage.getContent()).containsExactly(titleNote.getId(), contentNote.getId());
+        assertThat(sortedPage.getContent()).containsExactly(contentNote.getId());
+        assertThat(sortedPage.getTotalElements()).isEqualTo(2);
+    }
+
+    /**
+     * Tests the
+     * {@link LuceneNoteSearchServiceImpl#searchIdSlice(User user, String term, Pageable pageable)}
+     * and
+     * {@link LuceneNoteSearchServiceImpl#scrollIds(User user, String term, KeysetScrollPosition position, Sort sort, int limit)}
+     * methods to ensure they page the notes without counting them and continue
+     * after the position of the last retrieved note.
+     * 
+     * @throws IOException If the index cannot be refreshed.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("LuceneNoteSearchServiceImpl searchIdSlice and scrollIds methods should page the notes without counting them")
+    public void searchIdSliceAndScrollIds_ShouldPageTheNotesWithoutCountingThem() throws IOException {
+        // Arrange
+        Note firstNote = this.getNewNote(this.user, "A sample", "First content.");
+        Note secondNote = this.getNewNote(this.user, "B sample", "Second content.");
+        Note thirdNote = this.getNewNote(this.user, "C sample", "Third content.");
+        Sort sort = Sort.by("title", "id");
+
+        List.of(thirdNote, firstNote, secondNote).forEach(this.luceneNoteSearchServiceImpl::index);
+        this.luceneNoteSearchServiceImpl.refresh();
+
+        // Act
+        Slice<UUID> firstSlice = this.luceneNoteSearchServiceImpl.searchIdSlice(this.user, "sample",
+                PageRequest.of(0, 2, sort));
+        Slice<UUID> lastSlice = this.luceneNoteSearchServiceImpl.searchIdSlice(this.user, "sample",
+                PageRequest.of(1, 2, sort));
+        Window<UUID> firstWindow = this.luceneNoteSearchServiceImpl.scrollIds(this.user, "sample",
+                ScrollPosition.keyset(), sort, 2);
+        Window<UUID> lastWindow = this.luceneNoteSearchServiceImpl.scrollIds(this.user, "sample",
+                (KeysetScrollPosition) firstWindow.positionAt(1), sort, 2);
+
+        // Assert
+        assertThat(firstSlice.getContent()).containsExactly(firstNote.getId(), secondNote.getId());
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(lastSlice.getContent()).containsExactly(thirdNote.getId());
+        assertThat(lastSlice.hasNext()).isFalse();
+        assertThat(firstWindow.getContent()).containsExactly(firstNote.getId(), secondNote.getId());
+        assertThat(firstWindow.hasNext()).isTrue();
+        assertThat(((KeysetScrollPosition) firstWindow.positionAt(1)).getKeys()).containsEntry("id",
+                secondNote.getId());
+        assertThat(lastWindow.getContent()).containsExactly(thirdNote.getId());
+        assertThat(lastWindow.hasNext()).isFalse();
+    }
+
+    /**
+     * Tests the
+     * {@link LuceneNoteSearchServiceImpl#searchIds(User user, String term, Pageable pageable)}
+     * method to ensure it sorts titles case-sensitively, as the database does.
+     * 
+     * @throws IOException If the index cannot be refreshed.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("LuceneNoteSearchServiceImpl searchIds method should sort titles case-sensitively")
+    public void searchIds_ShouldSortTitlesCaseSensitively() throws IOException {
+        // Arrange
+        Note lowerCaseNote = this.getNewNote(this.user, "apple sample", "Some content.");
+        Note upperCaseNote = this.getNewNote(this.user, "Banana sample", "Some content.");
+
+        this.luceneNoteSearchServiceImpl.index(lowerCaseNote);
+        this.luceneNoteSearchServiceImpl.index(upperCaseNote);
+        this.luceneNoteSearchServiceImpl.refresh();
+
+        // Act
+        Page<UUID> foundPage = this.luceneNoteSearchServiceImpl.searchIds(this.user, "sample",
+                PageRequest.of(0, 10, Sort.by("title")));
+
+        // Assert
+        assertThat(foundPage.getContent()).containsExactly(upperCaseNote.getId(), lowerCaseNote.getId());
+    }
+
+    /**
+     * Tests the {@link LuceneNoteSearchServiceImpl#index(Note note)} method to
+     * ensure a note saved within a transaction is only indexed once the
+     * transaction commits.
+     * 
+     * @throws IOException If the index cannot be refreshed.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("LuceneNoteSearchServiceImpl index method should index the note after the transaction commits")
+    public void index_ShouldIndexTheNoteAfterTheTransactionCommits() throws IOException {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Note note = this.getNewNote(this.user, "Groceries", "Buy fresh apples.");
+        Page<UUID> uncommittedPage;
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            this.luceneNoteSearchServiceImpl.index(note);
+            this.luceneNoteSearchServiceImpl.refresh();
+            uncommittedPage = this.luceneNoteSearchServiceImpl.searchIds(this.user, "apples", pageable);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        this.luceneNoteSearchServiceImpl.refresh();
+        Page<UUID> committedPage = this.luceneNoteSearchServiceImpl.searchIds(this.user, "apples", pageable);
+
+        // Assert
+        assertThat(uncommittedPage.getContent()).isEmpty();
+        assertThat(committedPage.getContent()).containsExactly(note.getId());
+    }
+
+    /**
+     * Tests the {@link LuceneNoteSearchServiceImpl#deleteById(UUID id)} and
+     * {@link LuceneNoteSearchServiceImpl#deleteByUser(User user)} methods to
+     * ensure deleted notes are no longer found.
+     * 
+     * @throws IOException If the index cannot be refreshed.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("LuceneNoteSearchServiceImpl delete methods should remove notes from the index")
+    public void deleteMethods_ShouldRemoveNotesFromTheIndex() throws IOException {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Note firstNote = this.getNewNote(this.user, "Sample title", "Sample content.");
+        Note secondNote = this.getNewNote(this.user, "Sample title", "Sample content.");
+
+        this.luceneNoteSearchServiceImpl.index(firstNote);
+        this.luceneNoteSearchServiceImpl.index(secondNote);
+
+        // Act and Assert
+        this.luceneNoteSearchServiceImpl.deleteById(firstNote.getId());
+        this.luceneNoteSearchServiceImpl.refresh();
+        assertThat(this.luceneNoteSearchServiceImpl.searchIds(this.user, "sample", pageable).getContent())
+                .containsExactly(secondNote.getId());
+
+        this.luceneNoteSearchServiceImpl.deleteByUser(this.user);
+        this.luceneNoteSearchServiceImpl.refresh();
+        assertThat(this.luceneNoteSearchServiceImpl.searchIds(this.user, "sample", pageable)).isEmpty();
+    }
+
+    /**
+     * Tests the {@link LuceneNoteSearchServiceImpl#rebuild()} method to ensure it
+     * replaces the index content with the notes read from the
+     * {@link NoteRepository#findAll(Pageable pageable)} method.
+     * 
+     * @throws IOException If the index cannot be rebuilt.
+     */
+    @Test
+    @Order(4)
+    @DisplayName("LuceneNoteSearchServiceImpl rebuild method should index the notes from the database")
+    public void rebuild_ShouldIndexTheNotesFromTheDatabase() throws IOException {
+        // Arrange
+        Note staleNote = this.getNewNote(this.user, "Sample title", "Sample content.");
+        Note storedNote = this.getNewNote(this.user, "Sample title", "Sample content.");
+
+        this.luceneNoteSearchServiceImpl.index(staleNote);
+
+        Mockito.when(this.noteRepository.findAll(ArgumentMatchers.any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(storedNote), invocation.getArgument(0), 1));
+
+        // Act
+        long indexedNotes = this.luceneNoteSearchServiceImpl.rebuild();
+
+        // Assert
+        assertThat(indexedNotes).isEqualTo(1);
+        assertThat(this.luceneNoteSearchServiceImpl.searchIds(this.user, "sample", PageRequest.of(0, 10))
+                .getContent()).containsExactly(storedNote.getId());
+    }
+
+    /**
+     * Tests the {@link LuceneNoteSearchServiceImpl#open()} method to ensure it
+     * keeps an index that was closed cleanly and rebuilds one that was not from
+     * the database.
+     * 
+     * @throws IOException If the index cannot be opened, closed or rebuilt.
+     */
+    @Test
+    @Order(5)
+    @DisplayName("LuceneNoteSearchServiceImpl open method should rebuild the index unless it was closed cleanly")
+    public void open_ShouldRebuildTheIndex_UnlessItWasClosedCleanly() throws IOException {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Note indexedNote = this.getNewNote(this.user, "Sample title", "Sample content.");
+        Note storedNote = this.getNewNote(this.user, "Sample title", "Sample content.");
+
+        this.luceneNoteSearchServiceImpl.index(indexedNote);
+
+        // Act and Assert
+        this.luceneNoteSearchServiceImpl.close();
+        Mockito.clearInvocations(this.noteRepository);
+        this.luceneNoteSearchServiceImpl.open();
+
+        Mockito.verify(this.noteRepository, Mockito.never()).findAll(ArgumentMatchers.any(Pageable.class));
+        assertThat(this.luceneNoteSearchServiceImpl.searchIds(this.user, "sample", pageable).getContent())
+                .containsExactly(indexedNote.getId());
+
+        this.crash();
+        Mockito.when(this.noteRepository.findAll(ArgumentMatchers.any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(storedNote), invocation.getArgument(0), 1));
+        this.luceneNoteSearchServiceImpl.open();
+
+        assertThat(this.luceneNoteSearchServiceImpl.searchIds(this.user, "sample", pageable).getContent())
+                .containsExactly(storedNote.getId());
+    }
+
+    /**
+     * Tests the {@link LuceneNoteSearchServiceImpl#index(Note note)} method to
+     * ensure a change that fails to be applied after the transaction commits is
+     * not thrown to the caller, and the index is rebuilt when it is next opened.
+     * 
+     * @throws IOException If the index cannot be opened, closed or rebuilt.
+     */
+    @Test
+    @Order(5)
+    @DisplayName("LuceneNoteSearchServiceImpl index method should not throw after the commit when the change fails")
+    public void index_ShouldNotThrowAfterTheCommit_WhenTheChangeFails() throws IOException {
+        // Arrange
+        Note note = this.getNewNote(null, "Sample title", "Sample content.");
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            this.luceneNoteSearchServiceImpl.index(note);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        this.luceneNoteSearchServiceImpl.close();
+        Mockito.clearInvocations(this.noteRepository);
+        this.luceneNoteSearchServiceImpl.open();
+
+        // Assert
+        Mockito.verify(this.noteRepository).findAll(ArgumentMatchers.any(Pageable.class));
+    }
+
+    /**
+     * Stops the index the way an unclean shutdown does, discarding the changes
+     * made since the last commit without marking the index as closed cleanly.
+     * 
+     * @throws IOException If the index cannot be stopped.
+     */
+    private void crash() throws IOException {
+        ((ControlledRealTimeReopenThread<?>) ReflectionTestUtils.getField(this.luceneNoteSearchServiceImpl,
+                "reopenThread")).close();
+        ((SearcherManager) ReflectionTestUtils.getField(this.luceneNoteSearchServiceImpl, "searcherManager"))
+                .close();
+        ((IndexWriter) ReflectionTestUtils.getField(this.luceneNoteSearchServiceImpl, "indexWriter")).rollback();
+    }
+
+    /**
+     * Creates a saved note of the provided user with the provided title and
+     * content.
+     * 
+     * @param user    The note owner.
+     * @param title   The note title.
+     * @param content The note content.
+     * @return The created note.
+     */
+    private Note getNewNote(User user, String title, String content) {
+        Note note = NotesApiUtil.getNewNote();
+        note.setUser(user);
+        note.setTitle(title);
+        note.setContent(content);
+        note.setCreatedAt(LocalDateTime.now());
+        note.setUpdatedAt(LocalDateTime.now());
+        return note;
+    }
+
+}
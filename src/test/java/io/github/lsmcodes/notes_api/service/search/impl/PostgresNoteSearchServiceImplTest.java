@@ -0,0 +1,92 @@
+package io.github.lsmcodes.notes_api.service.search.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.note.NoteRepository;
+import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+
+/**
+ * Unit tests for the {@link PostgresNoteSearchServiceImpl} class.
+ */
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+public class PostgresNoteSearchServiceImplTest {
+
+    @Mock
+    private NoteRepository noteRepository;
+
+    @InjectMocks
+    private PostgresNoteSearchServiceImpl postgresNoteSearchServiceImpl;
+
+    /**
+     * Tests the
+     * {@link PostgresNoteSearchServiceImpl#searchIds(User user, String term, Pageable pageable)}
+     * method to ensure an unsorted pageable searches the notes by relevance.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("PostgresNoteSearchServiceImpl searchIds method should order by relevance when unsorted")
+    public void searchIds_ShouldOrderByRelevance_WhenPageableIsUnsorted() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        User user = NotesApiUtil.getNewUser();
+        Page<UUID> page = new PageImpl<>(List.of(UUID.randomUUID()), pageable, 1);
+
+        Mockito.when(this.noteRepository.searchIdsByUserIdOrderByRank(user.getId(), "sample", pageable))
+                .thenReturn(page);
+
+        // Act
+        Page<UUID> foundPage = this.postgresNoteSearchServiceImpl.searchIds(user, "sample", pageable);
+
+        // Assert
+        assertThat(foundPage).isEqualTo(page);
+    }
+
+    /**
+     * Tests the
+     * {@link PostgresNoteSearchServiceImpl#searchIds(User user, String term, Pageable pageable)}
+     * method to ensure a sorted pageable is sorted by the property columns.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("PostgresNoteSearchServiceImpl searchIds method should sort by the property columns")
+    public void searchIds_ShouldSortByPropertyColumns_WhenPageableIsSorted() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Pageable columnsPageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "created_at"));
+        Page<UUID> page = new PageImpl<>(List.of(UUID.randomUUID()), columnsPageable, 11);
+
+        Mockito.when(this.noteRepository.searchIdsByUserId(user.getId(), "sample", columnsPageable))
+                .thenReturn(page);
+
+        // Act
+        Page<UUID> foundPage = this.postgresNoteSearchServiceImpl.searchIds(user, "sample",
+                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        // Assert
+        assertThat(foundPage).isEqualTo(page);
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.github.lsmcodes.notes_api.service.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.CredentialsExpiredException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,6 +19,7 @@ import org.springframework.test.context.ActiveProfiles;
 import io.github.lsmcodes.notes_api.model.user.User;
 import io.github.lsmcodes.notes_api.service.user.UserService;
 import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+import io.jsonwebtoken.Claims;
 
 /**
  * Integration tests for the methods provided by the {@link SecurityService}
@@ -33,6 +36,9 @@ public class SecurityServiceTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private TokenService tokenService;
+
     /**
      * Tests the {@link SecurityService#loadUserByUsername(String username)} to
      * ensure it returns the correct user based in the provided username.
@@ -72,4 +78,53 @@ public class SecurityServiceTest {
         assertThat(username).isEqualTo(user.getUsername());
     }
 
+    /**
+     * Tests the {@link SecurityService#loadUserByClaims(Claims claims)} to ensure
+     * it builds the user details from the claims of a valid token.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("SecurityService loadUserByClaims method should build the user details from the claims")
+    public void loadUserByClaims_ShouldBuildTheUserDetailsFromTheClaims() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        user.setId(null);
+        user.setUsername("claims_user");
+        user = this.userService.save(user);
+
+        Claims claims = this.tokenService.getClaimsFromToken(this.tokenService.generateToken(user));
+
+        // Act
+        UserDetails userDetails = this.securityService.loadUserByClaims(claims);
+
+        // Assert
+        assertThat(userDetails).isEqualTo(user);
+        assertThat(userDetails.getAuthorities()).isEqualTo(user.getAuthorities());
+    }
+
+    /**
+     * Tests the {@link SecurityService#loadUserByClaims(Claims claims)} to ensure
+     * it rejects tokens issued before the user credentials were updated.
+     */
+    @Test
+    @Order(4)
+    @DisplayName("SecurityService loadUserByClaims method should throw CredentialsExpiredException when credentials are outdated")
+    public void loadUserByClaims_ShouldThrowCredentialsExpiredException_WhenCredentialsAreOutdated() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        user.setId(null);
+        user.setUsername("outdated_user");
+        user = this.userService.save(user);
+
+        Claims claims = this.tokenService.getClaimsFromToken(this.tokenService.generateToken(user));
+        this.securityService.loadUserByClaims(claims);
+
+        user.setCredentialVersion(user.getCredentialVersion() + 1);
+        this.userService.save(user);
+
+        // Act and Assert
+        assertThatThrownBy(() -> this.securityService.loadUserByClaims(claims))
+                .isInstanceOf(CredentialsExpiredException.class);
+    }
+
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import io.github.lsmcodes.notes_api.model.user.User;
 import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+import io.jsonwebtoken.Claims;
 
 /**
  * Integration tests for the methods provided by the {@link TokenService}
@@ -68,12 +69,35 @@ public class TokenServiceTest {
         assertThat(subject).isEqualTo(user.getUsername());
     }
 
+    /**
+     * Tests the {@link TokenService#getClaimsFromToken(String token)} to ensure it
+     * returns the user claims embedded in the provided token.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("TokenService getClaimsFromToken method should return the user claims")
+    public void getClaimsFromToken_ShouldReturnTheUserClaims() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        user.setCredentialVersion(3);
+        String token = this.tokenService.generateToken(user);
+
+        // Act
+        Claims claims = this.tokenService.getClaimsFromToken(token);
+
+        // Assert
+        assertThat(claims.getSubject()).isEqualTo(user.getUsername());
+        assertThat(claims.get(TokenService.ID_CLAIM, String.class)).isEqualTo(user.getId().toString());
+        assertThat(claims.get(TokenService.ROLE_CLAIM, String.class)).isEqualTo(user.getRole().getValue());
+        assertThat(claims.get(TokenService.VERSION_CLAIM, Integer.class)).isEqualTo(3);
+    }
+
     /**
      * Tests the {@link TokenService#generateExpirationDate()} to ensure it
      * returns a valid expiration date.
      */
     @Test
-    @Order(3)
+    @Order(4)
     @DisplayName("TokenService generateExpirationDate method should return a valid expiration date")
     public void generateExpirationDate_ShouldReturnAValidExpirationDate() {
         // Arrange
@@ -0,0 +1,90 @@
+package io.github.lsmcodes.notes_api.service.tag.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.lsmcodes.notes_api.model.tag.Tag;
+import io.github.lsmcodes.notes_api.model.user.User;
+import io.github.lsmcodes.notes_api.repository.tag.TagRepository;
+import io.github.lsmcodes.notes_api.util.NotesApiUtil;
+
+/**
+ * Unit tests for the {@link TagServiceImpl} class.
+ */
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+public class TagServiceImplTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @InjectMocks
+    private TagServiceImpl tagServiceImpl;
+
+    /**
+     * Tests the {@link TagServiceImpl#resolve(User user, Collection names)}
+     * method to ensure it reuses the existing tags of the user, creates the
+     * missing ones in lower case and returns them ordered by name.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("TagServiceImpl resolve method should reuse existing tags and create missing ones")
+    public void resolve_ShouldReuseExistingTagsAndCreateMissingOnes() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Tag existingTag = Tag.builder().id(1L).user(user).name("work").build();
+
+        Mockito.when(this.tagRepository.findByUserAndNameIn(user, Set.of("work", "ideas")))
+                .thenReturn(List.of(existingTag));
+        Mockito.when(this.tagRepository.saveAll(ArgumentMatchers.<List<Tag>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Set<Tag> tags = this.tagServiceImpl.resolve(user, List.of("Work", "IDEAS", "work"));
+
+        // Assert
+        assertThat(tags).extracting(Tag::getName).containsExactly("ideas", "work");
+        assertThat(tags).contains(existingTag);
+        Mockito.verify(this.tagRepository).saveAll(
+                ArgumentMatchers.<List<Tag>>argThat(newTags -> newTags.size() == 1
+                        && newTags.get(0).getName().equals("ideas") && newTags.get(0).getUser() == user));
+    }
+
+    /**
+     * Tests the {@link TagServiceImpl#findIds(User user, Collection names)}
+     * method to ensure it looks up the lower case names without creating tags.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("TagServiceImpl findIds method should look up the lower case names")
+    public void findIds_ShouldLookUpTheLowerCaseNames() {
+        // Arrange
+        User user = NotesApiUtil.getNewUser();
+        Mockito.when(this.tagRepository.findIdsByUserAndNameIn(user, Set.of("work"))).thenReturn(List.of(1L));
+
+        // Act
+        List<Long> ids = this.tagServiceImpl.findIds(user, List.of("WORK"));
+
+        // Assert
+        assertThat(ids).containsExactly(1L);
+        Mockito.verify(this.tagRepository, Mockito.never()).saveAll(ArgumentMatchers.any());
+    }
+
+}
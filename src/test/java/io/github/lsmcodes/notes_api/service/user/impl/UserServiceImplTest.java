@@ -122,13 +122,34 @@ public class UserServiceImplTest {
         assertThat(foundUser.get()).isEqualTo(user);
     }
 
+    /**
+     * Tests the {@link UserServiceImpl#findCredentialVersionById(UUID id)} method
+     * to ensure it interacts correctly with the
+     * {@link UserRepository#findCredentialVersionById(UUID id)} method providing
+     * the specified id.
+     */
+    @Test
+    @Order(5)
+    @DisplayName("UserServiceImpl findCredentialVersionById method should interact correctly with the repository")
+    public void findCredentialVersionById_ShouldInteractCorrectlyWithTheRepository() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Mockito.when(this.userRepository.findCredentialVersionById(id)).thenReturn(Optional.of(2));
+
+        // Act
+        Optional<Integer> credentialVersion = this.userServiceImpl.findCredentialVersionById(id);
+
+        // Assert
+        assertThat(credentialVersion).contains(2);
+    }
+
     /**
      * Tests the {@link UserServiceImpl#deleteById(UUID id)} method to ensure it
      * interacts correctly with the {@link UserRepository#deleteById(UUID id)}
      * method providing the specified id.
      */
     @Test
-    @Order(5)
+    @Order(6)
     @DisplayName("UserServiceImpl deleteById method should interact correctly with the repository")
     public void deleteById_ShouldInteractCorrectlyWithTheRepository() {
         // Arrange
@@ -0,0 +1,73 @@
+package io.github.lsmcodes.notes_api.util;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Captures the SQL statements Hibernate sends to the database so tests can
+ * inspect their query plans with {@code EXPLAIN}. Registered through the
+ * {@code hibernate.session_factory.statement_inspector} property.
+ */
+public class QueryPlanInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Records the provided statement and returns it unchanged.
+     * 
+     * @param sql The statement about to be prepared.
+     * @return The same statement.
+     */
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    /**
+     * Runs the provided action and returns the {@code EXPLAIN} output of each
+     * {@code SELECT} statement it executed. Parameters are bound to
+     * {@code null}, which does not change the chosen indexes.
+     * 
+     * @param entityManager The {@link EntityManager} whose connection runs the
+     *                      {@code EXPLAIN} statements.
+     * @param action        The {@link Runnable} executing the queries.
+     * @return The query plans of the executed {@code SELECT} statements.
+     */
+    public static List<String> explain(EntityManager entityManager, Runnable action) {
+        entityManager.flush();
+        STATEMENTS.clear();
+        action.run();
+        List<String> selects = STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")).toList();
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            List<String> plans = new ArrayList<>();
+
+            for (String sql : selects) {
+                try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                    for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                        statement.setObject(i, null);
+                    }
+
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        plans.add(resultSet.getString(1));
+                    }
+                }
+            }
+
+            return plans;
+        });
+    }
+
+}
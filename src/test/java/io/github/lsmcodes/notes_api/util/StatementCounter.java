@@ -0,0 +1,58 @@
+package io.github.lsmcodes.notes_api.util;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the SQL statements prepared by Hibernate while running a piece of
+ * code, using the session factory {@link Statistics}. Used by tests to assert
+ * the statement budget of endpoints.
+ */
+public class StatementCounter {
+
+    /**
+     * Represents code whose statements are counted.
+     */
+    @FunctionalInterface
+    public interface CountedAction {
+
+        /**
+         * Runs the counted code.
+         * 
+         * @throws Exception if an error occurs while running the code.
+         */
+        void run() throws Exception;
+
+    }
+
+    private final Statistics statistics;
+
+    /**
+     * Builds a new counter for the provided {@link EntityManagerFactory},
+     * enabling its statistics.
+     * 
+     * @param entityManagerFactory The {@link EntityManagerFactory} whose
+     *                             statements are counted.
+     */
+    public StatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * Runs the provided action and returns the number of statements prepared
+     * while it ran.
+     * 
+     * @param action The {@link CountedAction} to be run.
+     * @return The number of prepared statements.
+     * @throws Exception if an error occurs while running the action.
+     */
+    public long count(CountedAction action) throws Exception {
+        this.statistics.clear();
+        action.run();
+        return this.statistics.getPrepareStatementCount();
+    }
+
+}